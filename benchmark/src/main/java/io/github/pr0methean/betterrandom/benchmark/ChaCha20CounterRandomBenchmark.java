@@ -0,0 +1,22 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import static io.github.pr0methean.betterrandom.seed.SecureRandomSeedGenerator.DEFAULT_INSTANCE;
+
+import io.github.pr0methean.betterrandom.prng.ChaCha20CounterRandom;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * The benchmark for {@link ChaCha20CounterRandom}.
+ */
+public class ChaCha20CounterRandomBenchmark extends AbstractRandomBenchmarkWithReseeding<ChaCha20CounterRandom> {
+
+  /**
+   * The initial seed size.
+   */
+  @Param({"16", "32"}) public int seedSize;
+
+  @Override protected ChaCha20CounterRandom createPrng() throws SeedException {
+    return new ChaCha20CounterRandom(DEFAULT_INSTANCE.generateSeed(seedSize));
+  }
+}
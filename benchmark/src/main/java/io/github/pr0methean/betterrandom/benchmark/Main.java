@@ -25,18 +25,32 @@ public class Main {
             ZVanillaJavaSecureRandomBenchmark.class);
     setMinimumNextInt(builder, AesCounterRandomBenchmark.class, 5.2e6);
     setMinimumNextLong(builder, AesCounterRandomBenchmark.class, 3.5e6);
+    setMinimumNextInt(builder, ChaCha20CounterRandomBenchmark.class, 5.2e6);
+    setMinimumNextLong(builder, ChaCha20CounterRandomBenchmark.class, 3.5e6);
     setMinimumNextLong(builder, Cmwc4096RandomBenchmark.class, 5.9e6);
     setMinimumNextLong(builder, MersenneTwisterRandomBenchmark.class, 5.7e6);
     setMinimumNextInt(builder, Pcg64RandomBenchmark.class, 3.1e7);
     setMinimumNextInt(builder, Pcg128RandomBenchmark.class, 7.8e6);
     setMinimumNextLong(builder, Pcg128RandomBenchmark.class, 7.8e6);
+    setMinimumNextInt(builder, Philox4x32RandomBenchmark.class, 1.5e7);
+    setMinimumNextLong(builder, Philox4x32RandomBenchmark.class, 1.0e7);
     setMinimumNextInt(builder, ReseedingThreadLocalRandomWrapperAesCounterRandom128Benchmark.class, 1.25e6);
     setMinimumNextLong(builder, ReseedingThreadLocalRandomWrapperAesCounterRandom128Benchmark.class, 9e5);
     setMinimumNextInt(builder, SplittableRandomAdapterBenchmark.class, 4.8e6);
     setMinimumNextLong(builder, SplittableRandomAdapterBenchmark.class, 4.2e6);
     setMinimumNextInt(builder, ThreadLocalRandomWrapperAesCounterRandom128Benchmark.class, 8e6);
     setMinimumNextLong(builder, ThreadLocalRandomWrapperAesCounterRandom128Benchmark.class, 3.4e6);
+    setMinimumNextInt(builder, ThreadLocalRandomWrapperUnsynchronizedAesCounterRandom128Benchmark.class, 8e6);
+    setMinimumNextLong(builder, ThreadLocalRandomWrapperUnsynchronizedAesCounterRandom128Benchmark.class, 3.4e6);
+    setMinimumNextInt(builder, Threefry4x64RandomBenchmark.class, 1.0e7);
+    setMinimumNextLong(builder, Threefry4x64RandomBenchmark.class, 1.0e7);
     setMinimumNextLong(builder, XorShiftRandomBenchmark.class, 6.4e6);
+    setMinimumNextInt(builder, Xoroshiro128PlusPlusRandomBenchmark.class, 3.1e7);
+    setMinimumNextLong(builder, Xoroshiro128PlusPlusRandomBenchmark.class, 3.1e7);
+    setMinimumNextInt(builder, Xoshiro256PlusPlusRandomBenchmark.class, 3.1e7);
+    setMinimumNextLong(builder, Xoshiro256PlusPlusRandomBenchmark.class, 3.1e7);
+    setMinimumNextInt(builder, Xoshiro256StarStarRandomBenchmark.class, 3.1e7);
+    setMinimumNextLong(builder, Xoshiro256StarStarRandomBenchmark.class, 3.1e7);
     listBuilder.add(builder.build());
 
     builder = Main
@@ -55,6 +69,8 @@ public class Main {
     setMinimumNextLong(builder, SplittableRandomAdapterBenchmark.class, 2.4e6);
     setMinimumNextInt(builder, ThreadLocalRandomWrapperAesCounterRandom128Benchmark.class, 6e6);
     setMinimumNextLong(builder, ThreadLocalRandomWrapperAesCounterRandom128Benchmark.class, 2.9e6);
+    setMinimumNextInt(builder, ThreadLocalRandomWrapperUnsynchronizedAesCounterRandom128Benchmark.class, 6e6);
+    setMinimumNextLong(builder, ThreadLocalRandomWrapperUnsynchronizedAesCounterRandom128Benchmark.class, 2.9e6);
     setMinimumNextInt(builder, XorShiftRandomBenchmark.class, 3.4e6);
     setMinimumNextLong(builder, XorShiftRandomBenchmark.class, 2.4e6);
     listBuilder.add(builder.build());
@@ -0,0 +1,15 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import io.github.pr0methean.betterrandom.prng.Philox4x32Random;
+import io.github.pr0methean.betterrandom.seed.SecureRandomSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+
+/**
+ * Benchmark for {@link Philox4x32Random}.
+ */
+public class Philox4x32RandomBenchmark extends AbstractRandomBenchmarkWithReseeding<Philox4x32Random> {
+
+  @Override protected Philox4x32Random createPrng() throws SeedException {
+    return new Philox4x32Random(SecureRandomSeedGenerator.DEFAULT_INSTANCE);
+  }
+}
@@ -0,0 +1,19 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import static io.github.pr0methean.betterrandom.seed.SecureRandomSeedGenerator.DEFAULT_INSTANCE;
+
+import io.github.pr0methean.betterrandom.prng.AesCounterRandom;
+import io.github.pr0methean.betterrandom.prng.adapter.PooledRandomWrapper;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+
+/**
+ * Benchmark for {@link PooledRandomWrapper} wrapping {@link AesCounterRandom}.
+ */
+public class PooledRandomWrapperAesCounterRandom128Benchmark
+    extends AbstractRandomBenchmark<PooledRandomWrapper<AesCounterRandom>> {
+
+  @Override protected PooledRandomWrapper<AesCounterRandom> createPrng() throws SeedException {
+    return new PooledRandomWrapper<>(Runtime.getRuntime().availableProcessors(), 16,
+        DEFAULT_INSTANCE, AesCounterRandom::new);
+  }
+}
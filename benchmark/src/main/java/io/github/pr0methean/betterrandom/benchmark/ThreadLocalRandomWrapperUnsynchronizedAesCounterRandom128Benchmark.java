@@ -0,0 +1,22 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import static io.github.pr0methean.betterrandom.seed.SecureRandomSeedGenerator.DEFAULT_INSTANCE;
+
+import io.github.pr0methean.betterrandom.prng.AesCounterRandom;
+import io.github.pr0methean.betterrandom.prng.adapter.ThreadLocalRandomWrapper;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+
+/**
+ * Benchmark for {@link ThreadLocalRandomWrapper} wrapping {@link AesCounterRandom}, with
+ * {@link ThreadLocalRandomWrapper#setUnsynchronizedDelegates(boolean)} enabled.
+ */
+public class ThreadLocalRandomWrapperUnsynchronizedAesCounterRandom128Benchmark
+    extends AbstractRandomBenchmark<ThreadLocalRandomWrapper<AesCounterRandom>> {
+
+  @Override protected ThreadLocalRandomWrapper<AesCounterRandom> createPrng() throws SeedException {
+    final ThreadLocalRandomWrapper<AesCounterRandom> prng =
+        new ThreadLocalRandomWrapper<>(16, DEFAULT_INSTANCE, AesCounterRandom::new);
+    prng.setUnsynchronizedDelegates(true);
+    return prng;
+  }
+}
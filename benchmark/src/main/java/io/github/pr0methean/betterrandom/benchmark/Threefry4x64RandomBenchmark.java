@@ -0,0 +1,15 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import io.github.pr0methean.betterrandom.prng.Threefry4x64Random;
+import io.github.pr0methean.betterrandom.seed.SecureRandomSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+
+/**
+ * Benchmark for {@link Threefry4x64Random}.
+ */
+public class Threefry4x64RandomBenchmark extends AbstractRandomBenchmarkWithReseeding<Threefry4x64Random> {
+
+  @Override protected Threefry4x64Random createPrng() throws SeedException {
+    return new Threefry4x64Random(SecureRandomSeedGenerator.DEFAULT_INSTANCE);
+  }
+}
@@ -0,0 +1,15 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import io.github.pr0methean.betterrandom.prng.Xoshiro256PlusPlusRandom;
+import io.github.pr0methean.betterrandom.seed.SecureRandomSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+
+/**
+ * Benchmark for {@link Xoshiro256PlusPlusRandom}.
+ */
+public class Xoshiro256PlusPlusRandomBenchmark extends AbstractRandomBenchmarkWithReseeding<Xoshiro256PlusPlusRandom> {
+
+  @Override protected Xoshiro256PlusPlusRandom createPrng() throws SeedException {
+    return new Xoshiro256PlusPlusRandom(SecureRandomSeedGenerator.DEFAULT_INSTANCE);
+  }
+}
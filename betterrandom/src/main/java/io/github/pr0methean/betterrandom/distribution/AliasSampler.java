@@ -0,0 +1,133 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import com.google.common.base.MoreObjects;
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+
+/**
+ * <p>Samples indices {@code 0..weights.length - 1} with probabilities proportional to the given
+ * weights, using Vose's version of Walker's alias method (Vose, "A linear algorithm for generating
+ * random numbers with a given distribution", 1991). Setup takes linear time; then each sample
+ * takes constant time and exactly one {@link BaseRandom#nextLong()}, however many weights there
+ * are. This makes it much faster than a linear scan of the cumulative weights when choosing among
+ * many weighted options, and faster than a binary search when the weights are fixed.</p>
+ * <p>Each {@code long} is split in two: the upper 32 bits pick a column of the table by a
+ * multiply-and-shift, and the lower 32 bits choose between the column's own index and its alias.
+ * Probabilities are thus rounded to multiples of 2<sup>-32</sup>, and the multiply-and-shift makes
+ * some columns more likely than others by a factor of at most {@code 1 + weights.length *
+ * 2^-32}.</p>
+ */
+public final class AliasSampler implements DiscreteSampler {
+
+  private static final long ALWAYS = 1L << Integer.SIZE;
+  private static final long LOWER_HALF = ALWAYS - 1;
+
+  /**
+   * Values of the lower 32 bits below {@code thresholds[i]} select column {@code i}; others
+   * select {@code aliases[i]}.
+   */
+  private final long[] thresholds;
+  private final int[] aliases;
+
+  /**
+   * Creates an instance.
+   *
+   * @param weights the relative probabilities of each index; need not sum to 1. The array is
+   *     copied, so later changes to it won't affect this sampler.
+   * @throws IllegalArgumentException if {@code weights} is empty, any weight is negative or not
+   *     finite, or the weights don't have a positive finite sum
+   */
+  public AliasSampler(final double[] weights) {
+    final int size = weights.length;
+    if (size == 0) {
+      throw new IllegalArgumentException("Need at least one weight");
+    }
+    double sum = 0;
+    for (int i = 0; i < size; i++) {
+      final double weight = weights[i];
+      if (!(weight >= 0) || Double.isInfinite(weight)) {
+        throw new IllegalArgumentException(
+            String.format("weights[%d] must be finite and non-negative, but is %s", i, weight));
+      }
+      sum += weight;
+    }
+    if (!(sum > 0) || Double.isInfinite(sum)) {
+      throw new IllegalArgumentException("Sum of weights must be positive and finite, but is "
+          + sum);
+    }
+    thresholds = new long[size];
+    aliases = new int[size];
+    // Scale so that the average column is exactly full
+    final double[] scaled = new double[size];
+    // Worklists of under- and over-full columns, growing from opposite ends of one array
+    final int[] worklist = new int[size];
+    int smallCount = 0;
+    int largeStart = size;
+    for (int i = 0; i < size; i++) {
+      // Divide first, since weights[i] * size can overflow even when the sum doesn't
+      scaled[i] = (weights[i] / sum) * size;
+      if (scaled[i] < 1) {
+        worklist[smallCount++] = i;
+      } else {
+        worklist[--largeStart] = i;
+      }
+    }
+    while ((smallCount > 0) && (largeStart < size)) {
+      final int small = worklist[--smallCount];
+      final int large = worklist[largeStart];
+      thresholds[small] = toThreshold(scaled[small]);
+      aliases[small] = large;
+      // Move the part of the large column that fills the small one
+      scaled[large] = (scaled[large] + scaled[small]) - 1;
+      if (scaled[large] < 1) {
+        largeStart++;
+        worklist[smallCount++] = large;
+      }
+    }
+    // Whatever is left is full, except for rounding error
+    while (smallCount > 0) {
+      final int index = worklist[--smallCount];
+      thresholds[index] = ALWAYS;
+      aliases[index] = index;
+    }
+    for (int i = largeStart; i < size; i++) {
+      final int index = worklist[i];
+      thresholds[index] = ALWAYS;
+      aliases[index] = index;
+    }
+  }
+
+  private static long toThreshold(final double probability) {
+    return Math.min(ALWAYS, Math.round(probability * ALWAYS));
+  }
+
+  /**
+   * Returns the number of possible indices, which is the number of weights.
+   *
+   * @return the number of weights
+   */
+  public int size() {
+    return thresholds.length;
+  }
+
+  @Override public int sample(final BaseRandom random) {
+    return select(random.nextLong(), thresholds, aliases);
+  }
+
+  @Override public void sample(final BaseRandom random, final int[] output) {
+    final long[] thresholds = this.thresholds;
+    final int[] aliases = this.aliases;
+    for (int i = 0; i < output.length; i++) {
+      output[i] = select(random.nextLong(), thresholds, aliases);
+    }
+  }
+
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  private static int select(final long bits, final long[] thresholds, final int[] aliases) {
+    final int column = (int) (((bits >>> Integer.SIZE) * thresholds.length) >>> Integer.SIZE);
+    return ((bits & LOWER_HALF) < thresholds[column]) ? column : aliases[column];
+  }
+
+  @Override public String toString() {
+    return MoreObjects.toStringHelper(this).add("size", thresholds.length).toString();
+  }
+}
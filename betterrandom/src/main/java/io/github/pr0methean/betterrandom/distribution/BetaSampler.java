@@ -0,0 +1,46 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import com.google.common.base.MoreObjects;
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+
+/**
+ * Samples the beta distribution as {@code X / (X + Y)}, where {@code X} and {@code Y} are drawn
+ * from gamma distributions with the two shape parameters and a common scale.
+ */
+public final class BetaSampler implements ContinuousSampler {
+
+  private final double alpha;
+  private final double beta;
+  private final GammaSampler alphaGamma;
+  private final GammaSampler betaGamma;
+
+  /**
+   * Creates an instance.
+   *
+   * @param alpha the first shape parameter
+   * @param beta the second shape parameter
+   * @throws IllegalArgumentException if either parameter isn't finite and positive
+   */
+  public BetaSampler(final double alpha, final double beta) {
+    this.alpha = DistributionMath.checkPositive("alpha", alpha);
+    this.beta = DistributionMath.checkPositive("beta", beta);
+    alphaGamma = new GammaSampler(alpha, 1);
+    betaGamma = new GammaSampler(beta, 1);
+  }
+
+  @Override public double sample(final BaseRandom random) {
+    while (true) {
+      final double x = alphaGamma.sample(random);
+      final double y = betaGamma.sample(random);
+      final double sum = x + y;
+      // Both can underflow to zero when the shapes are tiny
+      if (sum > 0) {
+        return x / sum;
+      }
+    }
+  }
+
+  @Override public String toString() {
+    return MoreObjects.toStringHelper(this).add("alpha", alpha).add("beta", beta).toString();
+  }
+}
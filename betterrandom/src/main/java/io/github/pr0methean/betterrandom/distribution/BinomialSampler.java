@@ -0,0 +1,216 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import com.google.common.base.MoreObjects;
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+
+/**
+ * Samples the binomial distribution. When {@code trials * min(p, 1 - p)} is at least 30, uses the
+ * BTPE (triangle, parallelogram, exponential) algorithm from Kachitvichyanukul and Schmeiser,
+ * "Binomial Random Variate Generation" (1988), whose expected cost doesn't grow with the number of
+ * trials; otherwise uses inversion by sequential search.
+ */
+public final class BinomialSampler implements DiscreteSampler {
+
+  /**
+   * Values of {@code trials * min(p, 1 - p)} below this use inversion.
+   */
+  private static final double BTPE_MINIMUM_MEAN = 30;
+
+  private final int trials;
+  private final double probability;
+  /**
+   * {@code min(probability, 1 - probability)}; results are flipped when this isn't
+   * {@link #probability}.
+   */
+  private final double r;
+  private final double q;
+  private final boolean flip;
+  private final boolean useBtpe;
+  // Inversion
+  private final double qToTheN;
+  private final double inversionBound;
+  // BTPE
+  private final double nrq;
+  private final long m;
+  private final double p1;
+  private final double xm;
+  private final double xl;
+  private final double xr;
+  private final double c;
+  private final double lambdaL;
+  private final double lambdaR;
+  private final double p2;
+  private final double p3;
+  private final double p4;
+
+  /**
+   * Creates an instance.
+   *
+   * @param trials the number of trials
+   * @param probability the probability of success in each trial
+   * @throws IllegalArgumentException if {@code trials} is negative or {@code probability} isn't
+   *     between 0 and 1 inclusive
+   */
+  public BinomialSampler(final int trials, final double probability) {
+    if (trials < 0) {
+      throw new IllegalArgumentException("trials must not be negative, but is " + trials);
+    }
+    if (!(probability >= 0 && probability <= 1)) {
+      throw new IllegalArgumentException(
+          "probability must be between 0 and 1, but is " + probability);
+    }
+    this.trials = trials;
+    this.probability = probability;
+    flip = probability > 0.5;
+    r = flip ? (1 - probability) : probability;
+    q = 1 - r;
+    useBtpe = (trials * r) >= BTPE_MINIMUM_MEAN;
+    qToTheN = Math.exp(trials * Math.log(q));
+    final double mean = trials * r;
+    inversionBound = Math.min(trials, mean + (10 * Math.sqrt((mean * q) + 1)));
+    nrq = trials * r * q;
+    final double fm = (trials * r) + r;
+    m = (long) Math.floor(fm);
+    p1 = Math.floor((2.195 * Math.sqrt(nrq)) - (4.6 * q)) + 0.5;
+    xm = m + 0.5;
+    xl = xm - p1;
+    xr = xm + p1;
+    c = 0.134 + (20.5 / (15.3 + m));
+    final double aL = (fm - xl) / (fm - (xl * r));
+    lambdaL = aL * (1 + (aL / 2));
+    final double aR = (xr - fm) / (xr * q);
+    lambdaR = aR * (1 + (aR / 2));
+    p2 = p1 * (1 + (2 * c));
+    p3 = p2 + (c / lambdaL);
+    p4 = p3 + (c / lambdaR);
+  }
+
+  @Override public int sample(final BaseRandom random) {
+    if (r == 0) {
+      return flip ? trials : 0;
+    }
+    final int successes = useBtpe ? sampleByBtpe(random) : sampleByInversion(random);
+    return flip ? (trials - successes) : successes;
+  }
+
+  private int sampleByInversion(final BaseRandom random) {
+    int x = 0;
+    double px = qToTheN;
+    double u = random.nextDouble();
+    while (u > px) {
+      x++;
+      if (x > inversionBound) {
+        x = 0;
+        px = qToTheN;
+        u = random.nextDouble();
+      } else {
+        u -= px;
+        px = ((trials - x + 1) * r * px) / (x * q);
+      }
+    }
+    return x;
+  }
+
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  private int sampleByBtpe(final BaseRandom random) {
+    while (true) {
+      final double u = random.nextDouble() * p4;
+      double v = random.nextDouble();
+      final long y;
+      if (u <= p1) {
+        // Triangular region: always accepted
+        return (int) Math.floor((xm - (p1 * v)) + u);
+      } else if (u <= p2) {
+        // Parallelogram
+        final double x = xl + ((u - p1) / c);
+        v = (v * c) + 1 - (Math.abs((m - x) + 0.5) / p1);
+        if (v > 1) {
+          continue;
+        }
+        y = (long) Math.floor(x);
+      } else if (u <= p3) {
+        // Left exponential tail
+        y = (long) Math.floor(xl + (Math.log(v) / lambdaL));
+        if ((y < 0) || (v == 0)) {
+          continue;
+        }
+        v *= (u - p2) * lambdaL;
+      } else {
+        // Right exponential tail
+        y = (long) Math.floor(xr - (Math.log(v) / lambdaR));
+        if ((y > trials) || (v == 0)) {
+          continue;
+        }
+        v *= (u - p3) * lambdaR;
+      }
+      if (accept(y, v)) {
+        return (int) y;
+      }
+    }
+  }
+
+  private boolean accept(final long y, final double v) {
+    final long k = Math.abs(y - m);
+    if ((k <= 20) || (k >= ((nrq / 2) - 1))) {
+      // Evaluate the density ratio f(y) / f(m) recursively
+      final double s = r / q;
+      final double a = s * (trials + 1);
+      double f = 1.0;
+      if (m < y) {
+        for (long i = m + 1; i <= y; i++) {
+          f *= (a / i) - s;
+        }
+      } else if (m > y) {
+        for (long i = y + 1; i <= m; i++) {
+          f /= (a / i) - s;
+        }
+      }
+      return v <= f;
+    }
+    // Squeeze using upper and lower bounds on log(f(y))
+    final double rho =
+        (k / nrq) * ((((k * ((k / 3.0) + 0.625)) + 0.16666666666666666) / nrq) + 0.5);
+    final double t = (-k * k) / (2 * nrq);
+    final double logV = Math.log(v);
+    if (logV < (t - rho)) {
+      return true;
+    }
+    if (logV > (t + rho)) {
+      return false;
+    }
+    return logV <= logDensityRatio(y);
+  }
+
+  /**
+   * Returns {@code log(f(y) / f(m))}, where f is the probability mass function and m is the mode,
+   * using Stirling's formula for the log-factorials.
+   *
+   * @param y a possible result, counting successes with probability {@link #r}
+   * @return the log of the density ratio
+   */
+  double logDensityRatio(final long y) {
+    final double x1 = y + 1;
+    final double f1 = m + 1;
+    final double z = (trials + 1) - m;
+    final double w = (trials - y) + 1;
+    return ((xm * Math.log(f1 / x1)) + (((trials - m) + 0.5) * Math.log(z / w))
+        + ((y - m) * Math.log((w * r) / (x1 * q))) + stirlingCorrection(f1)
+        + stirlingCorrection(z)) - stirlingCorrection(x1) - stirlingCorrection(w);
+  }
+
+  /**
+   * Returns the difference between {@code log((x - 1)!)} and its Stirling approximation.
+   *
+   * @param x the argument
+   * @return the correction term
+   */
+  private static double stirlingCorrection(final double x) {
+    final double x2 = x * x;
+    return (13860. - ((462. - ((132. - ((99. - (140. / x2)) / x2)) / x2)) / x2)) / x / 166320.;
+  }
+
+  @Override public String toString() {
+    return MoreObjects.toStringHelper(this).add("trials", trials).add("probability", probability)
+        .toString();
+  }
+}
@@ -0,0 +1,29 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+
+/**
+ * A sampler for a probability distribution over the integers.
+ */
+public interface DiscreteSampler {
+
+  /**
+   * Draws one value from the distribution.
+   *
+   * @param random the PRNG to use
+   * @return a value from the distribution
+   */
+  int sample(BaseRandom random);
+
+  /**
+   * Fills an array with independent values from the distribution.
+   *
+   * @param random the PRNG to use
+   * @param output the array to fill
+   */
+  default void sample(final BaseRandom random, final int[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = sample(random);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+/**
+ * Numerical helpers shared by the samplers in this package.
+ */
+enum DistributionMath {
+  ;
+
+  private static final int LOG_FACTORIAL_TABLE_SIZE = 256;
+  private static final double[] LOG_FACTORIAL = new double[LOG_FACTORIAL_TABLE_SIZE];
+  private static final double HALF_LOG_TWO_PI = 0.5 * Math.log(2 * Math.PI);
+
+  static {
+    for (int i = 1; i < LOG_FACTORIAL_TABLE_SIZE; i++) {
+      LOG_FACTORIAL[i] = LOG_FACTORIAL[i - 1] + Math.log(i);
+    }
+  }
+
+  /**
+   * Returns {@code ln(k!)}, from a table for small {@code k} and otherwise from Stirling's series,
+   * which is accurate to double precision in that range.
+   *
+   * @param k a non-negative integer
+   * @return the natural logarithm of {@code k} factorial
+   */
+  static double logFactorial(final long k) {
+    if (k < LOG_FACTORIAL_TABLE_SIZE) {
+      return LOG_FACTORIAL[(int) k];
+    }
+    final double x = k;
+    final double inverseSquare = 1.0 / (x * x);
+    return (((x + 0.5) * Math.log(x)) - x) + HALF_LOG_TWO_PI
+        + ((1.0 / 12 - (inverseSquare * (1.0 / 360 - (inverseSquare / 1260)))) / x);
+  }
+
+  /**
+   * Throws an {@link IllegalArgumentException} unless the given parameter is finite and positive.
+   *
+   * @param name the parameter's name, for the exception message
+   * @param value the parameter's value
+   * @return {@code value}
+   */
+  static double checkPositive(final String name, final double value) {
+    if (!(value > 0) || Double.isInfinite(value)) {
+      throw new IllegalArgumentException(name + " must be finite and positive, but is " + value);
+    }
+    return value;
+  }
+}
@@ -0,0 +1,93 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import com.google.common.base.MoreObjects;
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+
+/**
+ * Samples the exponential distribution using the Ziggurat method of Marsaglia and Tsang, "The
+ * Ziggurat Method for Generating Random Variables" (2000). The density is covered by 256 layers of
+ * equal area; about 99% of samples need only one call to {@link BaseRandom#nextLong()} and no
+ * logarithm.
+ */
+public final class ExponentialSampler implements ContinuousSampler {
+
+  private static final int LAYERS = 256;
+  private static final int LAYER_MASK = LAYERS - 1;
+  private static final int ENTROPY_OF_DOUBLE = 53;
+  private static final double DOUBLE_UNIT = 0x1.0p-53;
+  /**
+   * Start of the tail, beyond which the base layer isn't a rectangle.
+   */
+  private static final double R = 7.69711747013104972;
+  /**
+   * The area of each layer, including the base layer's tail.
+   */
+  private static final double V = 3.949659822581572e-3;
+  /**
+   * {@code X[i]} is the width of layer {@code i}; the base layer's width is that of a rectangle
+   * with the same area as the base layer including its tail. {@code X[LAYERS]} is zero.
+   */
+  private static final double[] X = new double[LAYERS + 1];
+  /**
+   * {@code F[i]} is the density at {@code X[i]}.
+   */
+  private static final double[] F = new double[LAYERS + 1];
+
+  static {
+    F[1] = Math.exp(-R);
+    X[0] = V / F[1];
+    X[1] = R;
+    for (int i = 1; i < LAYERS - 1; i++) {
+      X[i + 1] = -Math.log((V / X[i]) + F[i]);
+      F[i + 1] = Math.exp(-X[i + 1]);
+    }
+    X[LAYERS] = 0;
+    F[LAYERS] = 1;
+  }
+
+  private final double mean;
+
+  /**
+   * Creates an instance.
+   *
+   * @param mean the mean of the distribution, which is the inverse of its rate
+   * @throws IllegalArgumentException if {@code mean} isn't finite and positive
+   */
+  public ExponentialSampler(final double mean) {
+    this.mean = DistributionMath.checkPositive("mean", mean);
+  }
+
+  /**
+   * Draws from the exponential distribution with mean 1.
+   *
+   * @param random the PRNG to use
+   * @return an exponentially distributed value with mean 1
+   */
+  static double sampleStandard(final BaseRandom random) {
+    double offset = 0;
+    while (true) {
+      final long bits = random.nextLong();
+      final int layer = (int) bits & LAYER_MASK;
+      final double x = (bits >>> (Long.SIZE - ENTROPY_OF_DOUBLE)) * DOUBLE_UNIT * X[layer];
+      if (x < X[layer + 1]) {
+        // Entirely under the curve
+        return offset + x;
+      }
+      if (layer == 0) {
+        // The tail is another exponential distribution, shifted by R
+        offset += R;
+      } else if ((F[layer] + (random.nextDouble() * (F[layer + 1] - F[layer]))) < Math.exp(-x)) {
+        // Wedge between the curve and the rectangle
+        return offset + x;
+      }
+    }
+  }
+
+  @Override public double sample(final BaseRandom random) {
+    return mean * sampleStandard(random);
+  }
+
+  @Override public String toString() {
+    return MoreObjects.toStringHelper(this).add("mean", mean).toString();
+  }
+}
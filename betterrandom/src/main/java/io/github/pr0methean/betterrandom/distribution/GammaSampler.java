@@ -0,0 +1,72 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import com.google.common.base.MoreObjects;
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+
+/**
+ * Samples the gamma distribution using the method of Marsaglia and Tsang, "A Simple Method for
+ * Generating Gamma Variables" (2000), which needs one normal and one uniform variate per attempt
+ * and accepts over 95% of attempts for any shape. Shapes below 1 are handled by sampling with shape
+ * {@code shape + 1} and multiplying by {@code U^(1/shape)}.
+ */
+public final class GammaSampler implements ContinuousSampler {
+
+  private final double shape;
+  private final double scale;
+  private final double d;
+  private final double c;
+  /**
+   * {@code 1 / shape} if {@code shape < 1}; otherwise zero, meaning no boost is needed.
+   */
+  private final double inverseShapeForBoost;
+
+  /**
+   * Creates an instance.
+   *
+   * @param shape the shape parameter, often written k or alpha
+   * @param scale the scale parameter, often written theta; the inverse of the rate
+   * @throws IllegalArgumentException if either parameter isn't finite and positive
+   */
+  public GammaSampler(final double shape, final double scale) {
+    this.shape = DistributionMath.checkPositive("shape", shape);
+    this.scale = DistributionMath.checkPositive("scale", scale);
+    final double boostedShape;
+    if (shape < 1) {
+      boostedShape = shape + 1;
+      inverseShapeForBoost = 1 / shape;
+    } else {
+      boostedShape = shape;
+      inverseShapeForBoost = 0;
+    }
+    d = boostedShape - (1.0 / 3);
+    c = 1 / Math.sqrt(9 * d);
+  }
+
+  @Override public double sample(final BaseRandom random) {
+    double result;
+    while (true) {
+      final double x = random.nextGaussian();
+      double v = 1 + (c * x);
+      if (v <= 0) {
+        continue;
+      }
+      v = v * v * v;
+      final double u = random.nextDouble();
+      final double xSquared = x * x;
+      if ((u < (1 - (0.0331 * xSquared * xSquared)))
+          || (Math.log(u) < ((0.5 * xSquared) + (d * ((1 - v) + Math.log(v)))))) {
+        result = d * v;
+        break;
+      }
+    }
+    if (inverseShapeForBoost != 0) {
+      // 1 - nextDouble() is in (0, 1], so the result can't be zeroed by a zero uniform
+      result *= Math.pow(1 - random.nextDouble(), inverseShapeForBoost);
+    }
+    return scale * result;
+  }
+
+  @Override public String toString() {
+    return MoreObjects.toStringHelper(this).add("shape", shape).add("scale", scale).toString();
+  }
+}
@@ -0,0 +1,98 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import com.google.common.base.MoreObjects;
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+
+/**
+ * Samples the Poisson distribution. Means of at least 10 use the PTRS (transformed rejection with
+ * squeeze) algorithm from Hörmann, "The transformed rejection method for generating Poisson random
+ * variables" (1993), which needs two uniform variates per attempt and accepts about 90% of attempts
+ * without evaluating a logarithm; smaller means use inversion by sequential search.
+ */
+public final class PoissonSampler implements DiscreteSampler {
+
+  /**
+   * Means below this use inversion.
+   */
+  private static final double PTRS_MINIMUM_MEAN = 10;
+  /**
+   * Means above this could give results that overflow an {@code int}.
+   */
+  private static final double MAXIMUM_MEAN = Integer.MAX_VALUE / 2.0;
+
+  private final double mean;
+  // Inversion
+  private final double expMinusMean;
+  // PTRS
+  private final double logMean;
+  private final double a;
+  private final double b;
+  private final double logInverseAlpha;
+  private final double vR;
+
+  /**
+   * Creates an instance.
+   *
+   * @param mean the mean of the distribution
+   * @throws IllegalArgumentException if {@code mean} isn't positive or is more than
+   *     {@code Integer.MAX_VALUE / 2}
+   */
+  public PoissonSampler(final double mean) {
+    DistributionMath.checkPositive("mean", mean);
+    if (mean > MAXIMUM_MEAN) {
+      throw new IllegalArgumentException("mean must be at most " + MAXIMUM_MEAN);
+    }
+    this.mean = mean;
+    expMinusMean = Math.exp(-mean);
+    logMean = Math.log(mean);
+    b = 0.931 + (2.53 * Math.sqrt(mean));
+    a = -0.059 + (0.02483 * b);
+    logInverseAlpha = Math.log(1.1239 + (1.1328 / (b - 3.4)));
+    vR = 0.9277 - (3.6224 / (b - 2));
+  }
+
+  @Override public int sample(final BaseRandom random) {
+    return (mean < PTRS_MINIMUM_MEAN) ? sampleByInversion(random) : sampleByPtrs(random);
+  }
+
+  private int sampleByInversion(final BaseRandom random) {
+    int k = 0;
+    double probability = expMinusMean;
+    double u = random.nextDouble();
+    while (u > probability) {
+      u -= probability;
+      k++;
+      probability *= mean / k;
+      if (probability == 0) {
+        // Rounding left u beyond the total of all representable probabilities; start over
+        k = 0;
+        probability = expMinusMean;
+        u = random.nextDouble();
+      }
+    }
+    return k;
+  }
+
+  private int sampleByPtrs(final BaseRandom random) {
+    while (true) {
+      final double u = random.nextDouble() - 0.5;
+      final double v = random.nextDouble();
+      final double us = 0.5 - Math.abs(u);
+      final long k = (long) Math.floor((((2 * a) / us) + b) * u + mean + 0.43);
+      if ((us >= 0.07) && (v <= vR)) {
+        return (int) k;
+      }
+      if ((k < 0) || ((us < 0.013) && (v > us))) {
+        continue;
+      }
+      if ((Math.log(v) + logInverseAlpha - Math.log((a / (us * us)) + b))
+          <= ((-mean + (k * logMean)) - DistributionMath.logFactorial(k))) {
+        return (int) k;
+      }
+    }
+  }
+
+  @Override public String toString() {
+    return MoreObjects.toStringHelper(this).add("mean", mean).toString();
+  }
+}
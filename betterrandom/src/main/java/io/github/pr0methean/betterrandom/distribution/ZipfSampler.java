@@ -0,0 +1,113 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import com.google.common.base.MoreObjects;
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+
+/**
+ * Samples the Zipf distribution over {@code 1..numberOfElements}, where the probability of
+ * {@code k} is proportional to {@code k^-exponent}, using the rejection-inversion method from
+ * Hörmann and Derflinger, "Rejection-inversion to generate variates from monotone discrete
+ * distributions" (1996). It needs no tables, so its setup and memory costs are constant however
+ * many elements there are, and it needs about one uniform variate per sample.
+ */
+public final class ZipfSampler implements DiscreteSampler {
+
+  private static final double TAYLOR_THRESHOLD = 1e-8;
+
+  private final int numberOfElements;
+  private final double exponent;
+  private final double hIntegralX1;
+  private final double hIntegralNumberOfElements;
+  private final double s;
+
+  /**
+   * Creates an instance.
+   *
+   * @param numberOfElements the number of possible values, which are {@code 1..numberOfElements}
+   * @param exponent the exponent; zero gives a uniform distribution
+   * @throws IllegalArgumentException if {@code numberOfElements} isn't positive, or
+   *     {@code exponent} is negative or not finite
+   */
+  public ZipfSampler(final int numberOfElements, final double exponent) {
+    if (numberOfElements <= 0) {
+      throw new IllegalArgumentException(
+          "numberOfElements must be positive, but is " + numberOfElements);
+    }
+    if (!(exponent >= 0) || Double.isInfinite(exponent)) {
+      throw new IllegalArgumentException(
+          "exponent must be finite and non-negative, but is " + exponent);
+    }
+    this.numberOfElements = numberOfElements;
+    this.exponent = exponent;
+    hIntegralX1 = hIntegral(1.5) - 1;
+    hIntegralNumberOfElements = hIntegral(numberOfElements + 0.5);
+    s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+  }
+
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  @Override public int sample(final BaseRandom random) {
+    while (true) {
+      final double u = hIntegralNumberOfElements
+          + (random.nextDouble() * (hIntegralX1 - hIntegralNumberOfElements));
+      final double x = hIntegralInverse(u);
+      int k = (int) (x + 0.5);
+      if (k < 1) {
+        k = 1;
+      } else if (k > numberOfElements) {
+        k = numberOfElements;
+      }
+      if (((k - x) <= s) || (u >= (hIntegral(k + 0.5) - h(k)))) {
+        return k;
+      }
+    }
+  }
+
+  /**
+   * An antiderivative of {@link #h(double)}.
+   */
+  private double hIntegral(final double x) {
+    final double logX = Math.log(x);
+    return helper2((1 - exponent) * logX) * logX;
+  }
+
+  /**
+   * The unnormalized density, {@code x^-exponent}.
+   */
+  private double h(final double x) {
+    return Math.exp(-exponent * Math.log(x));
+  }
+
+  private double hIntegralInverse(final double x) {
+    double t = x * (1 - exponent);
+    if (t < -1) {
+      // Limit to the domain of log1p(t); only reachable through rounding error
+      t = -1;
+    }
+    return Math.exp(helper1(t) * x);
+  }
+
+  /**
+   * {@code log1p(x) / x}, or its Taylor series near zero.
+   */
+  private static double helper1(final double x) {
+    if (Math.abs(x) > TAYLOR_THRESHOLD) {
+      return Math.log1p(x) / x;
+    }
+    return 1 - (x * (0.5 - (x * ((1.0 / 3) - (0.25 * x)))));
+  }
+
+  /**
+   * {@code expm1(x) / x}, or its Taylor series near zero.
+   */
+  private static double helper2(final double x) {
+    if (Math.abs(x) > TAYLOR_THRESHOLD) {
+      return Math.expm1(x) / x;
+    }
+    return 1 + (x * 0.5 * (1 + ((x / 3) * (1 + (0.25 * x)))));
+  }
+
+  @Override public String toString() {
+    return MoreObjects.toStringHelper(this).add("numberOfElements", numberOfElements)
+        .add("exponent", exponent).toString();
+  }
+}
@@ -0,0 +1,11 @@
+/**
+ * Samplers for common probability distributions, which draw from any {@link
+ * io.github.pr0methean.betterrandom.prng.BaseRandom}. Samplers are immutable and allocate nothing
+ * per sample, so one instance can be shared between threads. They use only the PRNG's public
+ * methods, so the entropy spent is debited from its {@link
+ * io.github.pr0methean.betterrandom.EntropyCountingRandom} count as usual.
+ */
+@ParametersAreNonnullByDefault
+package io.github.pr0methean.betterrandom.distribution;
+
+import javax.annotation.ParametersAreNonnullByDefault;
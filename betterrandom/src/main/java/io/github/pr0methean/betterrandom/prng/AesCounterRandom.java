@@ -19,6 +19,7 @@ import com.google.common.base.MoreObjects;
 import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
 import io.github.pr0methean.betterrandom.seed.SeedException;
 import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import java.nio.ByteBuffer;
 import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
@@ -151,6 +152,10 @@ public class AesCounterRandom extends CipherCounterRandom {
     index = BYTES_AT_ONCE; // force generation of first block on demand
   }
 
+  @Override protected BaseRandom newInstanceWithSeed(final byte[] seed) {
+    return new AesCounterRandom(seed);
+  }
+
   @Override protected MessageDigest createHash() {
     try {
       return MessageDigest.getInstance(HASH_ALGORITHM);
@@ -191,4 +196,9 @@ public class AesCounterRandom extends CipherCounterRandom {
   @Override protected void doCipher(byte[] input, byte[] output) throws GeneralSecurityException {
     cipher.doFinal(input, 0, BYTES_AT_ONCE, output);
   }
+
+  @Override protected void doCipher(byte[] input, ByteBuffer output)
+      throws GeneralSecurityException {
+    cipher.doFinal(ByteBuffer.wrap(input, 0, BYTES_AT_ONCE), output);
+  }
 }
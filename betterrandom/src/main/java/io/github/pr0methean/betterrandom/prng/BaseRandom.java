@@ -5,6 +5,7 @@ import com.google.common.base.MoreObjects.ToStringHelper;
 import io.github.pr0methean.betterrandom.ByteArrayReseedableRandom;
 import io.github.pr0methean.betterrandom.EntropyCountingRandom;
 import io.github.pr0methean.betterrandom.RepeatableRandom;
+import io.github.pr0methean.betterrandom.SeekableRandom;
 import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
 import io.github.pr0methean.betterrandom.seed.RandomSeeder;
 import io.github.pr0methean.betterrandom.seed.SeedException;
@@ -12,19 +13,34 @@ import io.github.pr0methean.betterrandom.seed.SeedGenerator;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
 import io.github.pr0methean.betterrandom.util.Dumpable;
 import io.github.pr0methean.betterrandom.util.EntryPoint;
+import io.github.pr0methean.betterrandom.util.LongPairArithmetic;
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Random;
+import java.util.RandomAccess;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.DoubleSupplier;
-import java.util.stream.BaseStream;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 import javax.annotation.Nullable;
 
 /**
@@ -45,8 +61,32 @@ public abstract class BaseRandom extends Random
    */
   protected static final int ENTROPY_OF_DOUBLE = 53;
 
-  private static final long NAN_LONG_BITS = Double.doubleToRawLongBits(Double.NaN);
+  /**
+   * Multiplier that converts the output of {@code next(ENTROPY_OF_FLOAT)} to a float between 0.0
+   * (inclusive) and 1.0 (exclusive).
+   */
+  protected static final float FLOAT_UNIT = 1.0f / (1 << ENTROPY_OF_FLOAT);
+
   private static final long serialVersionUID = -1556392727255964947L;
+  private static final long UNSIGNED_INT_MASK = (1L << Integer.SIZE) - 1;
+  private static final double DOUBLE_UNIT = 0x1.0p-53;
+  /**
+   * Maximum number of raw values that the bulk methods with an origin and bound generate at once
+   * before converting them.
+   */
+  private static final int CONVERSION_CHUNK_SIZE = 1024;
+  /**
+   * Upper limit on the product of the bounds that {@link #nextSwapTargets(int, int[], int)} draws
+   * from one {@code long}. A batch is rejected with probability less than its product divided by
+   * 2<sup>64</sup>, so this keeps rejections below 1 in 256.
+   */
+  private static final long MAX_SWAP_BATCH_PRODUCT = 1L << 56;
+  /**
+   * True on a thread that's inside {@link #createUnsynchronized(Supplier)}, so that the instances
+   * it constructs get an {@link UnsynchronizedLock}.
+   */
+  private static final ThreadLocal<Boolean> CONSTRUCTING_UNSYNCHRONIZED =
+      ThreadLocal.withInitial(() -> false);
   /**
    * If the referent is non-null, it will be invoked to reseed this PRNG whenever random output is
    * taken and {@link #getEntropyBits()} called immediately afterward would return zero or
@@ -54,15 +94,27 @@ public abstract class BaseRandom extends Random
    */
   protected final AtomicReference<RandomSeeder> randomSeeder = new AtomicReference<>(null);
   /**
-   * Lock to prevent concurrent modification of the RNG's internal state.
+   * Lock to prevent concurrent modification of the RNG's internal state. Only counts holds,
+   * without any atomic operations, if this instance was created by {@link
+   * #createUnsynchronized(Supplier)}.
    */
-  protected final ReentrantLock lock = new ReentrantLock();
+  protected final ReentrantLock lock = createLock();
   /**
    * Stores the entropy estimate backing {@link #getEntropyBits()}.
    */
   protected final AtomicLong entropyBits = new AtomicLong(0);
-  // Stored as a long since there's no atomic double
-  private final AtomicLong nextNextGaussian = new AtomicLong(NAN_LONG_BITS);
+  /**
+   * Debits taken while {@link #entropyBits} was already zero or negative. Once the count has
+   * crossed zero, every debit needs to wake up the {@link RandomSeeder} whatever the exact total
+   * is; so these debits are striped to avoid contention on {@link #entropyBits}, and folded into it
+   * when this PRNG is reseeded. {@link #getEntropyBits()} subtracts them.
+   */
+  private transient LongAdder pendingDebits;
+  /**
+   * The PRNG that {@link #splitBySeeking(long)} created this one for, which this one's entropy
+   * debits go to; null if this PRNG wasn't created that way.
+   */
+  @Nullable private transient BaseRandom splitParent;
   /**
    * The seed this PRNG was seeded with, as a byte array. Used by {@link #getSeed()} even if the
    * actual internal state of the PRNG is stored elsewhere (since otherwise getSeed() would require
@@ -77,6 +129,16 @@ public abstract class BaseRandom extends Random
    */
   @SuppressWarnings({"InstanceVariableMayNotBeInitializedByReadObject"}) protected transient boolean
       superConstructorFinished = false;
+  /**
+   * Scratch space for the raw {@code long}s converted by {@link #nextDoubles(double[], double,
+   * double)}. Allocated on first use; guarded by {@link #lock}.
+   */
+  private transient long[] rawLongs;
+  /**
+   * Scratch space for the raw {@code int}s converted by {@link #nextFloats(float[], float, float)}.
+   * Allocated on first use; guarded by {@link #lock}.
+   */
+  private transient int[] rawInts;
 
   /**
    * Seed the RNG using the {@link DefaultSeedGenerator} to create a seed of the specified size.
@@ -227,6 +289,248 @@ public abstract class BaseRandom extends Random
     return nextElement(enumClass.getEnumConstants());
   }
 
+  /**
+   * Randomly permutes the given array, with all permutations equally likely. Unlike a
+   * Fisher-Yates shuffle that calls {@link #nextInt(int)} once per element, this acquires the
+   * {@link #lock} and debits entropy only once, and splits each random {@code long} into as many
+   * swap indices as its 64 bits can cover without bias.
+   *
+   * @param array the array to shuffle
+   */
+  public void shuffle(final int[] array) {
+    final int[] targets = new int[Long.SIZE];
+    lock.lock();
+    try {
+      for (int i = array.length - 1; i > 0; ) {
+        final int count = nextSwapTargets(i, targets, 0);
+        for (int j = 0; j < count; j++, i--) {
+          final int target = targets[j];
+          final int temp = array[i];
+          array[i] = array[target];
+          array[target] = temp;
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(entropyOfPermutation(array.length));
+  }
+
+  /**
+   * Randomly permutes the given array, with all permutations equally likely. Unlike a
+   * Fisher-Yates shuffle that calls {@link #nextInt(int)} once per element, this acquires the
+   * {@link #lock} and debits entropy only once, and splits each random {@code long} into as many
+   * swap indices as its 64 bits can cover without bias.
+   *
+   * @param array the array to shuffle
+   */
+  public void shuffle(final long[] array) {
+    final int[] targets = new int[Long.SIZE];
+    lock.lock();
+    try {
+      for (int i = array.length - 1; i > 0; ) {
+        final int count = nextSwapTargets(i, targets, 0);
+        for (int j = 0; j < count; j++, i--) {
+          final int target = targets[j];
+          final long temp = array[i];
+          array[i] = array[target];
+          array[target] = temp;
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(entropyOfPermutation(array.length));
+  }
+
+  /**
+   * Randomly permutes the given list, with all permutations equally likely. A faster replacement
+   * for {@link java.util.Collections#shuffle(List, Random)}, which calls {@link #nextInt(int)} once
+   * per element; this debits entropy only once, and splits each random {@code long} into as many
+   * swap indices as its 64 bits can cover without bias. The swap indices are drawn in chunks, each
+   * under one acquisition of the {@link #lock}, and the list's methods are only called while the
+   * lock isn't held. Like {@link java.util.Collections#shuffle(List, Random)}, it shuffles a copy of
+   * the list in an array if the list doesn't implement {@link RandomAccess}.
+   *
+   * @param list the list to shuffle; must support {@link List#set(int, Object)}
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public void shuffle(final List<?> list) {
+    final int size = list.size();
+    final int[] targets = new int[Math.min(size, CONVERSION_CHUNK_SIZE)];
+    if (list instanceof RandomAccess) {
+      final List rawList = list;
+      for (int i = size - 1; i > 0; ) {
+        final int count = nextSwapTargetsChunk(i, targets);
+        for (int j = 0; j < count; j++, i--) {
+          rawList.set(i, rawList.set(targets[j], rawList.get(i)));
+        }
+      }
+    } else {
+      final Object[] array = list.toArray();
+      for (int i = size - 1; i > 0; ) {
+        final int count = nextSwapTargetsChunk(i, targets);
+        for (int j = 0; j < count; j++, i--) {
+          final int target = targets[j];
+          final Object temp = array[i];
+          array[i] = array[target];
+          array[target] = temp;
+        }
+      }
+      final ListIterator iterator = list.listIterator();
+      for (final Object element : array) {
+        iterator.next();
+        iterator.set(element);
+      }
+    }
+    debitEntropy(entropyOfPermutation(size));
+  }
+
+  /**
+   * Chooses a random subset of {@code 0..populationSize - 1} with the given size, with all subsets
+   * equally likely, and returns it in random order. Uses Li's reservoir-sampling "Algorithm L"
+   * ("Reservoir-Sampling Algorithms of Time Complexity O(n(1 + log(N/n)))", 1994), which skips
+   * over most of the population without drawing a random number for each member, and then shuffles
+   * the reservoir as {@link #shuffle(int[])} does. Memory use is proportional to {@code
+   * sampleSize}, not {@code populationSize}. Acquires the {@link #lock} and debits entropy only
+   * once.
+   *
+   * @param populationSize the number of values to choose from
+   * @param sampleSize the number of distinct values to return
+   * @return an array of {@code sampleSize} distinct values, each between 0 (inclusive) and {@code
+   *     populationSize} (exclusive)
+   * @throws IllegalArgumentException if {@code sampleSize} is negative or greater than {@code
+   *     populationSize}
+   */
+  public int[] sampleWithoutReplacement(final int populationSize, final int sampleSize) {
+    if ((sampleSize < 0) || (sampleSize > populationSize)) {
+      throw new IllegalArgumentException(String.format(
+          "sampleSize %d must be between 0 and populationSize %d", sampleSize, populationSize));
+    }
+    final int[] reservoir = new int[sampleSize];
+    for (int i = 0; i < sampleSize; i++) {
+      reservoir[i] = i;
+    }
+    if (sampleSize == 0) {
+      return reservoir;
+    }
+    final int[] targets = new int[Long.SIZE];
+    lock.lock();
+    try {
+      if (sampleSize < populationSize) {
+        double w = Math.exp(Math.log(nextPositiveDoubleNoEntropyDebit()) / sampleSize);
+        long i = sampleSize - 1;
+        while (true) {
+          final double skip = Math.floor(Math.log(nextPositiveDoubleNoEntropyDebit())
+              / Math.log1p(-w));
+          if (!(skip < (populationSize - i - 1))) {
+            break;
+          }
+          i += ((long) skip) + 1;
+          reservoir[nextIntBelowUnsigned(sampleSize)] = (int) i;
+          w *= Math.exp(Math.log(nextPositiveDoubleNoEntropyDebit()) / sampleSize);
+        }
+      }
+      for (int i = sampleSize - 1; i > 0; ) {
+        final int count = nextSwapTargets(i, targets, 0);
+        for (int j = 0; j < count; j++, i--) {
+          final int target = targets[j];
+          final int temp = reservoir[i];
+          reservoir[i] = reservoir[target];
+          reservoir[target] = temp;
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(sampleSize * (long) entropyOfInt(0, populationSize));
+    return reservoir;
+  }
+
+  private double nextPositiveDoubleNoEntropyDebit() {
+    return 1.0 - nextDoubleNoEntropyDebit();
+  }
+
+  /**
+   * Generates the swap indices for one or more consecutive steps of a Fisher-Yates shuffle, from
+   * a single random {@code long} unless it has to be rejected. Uses the batched version of
+   * Lemire's method from Brackett-Rozinsky and Lemire, "Batched Ranged Random Integer Generation"
+   * (2024): multiplying by each bound in turn yields the index for that bound in the upper half of
+   * the product and the remaining randomness in the lower half, and the final lower half decides
+   * whether the whole batch is unbiased. Should be called with the {@link #lock} held; doesn't
+   * debit entropy.
+   *
+   * @param position the position to swap first; later indices are for {@code position - 1},
+   *     {@code position - 2}, etc. Must be positive.
+   * @param targets the array to fill with indices to swap with; index {@code offset + j} is for
+   *     {@code position - j}, and is between 0 and {@code position - j} inclusive
+   * @param offset the index in {@code targets} of the first index to generate
+   * @return the number of indices generated; at least 1, and no more than {@code position}
+   */
+  private int nextSwapTargets(final int position, final int[] targets, final int offset) {
+    // Batch as many bounds as have a product no more than MAX_SWAP_BATCH_PRODUCT
+    long product = position + 1L;
+    int count = 1;
+    while ((count < position)
+        && ((position + 1L - count) <= (MAX_SWAP_BATCH_PRODUCT / product))) {
+      product *= position + 1L - count;
+      count++;
+    }
+    while (true) {
+      long bits = nextLongNoEntropyDebit();
+      for (int j = 0; j < count; j++) {
+        final long bound = position + 1L - j;
+        targets[offset + j] = (int) LongPairArithmetic.unsignedMultiplyHigh(bits, bound);
+        bits *= bound;
+      }
+      if ((Long.compareUnsigned(bits, product) >= 0)
+          // 2^64 mod product
+          || (Long.compareUnsigned(bits, Long.remainderUnsigned(-product, product)) >= 0)) {
+        return count;
+      }
+    }
+  }
+
+  /**
+   * Acquires the {@link #lock} and calls {@link #nextSwapTargets(int, int[], int)} repeatedly, to
+   * fill as much of {@code targets} as it safely can with swap indices for consecutive steps of a
+   * Fisher-Yates shuffle. Doesn't debit entropy.
+   *
+   * @param position the position to swap first. Must be positive.
+   * @param targets the array to fill; index {@code j} is for {@code position - j}. Must have a
+   *     length of at least {@code min(position, 64)}.
+   * @return the number of indices generated; at least 1, and no more than {@code position}
+   */
+  private int nextSwapTargetsChunk(final int position, final int[] targets) {
+    int count = 0;
+    lock.lock();
+    try {
+      while ((count < position)
+          && ((targets.length - count) >= Math.min(Long.SIZE, position - count))) {
+        count += nextSwapTargets(position - count, targets, count);
+      }
+    } finally {
+      lock.unlock();
+    }
+    return count;
+  }
+
+  /**
+   * Returns the entropy that {@link #shuffle(int[])} debits for an array of the given length: the
+   * total that calling {@link #nextInt(int)} with each bound from 2 to {@code length} would debit.
+   *
+   * @param length the length of the array or list being shuffled
+   * @return the entropy in bits
+   */
+  private static long entropyOfPermutation(final int length) {
+    long entropy = 0;
+    // Each bound in (2^bits, 2^(bits + 1)] needs bits + 1 bits
+    for (int bits = 0; (1L << bits) < length; bits++) {
+      entropy += (Math.min(1L << (bits + 1), length) - (1L << bits)) * (bits + 1);
+    }
+    return entropy;
+  }
+
   /**
    * Generates the next pseudorandom number. Called by all other random-number-generating methods.
    * Should not debit the entropy count, since that's done by the calling methods according to the
@@ -236,15 +540,134 @@ public abstract class BaseRandom extends Random
   @Override protected abstract int next(int bits);
 
   /**
-   * Generates random bytes and places them into a user-supplied byte array. The number of random
-   * bytes produced is equal to the length of the byte array. Reimplemented for entropy-counting
-   * purposes.
+   * Fills the given array with pseudorandom bytes, acquiring the {@link #lock} and debiting the
+   * entropy count only once for the whole array.
+   *
+   * @param bytes the array to fill
+   */
+  @Override public void nextBytes(final byte[] bytes) {
+    lock.lock();
+    try {
+      fillBytes(bytes);
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(Byte.SIZE * (long) bytes.length);
+  }
+
+  /**
+   * Fills the given array with pseudorandom bytes, 4 at a time from {@link #next(int) next(32)},
+   * in the same order as {@link Random#nextBytes(byte[])}. Called by {@link #nextBytes(byte[])}
+   * with the {@link #lock} held; should not debit the entropy count. Subclasses that generate
+   * output in larger units should override this to copy whole words or blocks.
+   *
+   * @param bytes the array to fill
+   */
+  protected void fillBytes(final byte[] bytes) {
+    int i = 0;
+    while (i < bytes.length) {
+      i = unpackWord(next(Integer.SIZE), Integer.BYTES, bytes, i);
+    }
+  }
+
+  /**
+   * Copies the low {@code wordBytes} bytes of {@code word} into {@code bytes}, least significant
+   * first, starting at {@code offset} and stopping early at the end of the array. For use by
+   * implementations of {@link #fillBytes(byte[])} that generate one word at a time.
+   *
+   * @param word the pseudorandom word; an {@code int} can be passed as is, since only its low bytes
+   *     are used
+   * @param wordBytes the number of bytes in a word, usually {@link Integer#BYTES} or {@link
+   *     Long#BYTES}
+   * @param bytes the array being filled
+   * @param offset the index of the first byte to write
+   * @return the index after the last byte written
    */
-  @SuppressWarnings("NumericCastThatLosesPrecision") @Override public void nextBytes(
-      final byte[] bytes) {
-    for (int i = 0; i < bytes.length; i++) {
-      bytes[i] = (byte) next(Byte.SIZE);
-      debitEntropy(Byte.SIZE);
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  protected static int unpackWord(long word, final int wordBytes, final byte[] bytes,
+      final int offset) {
+    final int end = Math.min(bytes.length, offset + wordBytes);
+    for (int i = offset; i < end; i++) {
+      bytes[i] = (byte) word;
+      word >>= Byte.SIZE;
+    }
+    return end;
+  }
+
+  /**
+   * Fills the remaining space in the given buffer (from its position to its limit) with
+   * pseudorandom bytes and advances its position to its limit. Works the same way for heap and
+   * direct buffers, without copying through a temporary array. The bytes are the same as {@link
+   * #nextBytes(byte[])} would produce, whatever the buffer's {@link ByteBuffer#order() order}.
+   * Acquires the {@link #lock} and debits the entropy count only once.
+   *
+   * @param buffer the buffer to fill
+   */
+  public void nextBytes(final ByteBuffer buffer) {
+    final int length = buffer.remaining();
+    final ByteBuffer littleEndian = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    lock.lock();
+    try {
+      fillBytes(littleEndian);
+    } finally {
+      lock.unlock();
+    }
+    buffer.position(littleEndian.position());
+    debitEntropy(Byte.SIZE * (long) length);
+  }
+
+  /**
+   * Fills the remaining space in the given buffer (from its position to its limit) with
+   * pseudorandom {@code long} values, as if by calling {@link #nextLong()} once for each element,
+   * and advances its position to its limit. Acquires the {@link #lock} and debits the entropy count
+   * only once.
+   *
+   * @param buffer the buffer to fill
+   */
+  public void nextLongs(final LongBuffer buffer) {
+    final int length = buffer.remaining();
+    lock.lock();
+    try {
+      fillLongs(buffer);
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(Long.SIZE * (long) length);
+  }
+
+  /**
+   * Fills the remaining space in the given buffer with pseudorandom bytes, 4 at a time from
+   * {@link #next(int) next(32)}. Called by {@link #nextBytes(ByteBuffer)} with the {@link #lock}
+   * held; should not debit the entropy count. The buffer is always little-endian, so words written
+   * with {@link ByteBuffer#putInt(int)} or {@link ByteBuffer#putLong(long)} come out least
+   * significant byte first, the same as from {@link #unpackWord(long, int, byte[], int)}.
+   *
+   * @param buffer the buffer to fill
+   */
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  protected void fillBytes(final ByteBuffer buffer) {
+    while (buffer.remaining() >= Integer.BYTES) {
+      buffer.putInt(next(Integer.SIZE));
+    }
+    if (buffer.hasRemaining()) {
+      int rnd = next(Integer.SIZE);
+      while (buffer.hasRemaining()) {
+        buffer.put((byte) rnd);
+        rnd >>= Byte.SIZE;
+      }
+    }
+  }
+
+  /**
+   * Fills the remaining space in the given buffer with the output of
+   * {@link #nextLongNoEntropyDebit()}. Called by {@link #nextLongs(LongBuffer)} with the
+   * {@link #lock} held; should not debit the entropy count.
+   *
+   * @param buffer the buffer to fill
+   */
+  protected void fillLongs(final LongBuffer buffer) {
+    while (buffer.hasRemaining()) {
+      buffer.put(nextLongNoEntropyDebit());
     }
   }
 
@@ -253,9 +676,364 @@ public abstract class BaseRandom extends Random
     return super.nextInt();
   }
 
+  /**
+   * Fills the given array with pseudorandom {@code int} values, as if by calling {@link #nextInt()}
+   * once for each element, but acquiring the {@link #lock} and debiting the entropy count only once.
+   *
+   * @param output the array to fill
+   */
+  public void nextInts(final int[] output) {
+    lock.lock();
+    try {
+      fillInts(output);
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(Integer.SIZE * (long) output.length);
+  }
+
+  /**
+   * Fills the given array with pseudorandom {@code long} values, as if by calling {@link
+   * #nextLong()} once for each element, but acquiring the {@link #lock} and debiting the entropy
+   * count only once.
+   *
+   * @param output the array to fill
+   */
+  public void nextLongs(final long[] output) {
+    lock.lock();
+    try {
+      fillLongs(output);
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(Long.SIZE * (long) output.length);
+  }
+
+  /**
+   * Fills the given array with pseudorandom {@code double} values between 0.0 (inclusive) and 1.0
+   * (exclusive), as if by calling {@link #nextDouble()} once for each element, but acquiring the
+   * {@link #lock} and debiting the entropy count only once.
+   *
+   * @param output the array to fill
+   */
+  public void nextDoubles(final double[] output) {
+    lock.lock();
+    try {
+      fillDoubles(output);
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(ENTROPY_OF_DOUBLE * (long) output.length);
+  }
+
+  /**
+   * Fills the given array with pseudorandom {@code float} values between 0.0 (inclusive) and 1.0
+   * (exclusive), as if by calling {@link #nextFloat()} once for each element, but acquiring the
+   * {@link #lock} and debiting the entropy count only once.
+   *
+   * @param output the array to fill
+   */
+  public void nextFloats(final float[] output) {
+    lock.lock();
+    try {
+      fillFloats(output);
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(ENTROPY_OF_FLOAT * (long) output.length);
+  }
+
+  /**
+   * Fills the given array with pseudorandom {@code double} values between {@code origin}
+   * (inclusive) and {@code bound} (exclusive), with the same distribution as {@link
+   * #nextDouble(double, double)}, but acquiring the {@link #lock} and debiting the entropy count
+   * only once. Raw {@code long}s are generated in chunks by {@link #fillLongs(long[])} into a
+   * buffer that's reused from call to call, then converted in a separate loop with no branches,
+   * which the JIT compiler can unroll and vectorize. Any values left over after the last full chunk
+   * are generated one at a time.
+   *
+   * @param output the array to fill
+   * @param origin the least value to output
+   * @param bound the upper bound (exclusive)
+   * @throws IllegalArgumentException if {@code origin} is greater than or equal to {@code
+   *     bound}
+   */
+  public void nextDoubles(final double[] output, final double origin, final double bound) {
+    checkValidRange(origin, bound);
+    // If the range overflows, scale into half of it and double the result, which is exact
+    final double factor = Double.isInfinite(bound - origin) ? 2.0 : 1.0;
+    final double offset = origin / factor;
+    final double scale = ((bound / factor) - offset) * DOUBLE_UNIT;
+    final double max = Math.nextDown(bound);
+    lock.lock();
+    try {
+      int start = 0;
+      if (output.length >= CONVERSION_CHUNK_SIZE) {
+        if (rawLongs == null) {
+          rawLongs = new long[CONVERSION_CHUNK_SIZE];
+        }
+        final long[] raw = rawLongs;
+        for (; output.length - start >= CONVERSION_CHUNK_SIZE; start += CONVERSION_CHUNK_SIZE) {
+          fillLongs(raw);
+          for (int i = 0; i < CONVERSION_CHUNK_SIZE; i++) {
+            // Math.min corrects for rounding up to the bound
+            output[start + i] = Math.min(
+                (((raw[i] >>> (Long.SIZE - ENTROPY_OF_DOUBLE)) * scale) + offset) * factor, max);
+          }
+        }
+      }
+      for (int i = start; i < output.length; i++) {
+        final long rawLong = nextLongNoEntropyDebit();
+        output[i] = Math.min(
+            (((rawLong >>> (Long.SIZE - ENTROPY_OF_DOUBLE)) * scale) + offset) * factor, max);
+      }
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(ENTROPY_OF_DOUBLE * (long) output.length);
+  }
+
+  /**
+   * Fills the given array with pseudorandom {@code float} values between {@code origin}
+   * (inclusive) and {@code bound} (exclusive), as if by scaling the output of {@link #nextFloat()},
+   * but acquiring the {@link #lock} and debiting the entropy count only once. Raw {@code int}s are
+   * generated in chunks by {@link #fillInts(int[])} into a buffer that's reused from call to call,
+   * then converted in a separate loop with no branches, which the JIT compiler can unroll and
+   * vectorize. Any values left over after the last full chunk are generated one at a time.
+   *
+   * @param output the array to fill
+   * @param origin the least value to output
+   * @param bound the upper bound (exclusive)
+   * @throws IllegalArgumentException if {@code origin} is greater than or equal to {@code
+   *     bound}
+   */
+  public void nextFloats(final float[] output, final float origin, final float bound) {
+    checkValidRange(origin, bound);
+    // If the range overflows, scale into half of it and double the result, which is exact
+    final float factor = Float.isInfinite(bound - origin) ? 2.0f : 1.0f;
+    final float offset = origin / factor;
+    final float scale = ((bound / factor) - offset) * FLOAT_UNIT;
+    final float max = Math.nextDown(bound);
+    lock.lock();
+    try {
+      int start = 0;
+      if (output.length >= CONVERSION_CHUNK_SIZE) {
+        if (rawInts == null) {
+          rawInts = new int[CONVERSION_CHUNK_SIZE];
+        }
+        final int[] raw = rawInts;
+        for (; output.length - start >= CONVERSION_CHUNK_SIZE; start += CONVERSION_CHUNK_SIZE) {
+          fillInts(raw);
+          for (int i = 0; i < CONVERSION_CHUNK_SIZE; i++) {
+            // Math.min corrects for rounding up to the bound
+            output[start + i] = Math.min(
+                (((raw[i] >>> (Integer.SIZE - ENTROPY_OF_FLOAT)) * scale) + offset) * factor, max);
+          }
+        }
+      }
+      for (int i = start; i < output.length; i++) {
+        final int rawInt = nextIntNoEntropyDebit();
+        output[i] = Math.min(
+            (((rawInt >>> (Integer.SIZE - ENTROPY_OF_FLOAT)) * scale) + offset) * factor, max);
+      }
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(ENTROPY_OF_FLOAT * (long) output.length);
+  }
+
+  /**
+   * Passes the given number of pseudorandom {@code int} values to the given consumer, as if by
+   * calling {@link #nextInt()} that many times. The values are generated in chunks by {@link
+   * #nextInts(int[])}, so the {@link #lock} is acquired and the entropy count debited once per
+   * chunk rather than once per value, and wrappers look up their delegate only once. The consumer
+   * is called without the lock held.
+   *
+   * @param count the number of values to generate
+   * @param action the consumer to pass them to
+   * @throws IllegalArgumentException if {@code count} is negative
+   */
+  public void forEachInt(final long count, final IntConsumer action) {
+    checkValidCount(count);
+    int[] chunk = new int[(int) Math.min(count, CONVERSION_CHUNK_SIZE)];
+    for (long remaining = count; remaining > 0; remaining -= chunk.length) {
+      if (chunk.length > remaining) {
+        chunk = new int[(int) remaining];
+      }
+      nextInts(chunk);
+      for (final int value : chunk) {
+        action.accept(value);
+      }
+    }
+  }
+
+  /**
+   * Passes the given number of pseudorandom {@code long} values to the given consumer, as if by
+   * calling {@link #nextLong()} that many times. The values are generated in chunks by {@link
+   * #nextLongs(long[])}, so the {@link #lock} is acquired and the entropy count debited once per
+   * chunk rather than once per value, and wrappers look up their delegate only once. The consumer
+   * is called without the lock held.
+   *
+   * @param count the number of values to generate
+   * @param action the consumer to pass them to
+   * @throws IllegalArgumentException if {@code count} is negative
+   */
+  public void forEachLong(final long count, final LongConsumer action) {
+    checkValidCount(count);
+    long[] chunk = new long[(int) Math.min(count, CONVERSION_CHUNK_SIZE)];
+    for (long remaining = count; remaining > 0; remaining -= chunk.length) {
+      if (chunk.length > remaining) {
+        chunk = new long[(int) remaining];
+      }
+      nextLongs(chunk);
+      for (final long value : chunk) {
+        action.accept(value);
+      }
+    }
+  }
+
+  /**
+   * Passes the given number of pseudorandom {@code double} values between 0.0 (inclusive) and 1.0
+   * (exclusive) to the given consumer, as if by calling {@link #nextDouble()} that many times. The
+   * values are generated in chunks by {@link #nextDoubles(double[])}, so the {@link #lock} is
+   * acquired and the entropy count debited once per chunk rather than once per value, and wrappers
+   * look up their delegate only once. The consumer is called without the lock held.
+   *
+   * @param count the number of values to generate
+   * @param action the consumer to pass them to
+   * @throws IllegalArgumentException if {@code count} is negative
+   */
+  public void forEachDouble(final long count, final DoubleConsumer action) {
+    checkValidCount(count);
+    double[] chunk = new double[(int) Math.min(count, CONVERSION_CHUNK_SIZE)];
+    for (long remaining = count; remaining > 0; remaining -= chunk.length) {
+      if (chunk.length > remaining) {
+        chunk = new double[(int) remaining];
+      }
+      nextDoubles(chunk);
+      for (final double value : chunk) {
+        action.accept(value);
+      }
+    }
+  }
+
+  private static void checkValidCount(final long count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("count must be non-negative, but is " + count);
+    }
+  }
+
+  /**
+   * Fills the given array with the output of {@link #next(int) next(32)}. Called by
+   * {@link #nextInts(int[])} with the {@link #lock} held; should not debit the entropy count.
+   * Subclasses should override this with a loop that doesn't reacquire the lock for each element.
+   *
+   * @param output the array to fill
+   */
+  protected void fillInts(final int[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = next(Integer.SIZE);
+    }
+  }
+
+  /**
+   * Fills the given array with the output of {@link #nextLongNoEntropyDebit()}. Called by
+   * {@link #nextLongs(long[])} with the {@link #lock} held; should not debit the entropy count.
+   * Subclasses should override this with a loop that doesn't reacquire the lock for each element.
+   *
+   * @param output the array to fill
+   */
+  protected void fillLongs(final long[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = nextLongNoEntropyDebit();
+    }
+  }
+
+  /**
+   * Fills the given array with the output of {@link #nextDoubleNoEntropyDebit()}. Called by
+   * {@link #nextDoubles(double[])} with the {@link #lock} held; should not debit the entropy count.
+   *
+   * @param output the array to fill
+   */
+  protected void fillDoubles(final double[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = nextDoubleNoEntropyDebit();
+    }
+  }
+
+  /**
+   * Fills the given array with floats computed the same way as {@link Random#nextFloat()}. Called
+   * by {@link #nextFloats(float[])} with the {@link #lock} held; should not debit the entropy count.
+   *
+   * @param output the array to fill
+   */
+  protected void fillFloats(final float[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = next(ENTROPY_OF_FLOAT) * FLOAT_UNIT;
+    }
+  }
+
+  /**
+   * Returns a pseudorandom {@code int} value between zero (inclusive) and the specified bound
+   * (exclusive). Unlike the inherited implementation in {@link Random#nextInt(int)}, this uses
+   * Lemire's multiply-and-shift method, which usually needs no division.
+   *
+   * @param bound the upper bound (exclusive).  Must be positive.
+   * @return a pseudorandom {@code int} value between zero (inclusive) and the bound (exclusive)
+   * @throws IllegalArgumentException if {@code bound} is not positive
+   */
   @Override public int nextInt(final int bound) {
+    if (bound <= 0) {
+      throw new IllegalArgumentException("bound must be positive");
+    }
     debitEntropy(entropyOfInt(0, bound));
-    return super.nextInt(bound);
+    return nextIntBelowUnsigned(bound);
+  }
+
+  /**
+   * Returns a uniformly distributed {@code int} between zero (inclusive) and {@code bound}
+   * (exclusive), both treated as unsigned, using Lemire's method from "Fast Random Integer
+   * Generation in an Interval" (2019): the upper half of the 64-bit product of a random {@code int}
+   * and the bound is the result, unless the lower half shows that the candidate lies in the
+   * over-represented region. A division is needed only when the lower half is less than the bound,
+   * which happens with probability {@code bound / 2^32}. Doesn't debit entropy.
+   *
+   * @param bound the upper bound (exclusive) as an unsigned value; must not be zero
+   * @return a random value below {@code bound}
+   */
+  private int nextIntBelowUnsigned(final int bound) {
+    final long unsignedBound = bound & UNSIGNED_INT_MASK;
+    long product = (nextIntNoEntropyDebit() & UNSIGNED_INT_MASK) * unsignedBound;
+    long low = product & UNSIGNED_INT_MASK;
+    if (low < unsignedBound) {
+      // 2^32 mod bound
+      final long threshold = (1L << Integer.SIZE) % unsignedBound;
+      while (low < threshold) {
+        product = (nextIntNoEntropyDebit() & UNSIGNED_INT_MASK) * unsignedBound;
+        low = product & UNSIGNED_INT_MASK;
+      }
+    }
+    return (int) (product >>> Integer.SIZE);
+  }
+
+  /**
+   * The 64-bit counterpart of {@link #nextIntBelowUnsigned(int)}. Doesn't debit entropy.
+   *
+   * @param bound the upper bound (exclusive) as an unsigned value; must not be zero
+   * @return a random value below {@code bound}
+   */
+  private long nextLongBelowUnsigned(final long bound) {
+    long bits = nextLongNoEntropyDebit();
+    long low = bits * bound;
+    if (Long.compareUnsigned(low, bound) < 0) {
+      // 2^64 mod bound
+      final long threshold = Long.remainderUnsigned(-bound, bound);
+      while (Long.compareUnsigned(low, threshold) < 0) {
+        bits = nextLongNoEntropyDebit();
+        low = bits * bound;
+      }
+    }
+    return LongPairArithmetic.unsignedMultiplyHigh(bits, bound);
   }
 
   /**
@@ -305,20 +1083,114 @@ public abstract class BaseRandom extends Random
    *     bound}
    */
   public double nextDouble(final double origin, final double bound) {
-    if (bound <= origin) {
-      throw new IllegalArgumentException(
-          String.format("Bound %f must be greater than origin %f", bound, origin));
-    }
-    final double out = (nextDouble() * (bound - origin)) + origin;
+    checkValidRange(origin, bound);
+    // If the range overflows, scale into half of it and double the result, which is exact
+    final double factor = Double.isInfinite(bound - origin) ? 2.0 : 1.0;
+    final double out = ((nextDouble() * ((bound / factor) - (origin / factor))) + (origin / factor))
+        * factor;
     if (out >= bound) {
       // correct for rounding
-      return Double.longBitsToDouble(Double.doubleToRawLongBits(bound) - 1);
+      return Math.nextDown(bound);
     }
     return out;
   }
 
-  private <T extends BaseStream<?, T>> T maybeParallel(final T in) {
-    return usesParallelStreams() ? in.parallel() : in;
+  private IntStream intStream(final long streamSize, final ToIntFunction<BaseRandom> generator) {
+    return StreamSupport.intStream(new RandomSpliterator.IntSpliterator(this, 0,
+        Math.max(0, streamSize), RandomSpliterator.ROOT_SPAN, generator), usesParallelStreams());
+  }
+
+  private LongStream longStream(final long streamSize,
+      final ToLongFunction<BaseRandom> generator) {
+    return StreamSupport.longStream(new RandomSpliterator.LongSpliterator(this, 0,
+        Math.max(0, streamSize), RandomSpliterator.ROOT_SPAN, generator), usesParallelStreams());
+  }
+
+  private DoubleStream doubleStream(final long streamSize,
+      final ToDoubleFunction<BaseRandom> generator) {
+    return StreamSupport.doubleStream(new RandomSpliterator.DoubleSpliterator(this, 0,
+        Math.max(0, streamSize), RandomSpliterator.ROOT_SPAN, generator), usesParallelStreams());
+  }
+
+  /**
+   * <p>Creates a PRNG to generate part of a stream from this one when the stream is split for
+   * parallel processing, or returns null to share this PRNG between the parts. The default is to
+   * return null, because a PRNG seeded from this one's output may produce a sequence that overlaps
+   * this one's. Subclasses that can guarantee independence should override this; a {@link
+   * SeekableRandom} can do so with {@link #splitBySeeking(long)}.</p>
+   * <p>Whatever the new PRNG outputs is debited from this PRNG's entropy count, as if this PRNG had
+   * produced it.</p>
+   *
+   * @param distance how many steps of this PRNG's sequence the new PRNG may use
+   * @return a PRNG to use for part of the stream, or null to share this one
+   */
+  @Nullable protected BaseRandom createStreamSplit(final long distance) {
+    return null;
+  }
+
+  /**
+   * Implements {@link #createStreamSplit(long)} for a {@link SeekableRandom}: returns a copy from
+   * {@link #createCopy()}, then advances this PRNG by {@code distance}. The copy uses the {@code
+   * distance} steps that this PRNG skips, so the two won't overlap unless the copy uses more steps
+   * than that. Returns null if this PRNG has a {@link RandomSeeder}, since the copy wouldn't be
+   * reseeded.
+   *
+   * @param distance how many steps of this PRNG's sequence the new PRNG may use
+   * @return a copy of this PRNG, or null to share this one
+   */
+  @Nullable protected final BaseRandom splitBySeeking(final long distance) {
+    if (getRandomSeeder() != null) {
+      return null;
+    }
+    final BaseRandom copy;
+    lock.lock();
+    try {
+      copy = createCopy();
+      if (copy == null) {
+        return null;
+      }
+      ((SeekableRandom) this).advance(distance);
+    } finally {
+      lock.unlock();
+    }
+    copy.splitParent = this;
+    return copy;
+  }
+
+  /**
+   * Creates a PRNG of the same class and in the same state as this one, so that it will produce
+   * the same output. The default implementation returns a new instance created from {@link
+   * #getSeed()} if this PRNG is a {@link SeekableRandom}, since those PRNGs' seeds capture their
+   * whole state; otherwise it returns null. Subclasses whose seed doesn't capture their whole state
+   * should override this to copy the rest.
+   *
+   * @return a copy of this PRNG, or null if none can be made
+   */
+  @Nullable protected BaseRandom createCopy() {
+    return (this instanceof SeekableRandom) ? newInstanceWithSeed(getSeed()) : null;
+  }
+
+  /**
+   * Returns how many steps of {@link SeekableRandom#advance(long)} one call to {@link #nextLong()}
+   * moves this PRNG forward. Only meaningful for a {@link SeekableRandom}. The default is 1, for
+   * PRNGs whose step is a {@code long}; PRNGs that step by an {@code int} should return 2.
+   *
+   * @return the number of steps per {@code long} of output
+   */
+  protected int getStepsPerLong() {
+    return 1;
+  }
+
+  /**
+   * Creates an instance of this PRNG's class with the given seed. Used by the default {@link
+   * #createCopy()}, so a {@link SeekableRandom} should override this to call its constructor that
+   * takes a {@code byte[]}.
+   *
+   * @param seed the seed
+   * @return the new instance, or null if this class doesn't support it
+   */
+  @Nullable protected BaseRandom newInstanceWithSeed(final byte[] seed) {
+    return null;
   }
 
   /**
@@ -328,8 +1200,8 @@ public abstract class BaseRandom extends Random
    */
   @Override public DoubleStream doubles(final double randomNumberOrigin,
       final double randomNumberBound) {
-    return maybeParallel(
-        DoubleStream.generate(() -> nextDouble(randomNumberOrigin, randomNumberBound)));
+    return doubleStream(Long.MAX_VALUE,
+        random -> random.nextDouble(randomNumberOrigin, randomNumberBound));
   }
 
   /**
@@ -338,15 +1210,11 @@ public abstract class BaseRandom extends Random
    * generate these numbers.</p>
    */
   @Override public DoubleStream doubles() {
-    return maybeParallel(DoubleStream.generate(this::nextDouble));
+    return doubleStream(Long.MAX_VALUE, BaseRandom::nextDouble);
   }
 
   @Override public DoubleStream doubles(final long streamSize) {
-    return streamOfSize(streamSize).mapToDouble(ignored -> nextDouble());
-  }
-
-  private LongStream streamOfSize(final long streamSize) {
-    return maybeParallel(LongStream.range(0, streamSize).unordered());
+    return doubleStream(streamSize, BaseRandom::nextDouble);
   }
 
   /**
@@ -356,8 +1224,8 @@ public abstract class BaseRandom extends Random
    */
   @Override public DoubleStream doubles(final long streamSize, final double randomNumberOrigin,
       final double randomNumberBound) {
-    return streamOfSize(streamSize)
-        .mapToDouble(ignored -> nextDouble(randomNumberOrigin, randomNumberBound));
+    return doubleStream(streamSize,
+        random -> random.nextDouble(randomNumberOrigin, randomNumberBound));
   }
 
   /**
@@ -368,7 +1236,7 @@ public abstract class BaseRandom extends Random
    * @return a stream of normally-distributed random doubles.
    */
   public DoubleStream gaussians() {
-    return maybeParallel(DoubleStream.generate(this::nextGaussian));
+    return doubleStream(Long.MAX_VALUE, BaseRandom::nextGaussian);
   }
 
   /**
@@ -380,7 +1248,7 @@ public abstract class BaseRandom extends Random
    * @return a stream of {@code streamSize} normally-distributed random doubles.
    */
   public DoubleStream gaussians(final long streamSize) {
-    return streamOfSize(streamSize).mapToDouble(ignored -> nextGaussian());
+    return doubleStream(streamSize, BaseRandom::nextGaussian);
   }
 
   @Override public boolean nextBoolean() {
@@ -416,76 +1284,34 @@ public abstract class BaseRandom extends Random
   /**
    * Returns the next pseudorandom, Gaussian ("normally") distributed double value with mean 0.0 and
    * standard deviation 1.0 from this random number generator's sequence. Unlike the one in {@link
-   * Random}, this implementation is lockless.
+   * Random}, this implementation uses the Ziggurat method and consumes exactly one call to {@link
+   * #nextLongNoEntropyDebit()}, so it never locks except within that call.
    */
-  @SuppressWarnings("NonSynchronizedMethodOverridesSynchronizedMethod") @Override public double nextGaussian() {
-    // Upper bound. 2 Gaussians are generated from 2 nextDouble calls, which once made are either
-    // used or rerolled.
+  @SuppressWarnings("NonSynchronizedMethodOverridesSynchronizedMethod") @Override
+  public double nextGaussian() {
+    // Upper bound: only one long is consumed, and at most 53 bits of it are returned.
     debitEntropy(ENTROPY_OF_DOUBLE);
-    return internalNextGaussian(this::nextDoubleNoEntropyDebit);
+    return internalNextGaussian(nextLongNoEntropyDebit());
   }
 
   /**
-   * Core of a reimplementation of {@link #nextGaussian()} whose locking is overridable and doesn't
-   * happen when a value is already stored.
+   * Core of a reimplementation of {@link #nextGaussian()} that can use a source of random
+   * {@code long}s other than this PRNG's own.
    *
-   * @param nextDouble shall return a random number between 0 and 1, like {@link #nextDouble()},
-   *     but shall not debit the entropy count.
+   * @param randomBits a random {@code long}, like one from {@link #nextLong()}, whose entropy has
+   *     already been debited if necessary.
    * @return a random number that is normally distributed with mean 0 and standard deviation 1.
    */
-  protected double internalNextGaussian(
-      final DoubleSupplier nextDouble) {
-    // See Knuth, ACP, Section 3.4.1 Algorithm C.
-    final double firstTryOut = takeNextNextGaussian();
-    if (Double.isNaN(firstTryOut))
-      return firstTryOut;
-    lockForNextGaussian();
-    try {
-      // Another output may have become available while we waited for the lock
-      final double secondTryOut = takeNextNextGaussian();
-      if (!Double.isNaN(secondTryOut)) {
-        return secondTryOut;
-      }
-      double s;
-      double v1;
-      double v2;
-      do {
-        v1 = (2 * nextDouble.getAsDouble()) - 1; // between -1 and 1
-        v2 = (2 * nextDouble.getAsDouble()) - 1; // between -1 and 1
-        s = (v1 * v1) + (v2 * v2);
-      } while ((s >= 1) || (s == 0));
-      final double multiplier = StrictMath.sqrt((-2 * StrictMath.log(s)) / s);
-      nextNextGaussian.set(Double.doubleToRawLongBits(v2 * multiplier));
-      return v1 * multiplier;
-    } finally {
-      unlockForNextGaussian();
-    }
-  }
-
-  private double takeNextNextGaussian() {
-    return Double.longBitsToDouble(nextNextGaussian.getAndSet(NAN_LONG_BITS));
-  }
-
-  /**
-   * Performs whatever locking is needed by {@link #nextGaussian()}.
-   */
-  protected void lockForNextGaussian() {
-    lock.lock();
-  }
-
-  /**
-   * Releases the locks acquired by {@link #lockForNextGaussian()}.
-   */
-  protected void unlockForNextGaussian() {
-    lock.unlock();
+  protected double internalNextGaussian(final long randomBits) {
+    return ZigguratGaussian.nextGaussian(randomBits);
   }
 
   @Override public IntStream ints(final long streamSize) {
-    return streamOfSize(streamSize).mapToInt(ignored -> nextInt());
+    return intStream(streamSize, BaseRandom::nextInt);
   }
 
   @Override public IntStream ints() {
-    return maybeParallel(IntStream.generate(this::nextInt));
+    return intStream(Long.MAX_VALUE, BaseRandom::nextInt);
   }
 
   /**
@@ -495,8 +1321,7 @@ public abstract class BaseRandom extends Random
    */
   @Override public IntStream ints(final long streamSize, final int randomNumberOrigin,
       final int randomNumberBound) {
-    return streamOfSize(streamSize)
-        .mapToInt(ignored -> nextInt(randomNumberOrigin, randomNumberBound));
+    return intStream(streamSize, random -> random.nextInt(randomNumberOrigin, randomNumberBound));
   }
 
   /**
@@ -512,18 +1337,9 @@ public abstract class BaseRandom extends Random
    */
   public int nextInt(final int origin, final int bound) {
     checkValidRange(origin, bound);
-    final int range = bound - origin;
-    if (range >= 0) {
-      // range is no more than Integer.MAX_VALUE
-      return nextInt(range) + origin;
-    } else {
-      int output;
-      do {
-        output = super.nextInt();
-      } while ((output < origin) || (output >= bound));
-      debitEntropy(entropyOfInt(origin, bound));
-      return output;
-    }
+    debitEntropy(entropyOfInt(origin, bound));
+    // The range may not fit in an int, but always fits in an unsigned one
+    return origin + nextIntBelowUnsigned(bound - origin);
   }
 
   /**
@@ -539,17 +1355,73 @@ public abstract class BaseRandom extends Random
     }
   }
 
+  /**
+   * Ensures that {@code bound > origin} and both are finite.
+   *
+   * @param origin the minimum, inclusive
+   * @param bound the maximum, exclusive
+   * @throws IllegalArgumentException if {@code bound <= origin}, or either is NaN or infinite
+   */
+  protected static void checkValidRange(double origin, double bound) {
+    if (!(bound > origin) || Double.isInfinite(origin) || Double.isInfinite(bound)) {
+      throw new IllegalArgumentException(
+          String.format("Bound %f must be greater than origin %f", bound, origin));
+    }
+  }
+
   /**
    * <p>Returns a stream producing an effectively unlimited number of pseudorandom ints, each
    * conforming to the given origin (inclusive) and bound (exclusive). This implementation uses
    * {@link #nextInt(int, int)} to generate these numbers.</p>
    */
   @Override public IntStream ints(final int randomNumberOrigin, final int randomNumberBound) {
-    return maybeParallel(IntStream.generate(() -> nextInt(randomNumberOrigin, randomNumberBound)));
+    return intStream(Long.MAX_VALUE,
+        random -> random.nextInt(randomNumberOrigin, randomNumberBound));
   }
 
   @Override public LongStream longs(final long streamSize) {
-    return streamOfSize(streamSize).map(ignored -> nextLong());
+    return longStream(streamSize, BaseRandom::nextLong);
+  }
+
+  /**
+   * <p>Returns a parallel stream of the given number of pseudorandom longs, which are exactly the
+   * ones that {@link #longs(long)} would return for a sequential stream, in the same order, however
+   * the stream is split. This PRNG is advanced past them immediately, as if they had already been
+   * generated.</p>
+   * <p>This is done by giving each part of the stream its own copy of this PRNG, advanced by
+   * {@link SeekableRandom#advance(long)} to the start of that part. Thus, the output is
+   * reproducible from the seed, whereas the parallel streams from {@link #longs(long)} split the
+   * PRNG differently depending on how the work is scheduled. Since each copy is used by only one
+   * thread, no locking is needed either.</p>
+   * <p>A PRNG that isn't a {@link SeekableRandom}, or can't be copied, instead returns {@link
+   * #longs(long)} as a parallel stream. That stream isn't reproducible, and is split only as far as
+   * {@link #createStreamSplit(long)} allows.</p>
+   *
+   * @param streamSize the number of values to generate
+   * @return a parallel stream of pseudorandom {@code long} values
+   * @throws IllegalArgumentException if {@code streamSize} is negative
+   */
+  public LongStream parallelLongs(final long streamSize) {
+    if (streamSize < 0) {
+      throw new IllegalArgumentException("streamSize must be non-negative, but is " + streamSize);
+    }
+    if (!(this instanceof SeekableRandom)) {
+      return longs(streamSize).parallel();
+    }
+    final BaseRandom root;
+    lock.lock();
+    try {
+      root = createCopy();
+      if (root == null) {
+        return longs(streamSize).parallel();
+      }
+      SeekableLongSpliterator.skipLongs(this, streamSize);
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy((streamSize > (Long.MAX_VALUE / Long.SIZE)) ? Long.MAX_VALUE
+        : (streamSize * Long.SIZE));
+    return StreamSupport.longStream(new SeekableLongSpliterator(root, 0, streamSize), true);
   }
 
   /**
@@ -558,7 +1430,7 @@ public abstract class BaseRandom extends Random
    * consumed.</p>
    */
   @Override public LongStream longs() {
-    return maybeParallel(LongStream.generate(this::nextLong));
+    return longStream(Long.MAX_VALUE, BaseRandom::nextLong);
   }
 
   /**
@@ -568,13 +1440,14 @@ public abstract class BaseRandom extends Random
    */
   @Override public LongStream longs(final long streamSize, final long randomNumberOrigin,
       final long randomNumberBound) {
-    return streamOfSize(streamSize).map(ignored -> nextLong(randomNumberOrigin, randomNumberBound));
+    return longStream(streamSize,
+        random -> random.nextLong(randomNumberOrigin, randomNumberBound));
   }
 
   /**
    * Returns a pseudorandom {@code long} value between the specified origin (inclusive) and the
-   * specified bound (exclusive). This implementation is adapted from the reference implementation
-   * of {@link Random#longs(long, long)} in that method's Javadoc.
+   * specified bound (exclusive). This implementation uses Lemire's multiply-and-shift method, which
+   * usually needs no division.
    *
    * @param origin the least value returned
    * @param bound the upper bound (exclusive)
@@ -583,33 +1456,21 @@ public abstract class BaseRandom extends Random
    * @throws IllegalArgumentException if {@code origin} is greater than or equal to {@code
    *     bound}
    */
-  @SuppressWarnings({"StatementWithEmptyBody", "NestedAssignment"}) public long nextLong(
-      final long origin, final long bound) {
+  public long nextLong(final long origin, final long bound) {
     checkValidRange(origin, bound);
-    lock.lock();
-    try {
-      long r = nextLongNoEntropyDebit();
-      final long n = bound - origin;
-      final long m = n - 1;
-      if ((n & m) == 0L)  // power of two
-      {
-        return (r & m) + origin;
-      } else if (n > 0L) {  // reject over-represented candidates
-        for (long u = r >>> 1;            // ensure nonnegative
-            ((u + m) - ((r = u % n))) < 0L;    // rejection check
-            u = nextLongNoEntropyDebit() >>> 1) {
-        } // retry
-        r += origin;
-      } else {              // range not representable as long
-        while ((r < origin) || (r >= bound)) {
-          r = nextLongNoEntropyDebit();
-        }
-      }
-      return r;
-    } finally {
-      lock.unlock();
-      debitEntropy(entropyOfLong(origin, bound));
-    }
+    // The range may not fit in a long, but always fits in an unsigned one
+    final long output = origin + nextLongBelowUnsigned(bound - origin);
+    debitEntropy(entropyOfLong(origin, bound));
+    return output;
+  }
+
+  /**
+   * Returns the next random {@code int}, but does not debit entropy.
+   *
+   * @return a pseudorandom {@code int} with all possible values equally likely.
+   */
+  protected int nextIntNoEntropyDebit() {
+    return next(Integer.SIZE);
   }
 
   /**
@@ -632,8 +1493,8 @@ public abstract class BaseRandom extends Random
    * {@link #nextLong(long, long)} to generate these numbers.</p>
    */
   @Override public LongStream longs(final long randomNumberOrigin, final long randomNumberBound) {
-    return maybeParallel(
-        LongStream.generate(() -> nextLong(randomNumberOrigin, randomNumberBound)));
+    return longStream(Long.MAX_VALUE,
+        random -> random.nextLong(randomNumberOrigin, randomNumberBound));
   }
 
   @Override public String dump() {
@@ -641,7 +1502,7 @@ public abstract class BaseRandom extends Random
     try {
       return addSubclassFields(
           MoreObjects.toStringHelper(this).add("seed", BinaryUtils.convertBytesToHexString(seed))
-              .add("entropyBits", entropyBits.get()).add("randomSeeder", randomSeeder)).toString();
+              .add("entropyBits", getEntropyBits()).add("randomSeeder", randomSeeder)).toString();
     } finally {
       lock.unlock();
     }
@@ -708,6 +1569,10 @@ public abstract class BaseRandom extends Random
    *     to reseed this PRNG, or null to stop using one.
    */
   public void setRandomSeeder(@Nullable final RandomSeeder randomSeeder) {
+    if (randomSeeder != null && isUnsynchronized()) {
+      throw new IllegalStateException(
+          "An unsynchronized PRNG can't be reseeded from a RandomSeeder's thread");
+    }
     RandomSeeder old = this.randomSeeder.getAndSet(randomSeeder);
     if (old != randomSeeder) {
       if (old != null) {
@@ -719,6 +1584,67 @@ public abstract class BaseRandom extends Random
     }
   }
 
+  /**
+   * <p>Calls the given constructor with every {@link BaseRandom} it creates on this thread given a
+   * {@link #lock} that only counts holds, so that generating output no longer costs any atomic
+   * operations for the lock. This is only safe when those instances are confined to one thread for
+   * their entire lifetime, such as the per-thread instances behind a
+   * {@link io.github.pr0methean.betterrandom.prng.adapter.ThreadLocalRandomWrapper}. The mode
+   * can't be changed after construction, and doesn't carry over to deserialized copies.</p>
+   * <p>A PRNG in this mode can't have a {@link RandomSeeder}, since that would reseed it from
+   * another thread.</p>
+   *
+   * @param constructor a function that constructs a new PRNG, such as a constructor reference
+   * @param <T> the type of PRNG
+   * @return the PRNG, which {@link #isUnsynchronized()}
+   * @throws UnsupportedOperationException if the PRNG's class can't operate without the lock
+   */
+  public static <T extends BaseRandom> T createUnsynchronized(
+      final Supplier<? extends T> constructor) {
+    final boolean nested = CONSTRUCTING_UNSYNCHRONIZED.get();
+    final T random;
+    CONSTRUCTING_UNSYNCHRONIZED.set(true);
+    try {
+      random = constructor.get();
+    } finally {
+      if (!nested) {
+        CONSTRUCTING_UNSYNCHRONIZED.remove();
+      }
+    }
+    if (!random.isUnsynchronized()) {
+      throw new UnsupportedOperationException(
+          random.getClass().getSimpleName() + " can't operate without its lock");
+    }
+    return random;
+  }
+
+  /**
+   * Returns whether this class can operate with a {@link #lock} that never blocks, when it's
+   * created by {@link #createUnsynchronized(Supplier)}. Called while {@link BaseRandom}'s fields
+   * are being initialized, so it shouldn't depend on any instance state.
+   *
+   * @return true unless overridden
+   */
+  protected boolean supportsUnsynchronized() {
+    return true;
+  }
+
+  private ReentrantLock createLock() {
+    return (CONSTRUCTING_UNSYNCHRONIZED.get() && supportsUnsynchronized())
+        ? new UnsynchronizedLock() : new ReentrantLock();
+  }
+
+  /**
+   * Returns whether this instance was created by {@link #createUnsynchronized(Supplier)}.
+   * Subclasses that use atomic variables rather than the {@link #lock} can check this to use plain
+   * reads and writes instead.
+   *
+   * @return true if this PRNG no longer acquires its lock; false otherwise
+   */
+  public boolean isUnsynchronized() {
+    return lock instanceof UnsynchronizedLock;
+  }
+
   /**
    * Returns the current seed generator for this PRNG.
    *
@@ -748,7 +1674,6 @@ public abstract class BaseRandom extends Random
     } else if (seed != this.seed) {
       System.arraycopy(seed, 0, this.seed, 0, seed.length);
     }
-    nextNextGaussian.set(NAN_LONG_BITS); // Invalidate Gaussian that was generated from old seed
     creditEntropyForNewSeed(seed.length);
   }
 
@@ -760,6 +1685,7 @@ public abstract class BaseRandom extends Random
    */
   protected void creditEntropyForNewSeed(final int seedLength) {
     final long effectiveBits = Math.min(seedLength, getNewSeedLength()) * 8L;
+    flushPendingDebits();
     entropyBits.updateAndGet(oldCount -> Math.max(oldCount, effectiveBits));
   }
 
@@ -768,6 +1694,9 @@ public abstract class BaseRandom extends Random
    */
   protected void initTransientFields() {
     superConstructorFinished = true;
+    if (pendingDebits == null) {
+      pendingDebits = new LongAdder();
+    }
   }
 
   /**
@@ -800,7 +1729,10 @@ public abstract class BaseRandom extends Random
   }
 
   @Override public long getEntropyBits() {
-    return entropyBits.get();
+    if (splitParent != null) {
+      return splitParent.getEntropyBits();
+    }
+    return entropyBits.get() - pendingDebits.sum();
   }
 
   /**
@@ -810,15 +1742,41 @@ public abstract class BaseRandom extends Random
    * @param bits The number of bits of entropy spent.
    */
   protected void debitEntropy(final long bits) {
-    if (entropyBits.addAndGet(-bits) <= 0) {
+    if (splitParent != null) {
+      splitParent.debitEntropy(bits);
+    } else if (isUnsynchronized()) {
+      // Only the owning thread updates the count, so it doesn't need a CAS
+      final long remaining = entropyBits.get() - bits;
+      entropyBits.lazySet(remaining);
+      if (remaining <= 0) {
+        asyncReseedIfPossible();
+      }
+    } else if (entropyBits.get() <= 0) {
+      // Already crossed zero, and debits only make the total smaller, so it's still not positive
+      pendingDebits.add(bits);
+      asyncReseedIfPossible();
+    } else if (entropyBits.addAndGet(-bits) - pendingDebits.sum() <= 0) {
       asyncReseedIfPossible();
     }
   }
 
+  /**
+   * Moves the striped debits into {@link #entropyBits}, so that a reseeding can compare the new
+   * seed's entropy with the exact existing count, or a subclass can replace the count. Debits added
+   * concurrently are either moved or left for the next call, never lost.
+   */
+  protected void flushPendingDebits() {
+    final long pending = pendingDebits.sum();
+    if (pending != 0) {
+      pendingDebits.add(-pending);
+      entropyBits.addAndGet(-pending);
+    }
+  }
+
   private void asyncReseedIfPossible() {
     final RandomSeeder currentSeeder = getRandomSeeder();
     if (currentSeeder != null) {
-      currentSeeder.wakeUp();
+      currentSeeder.wakeUp(this);
     }
   }
 
@@ -860,4 +1818,72 @@ public abstract class BaseRandom extends Random
   protected boolean supportsMultipleSeedLengths() {
     return false;
   }
+
+  /**
+   * A {@link ReentrantLock} for an instance that's confined to one thread, which
+   * {@link #createUnsynchronized(Supplier)} uses in place of a real one. It never blocks, and keeps
+   * its hold count in a plain field, so that {@link #getHoldCount()} and
+   * {@link #isHeldByCurrentThread()} are still accurate on the owning thread.
+   */
+  private static final class UnsynchronizedLock extends ReentrantLock {
+
+    private static final long serialVersionUID = 4571209430384532431L;
+    private transient int holdCount;
+
+    @Override public void lock() {
+      holdCount++;
+    }
+
+    @Override public void lockInterruptibly() {
+      holdCount++;
+    }
+
+    @Override public boolean tryLock() {
+      holdCount++;
+      return true;
+    }
+
+    @Override public boolean tryLock(final long timeout, final TimeUnit unit) {
+      holdCount++;
+      return true;
+    }
+
+    @Override public void unlock() {
+      if (holdCount == 0) {
+        throw new IllegalMonitorStateException();
+      }
+      holdCount--;
+    }
+
+    @Override public int getHoldCount() {
+      return holdCount;
+    }
+
+    @Override public boolean isHeldByCurrentThread() {
+      return holdCount > 0;
+    }
+
+    @Override public boolean isLocked() {
+      return holdCount > 0;
+    }
+
+    /**
+     * Not supported, because no other thread could signal the condition.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override public Condition newCondition() {
+      throw new UnsupportedOperationException("A thread-confined lock can't have conditions");
+    }
+
+    /**
+     * Serializes as a plain {@link ReentrantLock}, so that the serialized form of a
+     * {@link BaseRandom} doesn't depend on this mode, and deserialized copies are synchronized.
+     *
+     * @return an unlocked {@link ReentrantLock}
+     */
+    private Object writeReplace() {
+      return new ReentrantLock();
+    }
+  }
 }
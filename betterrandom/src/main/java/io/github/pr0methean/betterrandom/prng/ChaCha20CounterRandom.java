@@ -0,0 +1,284 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import com.google.common.base.MoreObjects;
+import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+
+/**
+ * <p>CipherCounterRandom using Daniel J. Bernstein's ChaCha20 stream cipher, implemented in pure
+ * Java rather than through {@link javax.crypto.Cipher}. Unlike {@link AesCounterRandom}, it needs
+ * neither hardware AES support nor unlimited strength cryptography policy files to be fast and to
+ * accept 256-bit keys.</p>
+ * <p>The seed is a 16- or 32-byte key, optionally followed by up to 16 bytes that become the
+ * initial value of the 128-bit counter; the counter's least significant 32-bit word becomes the
+ * block counter (word 12 of the ChaCha state), and the remaining words become words 13 to 15 (the
+ * nonce). Each counter value yields a 64-byte block of keystream.</p>
+ * <p><em>NOTE: Because instances of this class require 128-bit seeds, it is not possible to seed
+ * this RNG using the {@link #setSeed(long)} method inherited from {@link Random} until the seed
+ * array has been set.</em></p>
+ *
+ * @author Daniel J. Bernstein (algorithm)
+ * @author Chris Hennick
+ */
+public class ChaCha20CounterRandom extends CipherCounterRandom {
+
+  private static final long serialVersionUID = -6313567262479524137L;
+  private static final int DEFAULT_SEED_SIZE_BYTES = 32;
+  private static final int SMALL_KEY_LENGTH = 16;
+  private static final int LARGE_KEY_LENGTH = 32;
+  private static final int BLOCK_SIZE_BYTES = 64;
+  private static final int BLOCK_SIZE_INTS = BLOCK_SIZE_BYTES / Integer.BYTES;
+  /**
+   * Number of blocks to generate at once. Each is 64 bytes, so this makes the buffer the same size
+   * as {@link AesCounterRandom}'s.
+   */
+  private static final int BLOCKS_AT_ONCE = 4;
+  private static final String HASH_ALGORITHM = "SHA-384";
+  /**
+   * "expand 32-byte k" as little-endian ints.
+   */
+  private static final int[] SIGMA = {0x61707865, 0x3320646e, 0x79622d32, 0x6b206574};
+  /**
+   * "expand 16-byte k" as little-endian ints.
+   */
+  private static final int[] TAU = {0x61707865, 0x3120646e, 0x79622d36, 0x6b206574};
+
+  /**
+   * Maximum total length of the seed, including both key and initial counter value.
+   */
+  public static final int MAX_SEED_LENGTH_BYTES = LARGE_KEY_LENGTH + DEFAULT_COUNTER_SIZE_BYTES;
+
+  // WARNING: Don't initialize any instance fields at declaration; they may be initialized too late!
+  /**
+   * Words 0 to 11 of the ChaCha state: the constants followed by the key.
+   */
+  private transient int[] keyWords;
+  /**
+   * Holds one block of keystream between generating it and copying it out.
+   */
+  private transient int[] keystream;
+
+  /**
+   * Creates a new RNG and seeds it using 256 bits from the {@link DefaultSeedGenerator}.
+   *
+   * @throws SeedException if the {@link DefaultSeedGenerator} fails to generate a seed.
+   */
+  public ChaCha20CounterRandom() throws SeedException {
+    this(DEFAULT_SEED_SIZE_BYTES);
+  }
+
+  /**
+   * Seed the RNG using the provided seed generation strategy to create a 256-bit seed.
+   *
+   * @param seedGenerator The seed generation strategy that will provide the seed value for this
+   *     RNG.
+   * @throws SeedException if there is a problem generating a seed.
+   */
+  public ChaCha20CounterRandom(final SeedGenerator seedGenerator) throws SeedException {
+    this(seedGenerator.generateSeed(DEFAULT_SEED_SIZE_BYTES));
+  }
+
+  /**
+   * Seed the RNG using the {@link DefaultSeedGenerator} to create a seed of the specified size.
+   *
+   * @param seedSizeBytes The number of bytes to use for seed data. Valid values range from 16
+   *     to {@link #MAX_SEED_LENGTH_BYTES}.
+   * @throws SeedException if the {@link DefaultSeedGenerator} fails to generate a seed.
+   */
+  public ChaCha20CounterRandom(final int seedSizeBytes) throws SeedException {
+    this(DefaultSeedGenerator.DEFAULT_SEED_GENERATOR.generateSeed(seedSizeBytes));
+  }
+
+  /**
+   * Creates an RNG and seeds it with the specified seed data.
+   *
+   * @param seed The seed data used to initialize the RNG. Length must be at least 16 and no
+   *     more than {@link #MAX_SEED_LENGTH_BYTES}.
+   */
+  public ChaCha20CounterRandom(final byte[] seed) {
+    super(seed);
+  }
+
+  /**
+   * Returns the number of rounds. Subclasses can override this to return 8 or 12, for the faster
+   * but less conservative ChaCha8 and ChaCha12.
+   *
+   * @return the number of rounds; must be even
+   */
+  protected int getRounds() {
+    return 20;
+  }
+
+  @Override public int getBlockSizeBytes() {
+    return BLOCK_SIZE_BYTES;
+  }
+
+  @Override public int getBlocksAtOnce() {
+    return BLOCKS_AT_ONCE;
+  }
+
+  @Override public int getMaxKeyLengthBytes() {
+    return LARGE_KEY_LENGTH;
+  }
+
+  @Override public int getMaxTotalSeedLengthBytes() {
+    return MAX_SEED_LENGTH_BYTES;
+  }
+
+  @Override protected int getMinSeedLength() {
+    return SMALL_KEY_LENGTH;
+  }
+
+  @Override protected int getKeyLength(final int inputLength) {
+    return (inputLength >= LARGE_KEY_LENGTH) ? LARGE_KEY_LENGTH : SMALL_KEY_LENGTH;
+  }
+
+  @Override protected BaseRandom newInstanceWithSeed(final byte[] seed) {
+    return new ChaCha20CounterRandom(seed);
+  }
+
+  @Override protected MessageDigest createHash() {
+    try {
+      return MessageDigest.getInstance(HASH_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new InternalError("Required hash algorithm missing");
+    }
+  }
+
+  @Override protected void createCipher() {
+    keyWords = new int[12];
+    keystream = new int[BLOCK_SIZE_INTS];
+  }
+
+  @Override protected void setKey(final byte[] key) {
+    System.arraycopy((key.length == LARGE_KEY_LENGTH) ? SIGMA : TAU, 0, keyWords, 0, 4);
+    for (int i = 0; i < 8; i++) {
+      // A 16-byte key is used twice
+      keyWords[4 + i] = littleEndianInt(key, (i * Integer.BYTES) % key.length);
+    }
+  }
+
+  private static int littleEndianInt(final byte[] bytes, final int offset) {
+    return Integer.reverseBytes(BinaryUtils.convertBytesToInt(bytes, offset));
+  }
+
+  @Override protected void doCipher(final byte[] input, final byte[] output) {
+    for (int block = 0; block < BLOCKS_AT_ONCE; block++) {
+      generateKeystream(input, block * DEFAULT_COUNTER_SIZE_BYTES);
+      int offset = block * BLOCK_SIZE_BYTES;
+      for (final int word : keystream) {
+        output[offset] = (byte) word;
+        output[offset + 1] = (byte) (word >>> 8);
+        output[offset + 2] = (byte) (word >>> 16);
+        output[offset + 3] = (byte) (word >>> 24);
+        offset += Integer.BYTES;
+      }
+    }
+  }
+
+  @Override protected void doCipher(final byte[] input, final ByteBuffer output) {
+    final boolean littleEndian = output.order() == ByteOrder.LITTLE_ENDIAN;
+    for (int block = 0; block < BLOCKS_AT_ONCE; block++) {
+      generateKeystream(input, block * DEFAULT_COUNTER_SIZE_BYTES);
+      for (final int word : keystream) {
+        output.putInt(littleEndian ? word : Integer.reverseBytes(word));
+      }
+    }
+  }
+
+  /**
+   * Runs the ChaCha block function on the counter value at the given offset, leaving the result in
+   * {@link #keystream}.
+   *
+   * @param input the array of counter values
+   * @param offset the offset of the counter value to use
+   */
+  private void generateKeystream(final byte[] input, final int offset) {
+    final int[] k = keyWords;
+    final int j12 = BinaryUtils.convertBytesToInt(input, offset + 12);
+    final int j13 = BinaryUtils.convertBytesToInt(input, offset + 8);
+    final int j14 = BinaryUtils.convertBytesToInt(input, offset + 4);
+    final int j15 = BinaryUtils.convertBytesToInt(input, offset);
+    int x0 = k[0];
+    int x1 = k[1];
+    int x2 = k[2];
+    int x3 = k[3];
+    int x4 = k[4];
+    int x5 = k[5];
+    int x6 = k[6];
+    int x7 = k[7];
+    int x8 = k[8];
+    int x9 = k[9];
+    int x10 = k[10];
+    int x11 = k[11];
+    int x12 = j12;
+    int x13 = j13;
+    int x14 = j14;
+    int x15 = j15;
+    for (int i = getRounds(); i > 0; i -= 2) {
+      // Column round
+      x0 += x4; x12 = Integer.rotateLeft(x12 ^ x0, 16);
+      x8 += x12; x4 = Integer.rotateLeft(x4 ^ x8, 12);
+      x0 += x4; x12 = Integer.rotateLeft(x12 ^ x0, 8);
+      x8 += x12; x4 = Integer.rotateLeft(x4 ^ x8, 7);
+      x1 += x5; x13 = Integer.rotateLeft(x13 ^ x1, 16);
+      x9 += x13; x5 = Integer.rotateLeft(x5 ^ x9, 12);
+      x1 += x5; x13 = Integer.rotateLeft(x13 ^ x1, 8);
+      x9 += x13; x5 = Integer.rotateLeft(x5 ^ x9, 7);
+      x2 += x6; x14 = Integer.rotateLeft(x14 ^ x2, 16);
+      x10 += x14; x6 = Integer.rotateLeft(x6 ^ x10, 12);
+      x2 += x6; x14 = Integer.rotateLeft(x14 ^ x2, 8);
+      x10 += x14; x6 = Integer.rotateLeft(x6 ^ x10, 7);
+      x3 += x7; x15 = Integer.rotateLeft(x15 ^ x3, 16);
+      x11 += x15; x7 = Integer.rotateLeft(x7 ^ x11, 12);
+      x3 += x7; x15 = Integer.rotateLeft(x15 ^ x3, 8);
+      x11 += x15; x7 = Integer.rotateLeft(x7 ^ x11, 7);
+      // Diagonal round
+      x0 += x5; x15 = Integer.rotateLeft(x15 ^ x0, 16);
+      x10 += x15; x5 = Integer.rotateLeft(x5 ^ x10, 12);
+      x0 += x5; x15 = Integer.rotateLeft(x15 ^ x0, 8);
+      x10 += x15; x5 = Integer.rotateLeft(x5 ^ x10, 7);
+      x1 += x6; x12 = Integer.rotateLeft(x12 ^ x1, 16);
+      x11 += x12; x6 = Integer.rotateLeft(x6 ^ x11, 12);
+      x1 += x6; x12 = Integer.rotateLeft(x12 ^ x1, 8);
+      x11 += x12; x6 = Integer.rotateLeft(x6 ^ x11, 7);
+      x2 += x7; x13 = Integer.rotateLeft(x13 ^ x2, 16);
+      x8 += x13; x7 = Integer.rotateLeft(x7 ^ x8, 12);
+      x2 += x7; x13 = Integer.rotateLeft(x13 ^ x2, 8);
+      x8 += x13; x7 = Integer.rotateLeft(x7 ^ x8, 7);
+      x3 += x4; x14 = Integer.rotateLeft(x14 ^ x3, 16);
+      x9 += x14; x4 = Integer.rotateLeft(x4 ^ x9, 12);
+      x3 += x4; x14 = Integer.rotateLeft(x14 ^ x3, 8);
+      x9 += x14; x4 = Integer.rotateLeft(x4 ^ x9, 7);
+    }
+    final int[] out = keystream;
+    out[0] = x0 + k[0];
+    out[1] = x1 + k[1];
+    out[2] = x2 + k[2];
+    out[3] = x3 + k[3];
+    out[4] = x4 + k[4];
+    out[5] = x5 + k[5];
+    out[6] = x6 + k[6];
+    out[7] = x7 + k[7];
+    out[8] = x8 + k[8];
+    out[9] = x9 + k[9];
+    out[10] = x10 + k[10];
+    out[11] = x11 + k[11];
+    out[12] = x12 + j12;
+    out[13] = x13 + j13;
+    out[14] = x14 + j14;
+    out[15] = x15 + j15;
+  }
+
+  @Override
+  public MoreObjects.ToStringHelper addSubclassFields(final MoreObjects.ToStringHelper original) {
+    return super.addSubclassFields(original).add("rounds", getRounds());
+  }
+}
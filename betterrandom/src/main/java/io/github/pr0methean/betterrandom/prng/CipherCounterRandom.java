@@ -3,11 +3,13 @@ package io.github.pr0methean.betterrandom.prng;
 import com.google.common.base.MoreObjects;
 import io.github.pr0methean.betterrandom.SeekableRandom;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
-import io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic;
+import io.github.pr0methean.betterrandom.util.LongPairArithmetic;
+import java.nio.ByteBuffer;
 import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.util.Arrays;
+import javax.annotation.Nullable;
 
 /**
  * <p>Non-linear random number generator based on a cipher that encrypts an incrementing counter.
@@ -34,9 +36,13 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
    */
   protected final byte[] currentBlock;
   /**
-   * The counter. Successive values are encrypted to generate pseudorandom numbers.
+   * The counter. Successive values are encrypted to generate pseudorandom numbers. Arithmetic is
+   * done on {@link #counterMost} and {@link #counterLeast}, and the result is copied back here
+   * whenever a block is generated.
    */
   protected volatile byte[] counter;
+  private transient long counterMost;
+  private transient long counterLeast;
   /**
    * The offset in {@link #currentBlock} to draw output from.
    */
@@ -56,7 +62,8 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
   }
 
   /**
-   * Returns the length of the counter, which should equal the cipher's block size.
+   * Returns the length of the counter, which is the size of each input to the cipher. The counter
+   * is a 128-bit integer, so this is currently always 16.
    *
    * @return the length of the counter
    */
@@ -64,6 +71,16 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
     return DEFAULT_COUNTER_SIZE_BYTES;
   }
 
+  /**
+   * Returns the number of bytes of output generated from each counter value. For a block cipher,
+   * this equals {@link #getCounterSizeBytes()}; a stream cipher such as ChaCha may generate more.
+   *
+   * @return the number of bytes of output per counter value
+   */
+  public int getBlockSizeBytes() {
+    return getCounterSizeBytes();
+  }
+
   @Override public int getNewSeedLength() {
     return getMaxKeyLengthBytes();
   }
@@ -81,23 +98,24 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
     if (delta == 0) {
       return;
     }
-    int counterSizeBytes = getCounterSizeBytes();
-    final long intsPerBlock = counterSizeBytes / Integer.BYTES;
+    final int blockSizeBytes = getBlockSizeBytes();
+    final long intsPerBlock = blockSizeBytes / Integer.BYTES;
     long blocksDelta = delta / intsPerBlock;
     final int deltaWithinBlock = (int) (delta % intsPerBlock) * Integer.BYTES;
     lock.lock();
     try {
       int newIndex = index + deltaWithinBlock;
-      if (newIndex >= counterSizeBytes) {
-        newIndex -= counterSizeBytes;
+      if (newIndex >= blockSizeBytes) {
+        newIndex -= blockSizeBytes;
         blocksDelta++;
       }
       if (newIndex < 0) {
-        newIndex += counterSizeBytes;
+        newIndex += blockSizeBytes;
         blocksDelta--;
       }
       blocksDelta -= getBlocksAtOnce(); // Compensate for the increment during nextBlock() below
-      Byte16ArrayArithmetic.addInto(counter, blocksDelta);
+      counterMost = LongPairArithmetic.addMost(counterMost, counterLeast, blocksDelta);
+      counterLeast += blocksDelta;
       nextBlock();
       index = newIndex;
     } finally {
@@ -105,6 +123,44 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
     }
   }
 
+  /**
+   * Returns a copy of this PRNG and advances this one past the part of the sequence the copy will
+   * use, so that the two don't overlap.
+   */
+  @Nullable @Override protected BaseRandom createStreamSplit(final long distance) {
+    return splitBySeeking(distance);
+  }
+
+  /**
+   * Returns a PRNG with the same key, then copies the counter and the current block into it, since
+   * {@link #getSeed()} doesn't include them.
+   */
+  @Nullable @Override protected BaseRandom createCopy() {
+    lock.lock();
+    try {
+      final BaseRandom copy = newInstanceWithSeed(getSeed());
+      if (copy == null) {
+        return null;
+      }
+      final CipherCounterRandom cipherCopy = (CipherCounterRandom) copy;
+      cipherCopy.counterMost = counterMost;
+      cipherCopy.counterLeast = counterLeast;
+      System.arraycopy(counter, 0, cipherCopy.counter, 0, counter.length);
+      System.arraycopy(currentBlock, 0, cipherCopy.currentBlock, 0, currentBlock.length);
+      cipherCopy.index = index;
+      return copy;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns 2, because {@link #advance(long)} counts in {@code int}s.
+   */
+  @Override protected int getStepsPerLong() {
+    return 2;
+  }
+
   /**
    * Returns the length of the key that should be extracted from a seed of a given length. During
    * the initial seeding, whatever part of the seed does not become the key, becomes the counter's
@@ -127,12 +183,12 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
 
   /**
    * Returns the number of random bytes that can be precalculated at once, which is normally
-   * {@code getCounterSizeBytes() * getBlocksAtOnce()}.
+   * {@code getBlockSizeBytes() * getBlocksAtOnce()}.
    *
    * @return the number of random bytes that can be precalculated at once
    */
   protected int getBytesAtOnce() {
-    return getCounterSizeBytes() * getBlocksAtOnce();
+    return getBlockSizeBytes() * getBlocksAtOnce();
   }
 
   /**
@@ -150,7 +206,7 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
       counter = new byte[getCounterSizeBytes()];
     }
     if (counterInput == null) {
-      counterInput = new byte[getBytesAtOnce()];
+      counterInput = new byte[getCounterSizeBytes() * getBlocksAtOnce()];
     }
     createCipher();
     hash = createHash();
@@ -180,17 +236,13 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
   protected abstract void createCipher();
 
   /**
-   * Generates BLOCKS_AT_ONCE 128-bit (16-byte) blocks. Copies them to currentBlock.
+   * Generates {@link #getBlocksAtOnce()} blocks. Copies them to currentBlock.
    *
    * @throws IllegalStateException If there is a problem with the cipher that generates the
    *     random data.
    */
   protected void nextBlock() {
-    int blocks = getBlocksAtOnce();
-    for (int i = 0; i < blocks; i++) {
-      Byte16ArrayArithmetic.addInto(counter, Byte16ArrayArithmetic.ONE);
-      System.arraycopy(counter, 0, counterInput, i * getCounterSizeBytes(), getCounterSizeBytes());
-    }
+    advanceCounterInput();
     try {
       doCipher(counterInput, currentBlock);
     } catch (final GeneralSecurityException ex) {
@@ -200,15 +252,66 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
     }
   }
 
+  /**
+   * Generates the same output as {@link #nextBlock()}, but writes it straight into the given
+   * buffer rather than into {@link #currentBlock}.
+   *
+   * @param output a buffer with at least {@link #getBytesAtOnce()} bytes remaining
+   * @throws IllegalStateException If there is a problem with the cipher that generates the
+   *     random data.
+   */
+  private void nextBlockInto(final ByteBuffer output) {
+    advanceCounterInput();
+    try {
+      doCipher(counterInput, output);
+    } catch (final GeneralSecurityException ex) {
+      throw new IllegalStateException("Failed creating next random block.", ex);
+    }
+  }
+
+  private void advanceCounterInput() {
+    final int blocks = getBlocksAtOnce();
+    final int counterSizeBytes = getCounterSizeBytes();
+    long most = counterMost;
+    long least = counterLeast;
+    for (int i = 0; i < blocks; i++) {
+      least++;
+      if (least == 0) {
+        most++;
+      }
+      BinaryUtils.convertLongToBytes(most, counterInput, i * counterSizeBytes);
+      BinaryUtils.convertLongToBytes(least, counterInput, i * counterSizeBytes + Long.BYTES);
+    }
+    counterMost = most;
+    counterLeast = least;
+    System.arraycopy(counterInput, (blocks - 1) * counterSizeBytes, counter, 0, counterSizeBytes);
+  }
+
   /**
    * Executes the cipher.
    *
-   * @param input an array of input whose length is equal to {@link #getBytesAtOnce()}
+   * @param input an array holding {@link #getBlocksAtOnce()} consecutive counter values
    * @param output an array of output whose length is equal to {@link #getBytesAtOnce()}
    * @throws GeneralSecurityException if an internal error occurs in the cipher
    */
   protected abstract void doCipher(byte[] input, byte[] output) throws GeneralSecurityException;
 
+  /**
+   * Executes the cipher, writing the output into a buffer that may be direct. The default
+   * implementation calls {@link #doCipher(byte[], byte[])} with {@link #currentBlock} as the output,
+   * then copies it into the buffer; subclasses should override this if their cipher can write to
+   * the buffer directly.
+   *
+   * @param input an array holding {@link #getBlocksAtOnce()} consecutive counter values
+   * @param output a buffer with at least {@link #getBytesAtOnce()} bytes remaining, whose position
+   *     is to be advanced by that many bytes
+   * @throws GeneralSecurityException if an internal error occurs in the cipher
+   */
+  protected void doCipher(byte[] input, ByteBuffer output) throws GeneralSecurityException {
+    doCipher(input, currentBlock);
+    output.put(currentBlock);
+  }
+
   @Override protected final int next(final int bits) {
     lock.lock();
     int result;
@@ -227,6 +330,89 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
     return result >>> (32 - bits);
   }
 
+  /**
+   * Copies bytes straight out of {@link #currentBlock} a block at a time, calling
+   * {@link #nextBlock()} only when it's used up.
+   */
+  @Override protected void fillBytes(final byte[] bytes) {
+    final int bytesAtOnce = getBytesAtOnce();
+    int curIndex = index;
+    int offset = 0;
+    while (offset < bytes.length) {
+      if (curIndex >= bytesAtOnce) {
+        nextBlock();
+        curIndex = 0;
+      }
+      final int length = Math.min(bytes.length - offset, bytesAtOnce - curIndex);
+      System.arraycopy(currentBlock, curIndex, bytes, offset, length);
+      curIndex += length;
+      offset += length;
+    }
+    index = curIndex;
+  }
+
+  /**
+   * Drains {@link #currentBlock} into the buffer, then encrypts as many whole blocks as will fit
+   * directly into the buffer, and finally generates one more block for any remainder.
+   */
+  @Override protected void fillBytes(final ByteBuffer buffer) {
+    final int bytesAtOnce = getBytesAtOnce();
+    int curIndex = index;
+    int length = Math.min(buffer.remaining(), bytesAtOnce - curIndex);
+    if (length > 0) {
+      buffer.put(currentBlock, curIndex, length);
+      curIndex += length;
+    }
+    while (buffer.remaining() >= bytesAtOnce) {
+      nextBlockInto(buffer);
+      curIndex = bytesAtOnce;
+    }
+    if (buffer.hasRemaining()) {
+      nextBlock();
+      curIndex = buffer.remaining();
+      buffer.put(currentBlock, 0, curIndex);
+    }
+    index = curIndex;
+  }
+
+  /**
+   * Copies ints straight out of {@link #currentBlock}, calling {@link #nextBlock()} only when it's
+   * used up.
+   */
+  @Override protected void fillInts(final int[] output) {
+    final int bytesAtOnce = getBytesAtOnce();
+    int curIndex = index;
+    for (int i = 0; i < output.length; i++) {
+      if ((bytesAtOnce - curIndex) < 4) {
+        nextBlock();
+        curIndex = 0;
+      }
+      output[i] = BinaryUtils.convertBytesToInt(currentBlock, curIndex);
+      curIndex += 4;
+    }
+    index = curIndex;
+  }
+
+  @Override protected void fillLongs(final long[] output) {
+    final int bytesAtOnce = getBytesAtOnce();
+    int curIndex = index;
+    for (int i = 0; i < output.length; i++) {
+      if ((bytesAtOnce - curIndex) < 4) {
+        nextBlock();
+        curIndex = 0;
+      }
+      final long high = BinaryUtils.convertBytesToInt(currentBlock, curIndex);
+      curIndex += 4;
+      if ((bytesAtOnce - curIndex) < 4) {
+        nextBlock();
+        curIndex = 0;
+      }
+      output[i] = (high << 32) + BinaryUtils.convertBytesToInt(currentBlock, curIndex);
+      curIndex += 4;
+    }
+    index = curIndex;
+  }
+
   /**
    * {@inheritDoc} If the seed is not of the maximum length, it is combined with the existing seed
    * using the hash algorithm.
@@ -300,6 +486,8 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
       System.arraycopy(seed, keyLength, counter, 0, bytesToCopyToCounter);
     }
     Arrays.fill(counter, bytesToCopyToCounter, getCounterSizeBytes(), (byte) 0);
+    counterMost = BinaryUtils.convertBytesToLong(counter, 0);
+    counterLeast = BinaryUtils.convertBytesToLong(counter, Long.BYTES);
     try {
       setKey(key);
     } catch (final InvalidKeyException e) {
@@ -101,24 +101,52 @@ public class Cmwc4096Random extends BaseRandom {
     index = 4095;
   }
 
-  @SuppressWarnings("NumericCastThatLosesPrecision") @Override protected int next(final int bits) {
+  @Override protected int next(final int bits) {
     lock.lock();
     try {
-      index = (index + 1) & 4095;
-      final long t = (A * (state[index] & 0xFFFFFFFFL)) + carry;
-      carry = (int) (t >> 32);
-      int x = ((int) t) + carry;
-      if (x < carry) {
-        x++;
-        carry++;
-      }
-      state[index] = 0xFFFFFFFE - x;
-      return state[index] >>> (32 - bits);
+      return nextIntLocked() >>> (32 - bits);
     } finally {
       lock.unlock();
     }
   }
 
+  @Override protected void fillInts(final int[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = nextIntLocked();
+    }
+  }
+
+  @Override protected void fillLongs(final long[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = ((long) nextIntLocked() << 32) + nextIntLocked();
+    }
+  }
+
+  @Override protected void fillBytes(final byte[] bytes) {
+    int i = 0;
+    while (i < bytes.length) {
+      i = unpackWord(nextIntLocked(), Integer.BYTES, bytes, i);
+    }
+  }
+
+  /**
+   * Generates the next 32 pseudorandom bits. Caller must hold {@link #lock}.
+   *
+   * @return the next pseudorandom {@code int}
+   */
+  @SuppressWarnings("NumericCastThatLosesPrecision") private int nextIntLocked() {
+    index = (index + 1) & 4095;
+    final long t = (A * (state[index] & 0xFFFFFFFFL)) + carry;
+    carry = (int) (t >> 32);
+    int x = ((int) t) + carry;
+    if (x < carry) {
+      x++;
+      carry++;
+    }
+    state[index] = 0xFFFFFFFE - x;
+    return state[index];
+  }
+
   /**
    * Returns the only supported seed length.
    */
@@ -0,0 +1,146 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Arithmetic on polynomials over GF(2), used to jump linear generators such as {@link
+ * Xoshiro256Random} and {@link Xoroshiro128PlusPlusRandom} ahead by an arbitrary number of steps.
+ * A polynomial modulo a characteristic polynomial of degree {@code n} is stored as {@code n / 64}
+ * longs, with the coefficient of x<sup>i</sup> in bit {@code i % 64} of element {@code i / 64}. A
+ * characteristic polynomial is stored the same way, with its leading term x<sup>n</sup> implied.
+ */
+enum Gf2Polynomials {
+  ;
+
+  /**
+   * Finds the characteristic polynomial of a full-period linear generator, using the
+   * Berlekamp-Massey algorithm on a sequence of bits that depend linearly on its state.
+   *
+   * @param degree the size of the generator's state in bits; must be a multiple of 64
+   * @param nextBit steps the generator and returns a bit that depends linearly on its state
+   * @return the characteristic polynomial, with its leading term implied
+   */
+  static long[] characteristicPolynomial(final int degree, final BooleanSupplier nextBit) {
+    final int length = 2 * degree;
+    final boolean[] sequence = new boolean[length];
+    for (int i = 0; i < length; i++) {
+      sequence[i] = nextBit.getAsBoolean();
+    }
+    boolean[] connection = new boolean[length + 1];
+    boolean[] previous = new boolean[length + 1];
+    connection[0] = true;
+    previous[0] = true;
+    int linearComplexity = 0;
+    int shift = 1;
+    for (int n = 0; n < length; n++) {
+      boolean discrepancy = sequence[n];
+      for (int i = 1; i <= linearComplexity; i++) {
+        discrepancy ^= connection[i] & sequence[n - i];
+      }
+      if (!discrepancy) {
+        shift++;
+        continue;
+      }
+      final boolean[] oldConnection = connection.clone();
+      for (int i = 0; i + shift <= length; i++) {
+        connection[i + shift] ^= previous[i];
+      }
+      if (2 * linearComplexity <= n) {
+        linearComplexity = n + 1 - linearComplexity;
+        previous = oldConnection;
+        shift = 1;
+      } else {
+        shift++;
+      }
+    }
+    if (linearComplexity != degree) {
+      throw new IllegalStateException(String.format(
+          "Expected a characteristic polynomial of degree %d but found %d", degree,
+          linearComplexity));
+    }
+    // The characteristic polynomial is the reciprocal of the connection polynomial
+    final long[] out = new long[degree / Long.SIZE];
+    for (int i = 1; i <= degree; i++) {
+      if (connection[i]) {
+        final int power = degree - i;
+        out[power / Long.SIZE] |= 1L << power;
+      }
+    }
+    return out;
+  }
+
+  /**
+   * Returns x<sup>delta</sup> modulo the given characteristic polynomial. Since that polynomial's
+   * constant term is 1, x is invertible and {@code delta} may be negative.
+   *
+   * @param characteristic the characteristic polynomial
+   * @param delta the power of x
+   * @return x<sup>delta</sup> modulo {@code characteristic}
+   */
+  static long[] powerOfX(final long[] characteristic, final long delta) {
+    final long[] base = new long[characteristic.length];
+    if (delta >= 0) {
+      base[0] = 2; // x
+    } else {
+      // x * (x^(n-1) + ... + c_1) = c_0 = 1 (mod p), so the inverse of x is p / x with c_0 removed
+      System.arraycopy(characteristic, 0, base, 0, base.length);
+      shiftRightOne(base);
+      base[base.length - 1] |= Long.MIN_VALUE; // the implied leading term, now x^(n-1)
+    }
+    long exponent = (delta >= 0) ? delta : -delta; // Long.MIN_VALUE works as unsigned
+    final long[] result = new long[characteristic.length];
+    result[0] = 1;
+    long[] power = base;
+    while (exponent != 0) {
+      if ((exponent & 1) != 0) {
+        System.arraycopy(multiply(result, power, characteristic), 0, result, 0, result.length);
+      }
+      exponent >>>= 1;
+      if (exponent != 0) {
+        power = multiply(power, power, characteristic);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Multiplies two polynomials modulo a characteristic polynomial.
+   *
+   * @param a a polynomial
+   * @param b another polynomial
+   * @param characteristic the characteristic polynomial
+   * @return the product modulo {@code characteristic}
+   */
+  static long[] multiply(final long[] a, final long[] b, final long[] characteristic) {
+    final long[] result = new long[characteristic.length];
+    for (int i = characteristic.length * Long.SIZE - 1; i >= 0; i--) {
+      multiplyByX(result, characteristic);
+      if ((b[i / Long.SIZE] & (1L << i)) != 0) {
+        for (int j = 0; j < result.length; j++) {
+          result[j] ^= a[j];
+        }
+      }
+    }
+    return result;
+  }
+
+  private static void multiplyByX(final long[] polynomial, final long[] characteristic) {
+    final boolean overflow = polynomial[polynomial.length - 1] < 0;
+    for (int i = polynomial.length - 1; i > 0; i--) {
+      polynomial[i] = (polynomial[i] << 1) | (polynomial[i - 1] >>> (Long.SIZE - 1));
+    }
+    polynomial[0] <<= 1;
+    if (overflow) {
+      for (int i = 0; i < polynomial.length; i++) {
+        polynomial[i] ^= characteristic[i];
+      }
+    }
+  }
+
+  private static void shiftRightOne(final long[] polynomial) {
+    for (int i = 0; i < polynomial.length - 1; i++) {
+      polynomial[i] = (polynomial[i] >>> 1) | (polynomial[i + 1] << (Long.SIZE - 1));
+    }
+    polynomial[polynomial.length - 1] >>>= 1;
+  }
+}
@@ -164,37 +164,91 @@ public class MersenneTwisterRandom extends BaseRandom {
     int y;
     lock.lock();
     try {
-      final int curMtIndex;
-      final int oldMtIndex = mtIndex;
-      if (oldMtIndex >= N) // Generate N ints at a time.
+      int curMtIndex = mtIndex;
+      if (curMtIndex >= N) // Generate N ints at a time.
       {
-        int kk;
-        for (kk = 0; kk < (N - M); kk++) {
-          y = (mt[kk] & UPPER_MASK) | (mt[kk + 1] & LOWER_MASK);
-          mt[kk] = mt[kk + M] ^ (y >>> 1) ^ MAG01[y & 0x1];
-        }
-        for (; kk < (N - 1); kk++) {
-          y = (mt[kk] & UPPER_MASK) | (mt[kk + 1] & LOWER_MASK);
-          mt[kk] = mt[kk + (M - N)] ^ (y >>> 1) ^ MAG01[y & 0x1];
-        }
-        y = (mt[N - 1] & UPPER_MASK) | (mt[0] & LOWER_MASK);
-        mt[N - 1] = mt[M - 1] ^ (y >>> 1) ^ MAG01[y & 0x1];
-
+        twist();
         curMtIndex = 0;
-      } else {
-        curMtIndex = oldMtIndex;
       }
       y = mt[curMtIndex];
       mtIndex = curMtIndex + 1;
     } finally {
       lock.unlock();
     }
-    // Tempering
+    return temper(y) >>> (32 - bits);
+  }
+
+  @Override protected void fillInts(final int[] output) {
+    int curMtIndex = mtIndex; // volatile field as loop counter may hurt performance
+    for (int i = 0; i < output.length; i++) {
+      if (curMtIndex >= N) {
+        twist();
+        curMtIndex = 0;
+      }
+      output[i] = temper(mt[curMtIndex]);
+      curMtIndex++;
+    }
+    mtIndex = curMtIndex;
+  }
+
+  @Override protected void fillLongs(final long[] output) {
+    int curMtIndex = mtIndex;
+    for (int i = 0; i < output.length; i++) {
+      if (curMtIndex >= N) {
+        twist();
+        curMtIndex = 0;
+      }
+      final long high = temper(mt[curMtIndex]);
+      curMtIndex++;
+      if (curMtIndex >= N) {
+        twist();
+        curMtIndex = 0;
+      }
+      output[i] = (high << 32) + temper(mt[curMtIndex]);
+      curMtIndex++;
+    }
+    mtIndex = curMtIndex;
+  }
+
+  @Override protected void fillBytes(final byte[] bytes) {
+    int curMtIndex = mtIndex;
+    int i = 0;
+    while (i < bytes.length) {
+      if (curMtIndex >= N) {
+        twist();
+        curMtIndex = 0;
+      }
+      final int rnd = temper(mt[curMtIndex]);
+      curMtIndex++;
+      i = unpackWord(rnd, Integer.BYTES, bytes, i);
+    }
+    mtIndex = curMtIndex;
+  }
+
+  /**
+   * Generates the next N ints of the state vector. Caller must hold {@link #lock}.
+   */
+  private void twist() {
+    int y;
+    int kk;
+    for (kk = 0; kk < (N - M); kk++) {
+      y = (mt[kk] & UPPER_MASK) | (mt[kk + 1] & LOWER_MASK);
+      mt[kk] = mt[kk + M] ^ (y >>> 1) ^ MAG01[y & 0x1];
+    }
+    for (; kk < (N - 1); kk++) {
+      y = (mt[kk] & UPPER_MASK) | (mt[kk + 1] & LOWER_MASK);
+      mt[kk] = mt[kk + (M - N)] ^ (y >>> 1) ^ MAG01[y & 0x1];
+    }
+    y = (mt[N - 1] & UPPER_MASK) | (mt[0] & LOWER_MASK);
+    mt[N - 1] = mt[M - 1] ^ (y >>> 1) ^ MAG01[y & 0x1];
+  }
+
+  private static int temper(int y) {
     y ^= (y >>> 11);
     y ^= (y << 7) & GENERATE_MASK1;
     y ^= (y << 15) & GENERATE_MASK2;
     y ^= (y >>> 18);
-    return y >>> (32 - bits);
+    return y;
   }
 
   /**
@@ -9,6 +9,7 @@ import io.github.pr0methean.betterrandom.util.BinaryUtils;
 import io.github.pr0methean.betterrandom.util.EntryPoint;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -88,6 +89,13 @@ public class Pcg64Random extends BaseRandom implements SeekableRandom {
     }
   }
 
+  /**
+   * Returns 2, because each {@code long} is made from two 32-bit outputs.
+   */
+  @Override protected int getStepsPerLong() {
+    return 2;
+  }
+
   @Override public byte[] getSeed() {
     return BinaryUtils.convertLongToBytes(internal.get()).clone();
   }
@@ -109,6 +117,21 @@ public class Pcg64Random extends BaseRandom implements SeekableRandom {
     if (delta == 0) {
       return;
     }
+    lock.lock();
+    try {
+      skip(delta);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Atomically advances the state {@code delta} steps, in logarithmic time.
+   *
+   * @param delta the number of steps to advance; can be negative
+   * @return the state before advancing, from which the skipped-over output can be calculated
+   */
+  private long skip(long delta) {
     // The method used here is based on Brown, "Random Number Generation
     // with Arbitrary Stride,", Transactions of the American Nuclear
     // Society (Nov. 1994).  The algorithm is very similar to fast
@@ -126,13 +149,59 @@ public class Pcg64Random extends BaseRandom implements SeekableRandom {
       curMult *= curMult;
       delta >>>= 1;
     }
+    if (isUnsynchronized()) {
+      final long old = internal.get();
+      internal.lazySet((accMult * old) + accPlus);
+      return old;
+    }
     final long finalAccMult = accMult;
     final long finalAccPlus = accPlus;
-    lock.lock();
-    try {
-      internal.updateAndGet(old -> (finalAccMult * old) + finalAccPlus);
-    } finally {
-      lock.unlock();
+    return internal.getAndUpdate(old -> (finalAccMult * old) + finalAccPlus);
+  }
+
+  /**
+   * Claims a whole batch of states with a single compare-and-set, so that the output can then be
+   * generated without contention.
+   */
+  @Override protected void fillInts(final int[] output) {
+    long state = skip(output.length);
+    for (int i = 0; i < output.length; i++) {
+      output[i] = outputFunction(state);
+      state = (state * MULTIPLIER) + INCREMENT;
+    }
+  }
+
+  @Override protected void fillLongs(final long[] output) {
+    long state = skip(2L * output.length);
+    for (int i = 0; i < output.length; i++) {
+      final int high = outputFunction(state);
+      state = (state * MULTIPLIER) + INCREMENT;
+      output[i] = ((long) high << 32) + outputFunction(state);
+      state = (state * MULTIPLIER) + INCREMENT;
+    }
+  }
+
+  @Override protected void fillBytes(final byte[] bytes) {
+    long state = skip((bytes.length + (Integer.BYTES - 1)) / Integer.BYTES);
+    int i = 0;
+    while (i < bytes.length) {
+      final int rnd = outputFunction(state);
+      state = (state * MULTIPLIER) + INCREMENT;
+      i = unpackWord(rnd, Integer.BYTES, bytes, i);
+    }
+  }
+
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  @Override protected void fillBytes(final ByteBuffer buffer) {
+    long state = skip((buffer.remaining() + (Integer.BYTES - 1)) / Integer.BYTES);
+    while (buffer.remaining() >= Integer.BYTES) {
+      buffer.putInt(outputFunction(state));
+      state = (state * MULTIPLIER) + INCREMENT;
+    }
+    int rnd = outputFunction(state);
+    while (buffer.hasRemaining()) {
+      buffer.put((byte) rnd);
+      rnd >>= Byte.SIZE;
     }
   }
 
@@ -148,17 +217,40 @@ public class Pcg64Random extends BaseRandom implements SeekableRandom {
     }
   }
 
-  @SuppressWarnings("NumericCastThatLosesPrecision") @Override protected int next(final int bits) {
+  @Override protected int next(final int bits) {
     long oldInternal;
-    long newInternal;
-    do {
+    if (isUnsynchronized()) {
+      // No other thread can see this instance, so the compare-and-set can't fail
       oldInternal = internal.get();
-      newInternal = (oldInternal * MULTIPLIER) + INCREMENT;
-    } while (!internal.compareAndSet(oldInternal, newInternal));
+      internal.lazySet((oldInternal * MULTIPLIER) + INCREMENT);
+    } else {
+      long newInternal;
+      do {
+        oldInternal = internal.get();
+        newInternal = (oldInternal * MULTIPLIER) + INCREMENT;
+      } while (!internal.compareAndSet(oldInternal, newInternal));
+    }
+    return outputFunction(oldInternal) >>> (Integer.SIZE - bits);
+  }
+
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  private static int outputFunction(final long oldInternal) {
     // Calculate output function (XSH RR), uses old state for max ILP
     final int xorshifted = (int) (((oldInternal >>> ROTATION1) ^ oldInternal) >>> ROTATION2);
     final int rot = (int) (oldInternal >>> ROTATION3);
-    return ((xorshifted >>> rot) | (xorshifted << ((-rot) & MASK))) >>> (Integer.SIZE - bits);
+    return (xorshifted >>> rot) | (xorshifted << ((-rot) & MASK));
+  }
+
+  /**
+   * Returns a copy of this PRNG and advances this one past the part of the sequence the copy will
+   * use, so that the two don't overlap.
+   */
+  @Override protected BaseRandom createStreamSplit(final long distance) {
+    return splitBySeeking(distance);
+  }
+
+  @Override protected BaseRandom newInstanceWithSeed(final byte[] seed) {
+    return new Pcg64Random(seed);
   }
 
   @Override protected ToStringHelper addSubclassFields(final ToStringHelper original) {
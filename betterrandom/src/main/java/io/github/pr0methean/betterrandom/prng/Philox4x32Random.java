@@ -0,0 +1,281 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import com.google.common.base.MoreObjects.ToStringHelper;
+import io.github.pr0methean.betterrandom.SeekableRandom;
+import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+/**
+ * <p>A Java port of the Philox4x32-10 counter-based generator from Salmon et al., "Parallel Random
+ * Numbers: As Easy as 1, 2, 3" (the Random123 library). Each 128-bit counter value is mapped to
+ * 128 bits of output by 10 rounds of a keyed bijection, so the output at any position can be
+ * calculated in constant time, either by {@link #advance(long)} or without any instance at all by
+ * {@link #generateBlock(int[], int[], int[])}. This makes it well suited to reproducible parallel
+ * simulations: give each worker its own key with {@link #Philox4x32Random(long)}, and the workers'
+ * streams will be independent without any coordination.</p>
+ * <p>The seed is a 64-bit key followed by a 128-bit position, counted in 32-bit words of output;
+ * the Philox counter is the position divided by 4. Each call to {@link #nextInt()} consumes one
+ * word and each call to {@link #nextLong()} consumes two.</p>
+ *
+ * @author John K. Salmon, Mark A. Moraes, Ron O. Dror and David E. Shaw (algorithm and C++
+ *     implementation)
+ */
+public class Philox4x32Random extends BaseRandom implements SeekableRandom {
+
+  private static final long serialVersionUID = 6089622424346397744L;
+  private static final int KEY_SIZE_BYTES = Long.BYTES;
+  private static final int SEED_SIZE_BYTES = KEY_SIZE_BYTES + 2 * Long.BYTES;
+  private static final int WORDS_PER_BLOCK = 4;
+  private static final int ROUNDS = 10;
+  private static final long MULTIPLIER_0 = 0xD2511F53L;
+  private static final long MULTIPLIER_1 = 0xCD9E8D57L;
+  private static final int KEY_INCREMENT_0 = 0x9E3779B9;
+  private static final int KEY_INCREMENT_1 = 0xBB67AE85;
+
+  // WARNING: Don't initialize any instance fields at declaration; they may be initialized too late!
+  private int key0;
+  private int key1;
+  /**
+   * Most significant half of the position of the next word of output.
+   */
+  private long positionHigh;
+  /**
+   * Least significant half of the position of the next word of output.
+   */
+  private long positionLow;
+  /**
+   * The output for the counter {@code position / 4}, if {@link #blockValid} is true.
+   */
+  private transient int[] block;
+  private transient boolean blockValid;
+
+  /**
+   * Creates a new PRNG with a seed from the {@link DefaultSeedGenerator}.
+   *
+   * @throws SeedException if the {@link DefaultSeedGenerator} fails to generate a seed
+   */
+  public Philox4x32Random() throws SeedException {
+    this(DefaultSeedGenerator.DEFAULT_SEED_GENERATOR);
+  }
+
+  /**
+   * Creates a new PRNG with a seed from the provided {@link SeedGenerator}.
+   *
+   * @param seedGenerator the seed generator that will generate the initial seed
+   * @throws SeedException if {@code seedGenerator} fails to generate a seed
+   */
+  @EntryPoint public Philox4x32Random(final SeedGenerator seedGenerator) throws SeedException {
+    this(seedGenerator.generateSeed(SEED_SIZE_BYTES));
+  }
+
+  /**
+   * Creates a new PRNG with the provided seed.
+   *
+   * @param seed the seed; must be exactly 24 bytes: an 8-byte key and a 16-byte position
+   */
+  @EntryPoint public Philox4x32Random(final byte[] seed) {
+    super(seed);
+  }
+
+  /**
+   * Creates a new PRNG with the given key, starting at position zero. PRNGs with different keys
+   * produce independent streams.
+   *
+   * @param key the key
+   */
+  @EntryPoint public Philox4x32Random(final long key) {
+    this(seedForKey(key));
+  }
+
+  private static byte[] seedForKey(final long key) {
+    final byte[] seed = new byte[SEED_SIZE_BYTES];
+    BinaryUtils.convertLongToBytes(key, seed, 0);
+    return seed;
+  }
+
+  /**
+   * Calculates the output of Philox4x32-10 for a single counter value, using no shared state.
+   *
+   * @param key the key, as 2 words
+   * @param counter the counter, as 4 words, least significant first
+   * @param output an array of at least 4 words, which will receive the output
+   */
+  public static void generateBlock(final int[] key, final int[] counter, final int[] output) {
+    philox(counter[0], counter[1], counter[2], counter[3], key[0], key[1], output);
+  }
+
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  private static void philox(int c0, int c1, int c2, int c3, int k0, int k1, final int[] output) {
+    for (int round = 0; round < ROUNDS; round++) {
+      final long product0 = MULTIPLIER_0 * (c0 & 0xFFFFFFFFL);
+      final long product1 = MULTIPLIER_1 * (c2 & 0xFFFFFFFFL);
+      final int newC0 = ((int) (product1 >>> 32)) ^ c1 ^ k0;
+      final int newC2 = ((int) (product0 >>> 32)) ^ c3 ^ k1;
+      c1 = (int) product1;
+      c3 = (int) product0;
+      c0 = newC0;
+      c2 = newC2;
+      k0 += KEY_INCREMENT_0;
+      k1 += KEY_INCREMENT_1;
+    }
+    output[0] = c0;
+    output[1] = c1;
+    output[2] = c2;
+    output[3] = c3;
+  }
+
+  /**
+   * Sets the key to the given value and the position to zero.
+   *
+   * @param seed the new key
+   */
+  @Override public void setSeed(final long seed) {
+    if (superConstructorFinished) {
+      setSeed(seedForKey(seed));
+    }
+  }
+
+  @Override public byte[] getSeed() {
+    lock.lock();
+    try {
+      copyStateToSeed();
+      return seed.clone();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void copyStateToSeed() {
+    BinaryUtils.convertIntToBytes(key1, seed, 0);
+    BinaryUtils.convertIntToBytes(key0, seed, Integer.BYTES);
+    BinaryUtils.convertLongToBytes(positionHigh, seed, KEY_SIZE_BYTES);
+    BinaryUtils.convertLongToBytes(positionLow, seed, KEY_SIZE_BYTES + Long.BYTES);
+  }
+
+  @Override protected void setSeedInternal(final byte[] seed) {
+    super.setSeedInternal(seed);
+    key1 = BinaryUtils.convertBytesToInt(seed, 0);
+    key0 = BinaryUtils.convertBytesToInt(seed, Integer.BYTES);
+    positionHigh = BinaryUtils.convertBytesToLong(seed, KEY_SIZE_BYTES);
+    positionLow = BinaryUtils.convertBytesToLong(seed, KEY_SIZE_BYTES + Long.BYTES);
+    blockValid = false;
+  }
+
+  @Override public void advance(final long delta) {
+    lock.lock();
+    try {
+      // 128-bit addition of the sign-extended delta
+      final long oldLow = positionLow;
+      positionLow += delta;
+      positionHigh += (delta >> (Long.SIZE - 1))
+          + ((Long.compareUnsigned(positionLow, oldLow) < 0) ? 1 : 0);
+      blockValid = false;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the next word of output and advances the position. Caller must hold {@link #lock}.
+   *
+   * @return the next pseudorandom {@code int}
+   */
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  private int nextIntLocked() {
+    final int index = (int) positionLow & (WORDS_PER_BLOCK - 1);
+    if (index == 0 || !blockValid) {
+      if (block == null) {
+        block = new int[WORDS_PER_BLOCK];
+      }
+      final long counterLow = (positionLow >>> 2) | (positionHigh << (Long.SIZE - 2));
+      final long counterHigh = positionHigh >>> 2;
+      philox((int) counterLow, (int) (counterLow >>> 32), (int) counterHigh,
+          (int) (counterHigh >>> 32), key0, key1, block);
+      blockValid = true;
+    }
+    if (++positionLow == 0) {
+      positionHigh++;
+    }
+    return block[index];
+  }
+
+  @Override protected int next(final int bits) {
+    lock.lock();
+    try {
+      return nextIntLocked() >>> (Integer.SIZE - bits);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected long nextLongNoEntropyDebit() {
+    lock.lock();
+    try {
+      return ((long) nextIntLocked() << 32) + nextIntLocked();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected void fillInts(final int[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = nextIntLocked();
+    }
+  }
+
+  @Override protected void fillLongs(final long[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = ((long) nextIntLocked() << 32) + nextIntLocked();
+    }
+  }
+
+  @Override protected void fillBytes(final byte[] bytes) {
+    int i = 0;
+    while (i < bytes.length) {
+      i = unpackWord(nextIntLocked(), Integer.BYTES, bytes, i);
+    }
+  }
+
+  /**
+   * Returns a copy of this PRNG and advances this one past the part of the sequence the copy will
+   * use, so that the two don't overlap.
+   */
+  @Override protected BaseRandom createStreamSplit(final long distance) {
+    return splitBySeeking(distance);
+  }
+
+  @Override protected BaseRandom newInstanceWithSeed(final byte[] seed) {
+    return new Philox4x32Random(seed);
+  }
+
+  @Override protected ToStringHelper addSubclassFields(final ToStringHelper original) {
+    return original.add("key0", key0).add("key1", key1).add("positionHigh", positionHigh)
+        .add("positionLow", positionLow);
+  }
+
+  /**
+   * Returns 2, because each {@code long} is made from two 32-bit words.
+   */
+  @Override protected int getStepsPerLong() {
+    return 2;
+  }
+
+  @Override public int getNewSeedLength() {
+    return SEED_SIZE_BYTES;
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    lock.lock();
+    try {
+      copyStateToSeed();
+    } finally {
+      lock.unlock();
+    }
+    out.defaultWriteObject();
+  }
+}
@@ -0,0 +1,204 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import javax.annotation.Nullable;
+
+/**
+ * <p>Spliterators that back the streams returned by {@link BaseRandom}. When traversed
+ * sequentially, each element is simply the result of applying the generator function to the PRNG,
+ * so the output is the same as repeated calls to the corresponding {@code next} method. When
+ * split, the prefix is handed to a child PRNG from {@link BaseRandom#createStreamSplit(long)} if
+ * the parent provides one, so that parallel workers don't contend for one PRNG's lock; otherwise
+ * the parent is shared.</p>
+ * <p>Each spliterator also tracks a span of the parent's sequence that it expects to use; splitting
+ * halves it. The span counts steps of the PRNG, not elements. A seekable parent gives the child a
+ * copy of itself and then advances past the child's half, so the two halves are disjoint parts of
+ * the same sequence and can only overlap if one of them uses more steps than its span. Since the
+ * root span is far longer than any stream will consume, and splitting stops once the span falls
+ * below {@link #MIN_SPAN}, that doesn't happen in practice.</p>
+ *
+ * @param <T> the type of the functional interface that generates each element
+ */
+abstract class RandomSpliterator<T> {
+
+  /**
+   * The span of the root spliterator, in steps of the PRNG.
+   */
+  static final long ROOT_SPAN = 1L << 62;
+  /**
+   * Spliterators whose span is smaller than this won't split.
+   */
+  static final long MIN_SPAN = 1L << 32;
+  private static final int CHARACTERISTICS =
+      Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+  protected final BaseRandom random;
+  protected final T generator;
+  protected final long fence;
+  protected long index;
+  protected long span;
+
+  /**
+   * Creates an instance.
+   *
+   * @param random the PRNG to use until split
+   * @param index the index of the first element to generate
+   * @param fence one past the index of the last element to generate; {@link Long#MAX_VALUE} for
+   *     an effectively unlimited stream
+   * @param span how many steps of {@code random}'s sequence this spliterator may use
+   * @param generator generates each element from a PRNG
+   */
+  protected RandomSpliterator(final BaseRandom random, final long index, final long fence,
+      final long span, final T generator) {
+    this.random = random;
+    this.index = index;
+    this.fence = fence;
+    this.span = span;
+    this.generator = generator;
+  }
+
+  /**
+   * Finds the PRNG for the first half of this spliterator's remaining elements, and updates this
+   * spliterator's index and span to cover only the second half.
+   *
+   * @return the PRNG for the child spliterator, or null if this spliterator shouldn't split
+   */
+  @Nullable protected BaseRandom splitRandom() {
+    final long mid = (index + fence) >>> 1;
+    if (mid <= index || span < MIN_SPAN) {
+      return null;
+    }
+    final long childSpan = span >>> 1;
+    BaseRandom child = random.createStreamSplit(childSpan);
+    if (child == null) {
+      if (random.isUnsynchronized()) {
+        // Can't be shared with another thread
+        return null;
+      }
+      child = random;
+    } else {
+      span -= childSpan;
+    }
+    index = mid;
+    return child;
+  }
+
+  public long estimateSize() {
+    return fence - index;
+  }
+
+  public int characteristics() {
+    return CHARACTERISTICS;
+  }
+
+  /**
+   * Spliterator of {@code int} values.
+   */
+  static final class IntSpliterator extends RandomSpliterator<ToIntFunction<BaseRandom>>
+      implements Spliterator.OfInt {
+
+    IntSpliterator(final BaseRandom random, final long index, final long fence, final long span,
+        final ToIntFunction<BaseRandom> generator) {
+      super(random, index, fence, span, generator);
+    }
+
+    @Nullable @Override public IntSpliterator trySplit() {
+      final long oldIndex = index;
+      final long oldSpan = span;
+      final BaseRandom child = splitRandom();
+      return (child == null) ? null : new IntSpliterator(child, oldIndex, index,
+          (child == random) ? oldSpan : oldSpan - span, generator);
+    }
+
+    @Override public boolean tryAdvance(final IntConsumer action) {
+      if (index >= fence) {
+        return false;
+      }
+      action.accept(generator.applyAsInt(random));
+      index++;
+      return true;
+    }
+
+    @Override public void forEachRemaining(final IntConsumer action) {
+      for (; index < fence; index++) {
+        action.accept(generator.applyAsInt(random));
+      }
+    }
+  }
+
+  /**
+   * Spliterator of {@code long} values.
+   */
+  static final class LongSpliterator extends RandomSpliterator<ToLongFunction<BaseRandom>>
+      implements Spliterator.OfLong {
+
+    LongSpliterator(final BaseRandom random, final long index, final long fence, final long span,
+        final ToLongFunction<BaseRandom> generator) {
+      super(random, index, fence, span, generator);
+    }
+
+    @Nullable @Override public LongSpliterator trySplit() {
+      final long oldIndex = index;
+      final long oldSpan = span;
+      final BaseRandom child = splitRandom();
+      return (child == null) ? null : new LongSpliterator(child, oldIndex, index,
+          (child == random) ? oldSpan : oldSpan - span, generator);
+    }
+
+    @Override public boolean tryAdvance(final LongConsumer action) {
+      if (index >= fence) {
+        return false;
+      }
+      action.accept(generator.applyAsLong(random));
+      index++;
+      return true;
+    }
+
+    @Override public void forEachRemaining(final LongConsumer action) {
+      for (; index < fence; index++) {
+        action.accept(generator.applyAsLong(random));
+      }
+    }
+  }
+
+  /**
+   * Spliterator of {@code double} values.
+   */
+  static final class DoubleSpliterator extends RandomSpliterator<ToDoubleFunction<BaseRandom>>
+      implements Spliterator.OfDouble {
+
+    DoubleSpliterator(final BaseRandom random, final long index, final long fence, final long span,
+        final ToDoubleFunction<BaseRandom> generator) {
+      super(random, index, fence, span, generator);
+    }
+
+    @Nullable @Override public DoubleSpliterator trySplit() {
+      final long oldIndex = index;
+      final long oldSpan = span;
+      final BaseRandom child = splitRandom();
+      return (child == null) ? null : new DoubleSpliterator(child, oldIndex, index,
+          (child == random) ? oldSpan : oldSpan - span, generator);
+    }
+
+    @Override public boolean tryAdvance(final DoubleConsumer action) {
+      if (index >= fence) {
+        return false;
+      }
+      action.accept(generator.applyAsDouble(random));
+      index++;
+      return true;
+    }
+
+    @Override public void forEachRemaining(final DoubleConsumer action) {
+      for (; index < fence; index++) {
+        action.accept(generator.applyAsDouble(random));
+      }
+    }
+  }
+}
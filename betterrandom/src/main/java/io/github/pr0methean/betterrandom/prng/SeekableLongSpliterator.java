@@ -0,0 +1,93 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import io.github.pr0methean.betterrandom.SeekableRandom;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import javax.annotation.Nullable;
+
+/**
+ * Spliterator that backs {@link BaseRandom#parallelLongs(long)}. Each instance has its own copy of
+ * a {@link SeekableRandom} PRNG, positioned at the start of the part of the stream it covers. When
+ * split, the prefix goes to a fresh copy and this instance's PRNG is advanced past it, so every
+ * element is the same as it would be in the sequential stream, however the work is divided.
+ */
+final class SeekableLongSpliterator implements Spliterator.OfLong {
+
+  /**
+   * Spliterators with fewer elements than twice this won't split, since each split makes a copy
+   * of the PRNG.
+   */
+  static final long MIN_CHUNK_SIZE = 1 << 12;
+  private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED
+      | Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+  private final BaseRandom random;
+  private final long fence;
+  private long index;
+
+  /**
+   * Creates an instance.
+   *
+   * @param random a PRNG that implements {@link SeekableRandom}, positioned at element
+   *     {@code index}, and used only by this spliterator
+   * @param index the index of the first element to generate
+   * @param fence one past the index of the last element to generate
+   */
+  SeekableLongSpliterator(final BaseRandom random, final long index, final long fence) {
+    this.random = random;
+    this.index = index;
+    this.fence = fence;
+  }
+
+  /**
+   * Advances a {@link SeekableRandom} past the given number of calls to {@link
+   * BaseRandom#nextLong()}.
+   *
+   * @param random a PRNG that implements {@link SeekableRandom}
+   * @param count the number of {@code long}s to skip
+   */
+  static void skipLongs(final BaseRandom random, final long count) {
+    // Advance once per step, rather than multiplying, so that huge counts can't overflow
+    for (int i = 0; i < random.getStepsPerLong(); i++) {
+      ((SeekableRandom) random).advance(count);
+    }
+  }
+
+  @Nullable @Override public SeekableLongSpliterator trySplit() {
+    final long size = fence - index;
+    if (size < (2 * MIN_CHUNK_SIZE)) {
+      return null;
+    }
+    final BaseRandom child = random.createCopy();
+    if (child == null) {
+      return null;
+    }
+    final long oldIndex = index;
+    index += size >>> 1;
+    skipLongs(random, index - oldIndex);
+    return new SeekableLongSpliterator(child, oldIndex, index);
+  }
+
+  @Override public boolean tryAdvance(final LongConsumer action) {
+    if (index >= fence) {
+      return false;
+    }
+    action.accept(random.nextLong());
+    index++;
+    return true;
+  }
+
+  @Override public void forEachRemaining(final LongConsumer action) {
+    for (; index < fence; index++) {
+      action.accept(random.nextLong());
+    }
+  }
+
+  @Override public long estimateSize() {
+    return fence - index;
+  }
+
+  @Override public int characteristics() {
+    return CHARACTERISTICS;
+  }
+}
@@ -0,0 +1,334 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import com.google.common.base.MoreObjects.ToStringHelper;
+import io.github.pr0methean.betterrandom.SeekableRandom;
+import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * <p>A Java port of the Threefry4x64-20 counter-based generator from Salmon et al., "Parallel
+ * Random Numbers: As Easy as 1, 2, 3" (the Random123 library), which is based on the Threefish
+ * block cipher. Each 256-bit counter value is mapped to 256 bits of output by 20 rounds keyed with
+ * a 256-bit key, so the output at any position can be calculated in constant time, either by
+ * {@link #advance(long)} or without any instance at all by {@link #generateBlock(long[], long[],
+ * long[])}. This makes it well suited to reproducible parallel simulations: give each worker its
+ * own key with {@link #Threefry4x64Random(long)}, and the workers' streams will be independent
+ * without any coordination.</p>
+ * <p>The seed is a 256-bit key followed by a 128-bit position, counted in 64-bit words of output;
+ * the least significant 128 bits of the Threefry counter are the position divided by 4, and the
+ * rest are zero. Each step produces 64 bits, so {@link #nextInt()} and {@link #nextLong()} both
+ * advance the position by one.</p>
+ *
+ * @author John K. Salmon, Mark A. Moraes, Ron O. Dror and David E. Shaw (algorithm and C++
+ *     implementation)
+ */
+public class Threefry4x64Random extends BaseRandom implements SeekableRandom {
+
+  private static final long serialVersionUID = -3003962961426431640L;
+  private static final int KEY_SIZE_BYTES = 4 * Long.BYTES;
+  private static final int SEED_SIZE_BYTES = KEY_SIZE_BYTES + 2 * Long.BYTES;
+  private static final int WORDS_PER_BLOCK = 4;
+  private static final int ROUNDS = 20;
+  private static final double DOUBLE_UNIT = 0x1.0p-53;
+  /**
+   * Key schedule parity constant.
+   */
+  private static final long PARITY = 0x1BD11BDAA9FC1A22L;
+  private static final int[][] ROTATIONS =
+      {{14, 16}, {52, 57}, {23, 40}, {5, 37}, {25, 33}, {46, 12}, {58, 22}, {32, 32}};
+
+  // WARNING: Don't initialize any instance fields at declaration; they may be initialized too late!
+  /**
+   * The key, followed by the parity word of the key schedule.
+   */
+  private transient long[] keySchedule;
+  /**
+   * Most significant half of the position of the next word of output.
+   */
+  private long positionHigh;
+  /**
+   * Least significant half of the position of the next word of output.
+   */
+  private long positionLow;
+  /**
+   * The output for the counter {@code position / 4}, if {@link #blockValid} is true.
+   */
+  private transient long[] block;
+  private transient boolean blockValid;
+
+  /**
+   * Creates a new PRNG with a seed from the {@link DefaultSeedGenerator}.
+   *
+   * @throws SeedException if the {@link DefaultSeedGenerator} fails to generate a seed
+   */
+  public Threefry4x64Random() throws SeedException {
+    this(DefaultSeedGenerator.DEFAULT_SEED_GENERATOR);
+  }
+
+  /**
+   * Creates a new PRNG with a seed from the provided {@link SeedGenerator}.
+   *
+   * @param seedGenerator the seed generator that will generate the initial seed
+   * @throws SeedException if {@code seedGenerator} fails to generate a seed
+   */
+  @EntryPoint public Threefry4x64Random(final SeedGenerator seedGenerator) throws SeedException {
+    this(seedGenerator.generateSeed(SEED_SIZE_BYTES));
+  }
+
+  /**
+   * Creates a new PRNG with the provided seed.
+   *
+   * @param seed the seed; must be exactly 48 bytes: a 32-byte key and a 16-byte position
+   */
+  @EntryPoint public Threefry4x64Random(final byte[] seed) {
+    super(seed);
+  }
+
+  /**
+   * Creates a new PRNG whose key's first word is the given value and whose other key words are
+   * zero, starting at position zero. PRNGs with different keys produce independent streams.
+   *
+   * @param key the first word of the key
+   */
+  @EntryPoint public Threefry4x64Random(final long key) {
+    this(seedForKey(key));
+  }
+
+  private static byte[] seedForKey(final long key) {
+    final byte[] seed = new byte[SEED_SIZE_BYTES];
+    BinaryUtils.convertLongToBytes(key, seed, 0);
+    return seed;
+  }
+
+  /**
+   * Calculates the output of Threefry4x64-20 for a single counter value, using no shared state.
+   *
+   * @param key the key, as 4 words
+   * @param counter the counter, as 4 words, least significant first
+   * @param output an array of at least 4 words, which will receive the output
+   */
+  public static void generateBlock(final long[] key, final long[] counter, final long[] output) {
+    threefry(counter[0], counter[1], counter[2], counter[3], createKeySchedule(key), output);
+  }
+
+  private static long[] createKeySchedule(final long[] key) {
+    return new long[]{key[0], key[1], key[2], key[3], PARITY ^ key[0] ^ key[1] ^ key[2] ^ key[3]};
+  }
+
+  private static void threefry(final long c0, final long c1, final long c2, final long c3,
+      final long[] ks, final long[] output) {
+    long x0 = c0 + ks[0];
+    long x1 = c1 + ks[1];
+    long x2 = c2 + ks[2];
+    long x3 = c3 + ks[3];
+    for (int round = 0; round < ROUNDS; round++) {
+      final int[] rotation = ROTATIONS[round & 7];
+      if ((round & 1) == 0) {
+        x0 += x1;
+        x1 = Long.rotateLeft(x1, rotation[0]) ^ x0;
+        x2 += x3;
+        x3 = Long.rotateLeft(x3, rotation[1]) ^ x2;
+      } else {
+        x0 += x3;
+        x3 = Long.rotateLeft(x3, rotation[0]) ^ x0;
+        x2 += x1;
+        x1 = Long.rotateLeft(x1, rotation[1]) ^ x2;
+      }
+      if ((round & 3) == 3) {
+        // Inject the key every 4 rounds
+        final int injection = (round + 1) >> 2;
+        x0 += ks[injection % 5];
+        x1 += ks[(injection + 1) % 5];
+        x2 += ks[(injection + 2) % 5];
+        x3 += ks[(injection + 3) % 5] + injection;
+      }
+    }
+    output[0] = x0;
+    output[1] = x1;
+    output[2] = x2;
+    output[3] = x3;
+  }
+
+  /**
+   * Sets the first word of the key to the given value, the other key words to zero, and the
+   * position to zero.
+   *
+   * @param seed the new first word of the key
+   */
+  @Override public void setSeed(final long seed) {
+    if (superConstructorFinished) {
+      setSeed(seedForKey(seed));
+    }
+  }
+
+  @Override public byte[] getSeed() {
+    lock.lock();
+    try {
+      copyStateToSeed();
+      return seed.clone();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void copyStateToSeed() {
+    BinaryUtils.convertLongToBytes(positionHigh, seed, KEY_SIZE_BYTES);
+    BinaryUtils.convertLongToBytes(positionLow, seed, KEY_SIZE_BYTES + Long.BYTES);
+  }
+
+  @Override protected void setSeedInternal(final byte[] seed) {
+    super.setSeedInternal(seed);
+    final long[] key = new long[4];
+    for (int i = 0; i < key.length; i++) {
+      key[i] = BinaryUtils.convertBytesToLong(seed, i * Long.BYTES);
+    }
+    keySchedule = createKeySchedule(key);
+    positionHigh = BinaryUtils.convertBytesToLong(seed, KEY_SIZE_BYTES);
+    positionLow = BinaryUtils.convertBytesToLong(seed, KEY_SIZE_BYTES + Long.BYTES);
+    blockValid = false;
+  }
+
+  @Override public void advance(final long delta) {
+    lock.lock();
+    try {
+      // 128-bit addition of the sign-extended delta
+      final long oldLow = positionLow;
+      positionLow += delta;
+      positionHigh += (delta >> (Long.SIZE - 1))
+          + ((Long.compareUnsigned(positionLow, oldLow) < 0) ? 1 : 0);
+      blockValid = false;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the next word of output and advances the position. Caller must hold {@link #lock}.
+   *
+   * @return the next pseudorandom {@code long}
+   */
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  private long nextLongLocked() {
+    final int index = (int) positionLow & (WORDS_PER_BLOCK - 1);
+    if (index == 0 || !blockValid) {
+      if (block == null) {
+        block = new long[WORDS_PER_BLOCK];
+      }
+      threefry((positionLow >>> 2) | (positionHigh << (Long.SIZE - 2)), positionHigh >>> 2, 0, 0,
+          keySchedule, block);
+      blockValid = true;
+    }
+    if (++positionLow == 0) {
+      positionHigh++;
+    }
+    return block[index];
+  }
+
+  @Override protected int next(final int bits) {
+    return (int) (nextLongNoEntropyDebit() >>> (Long.SIZE - bits));
+  }
+
+  @Override protected long nextLongNoEntropyDebit() {
+    lock.lock();
+    try {
+      return nextLongLocked();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected double nextDoubleNoEntropyDebit() {
+    return (nextLongNoEntropyDebit() >>> (Long.SIZE - ENTROPY_OF_DOUBLE)) * DOUBLE_UNIT;
+  }
+
+  @Override protected void fillInts(final int[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = (int) (nextLongLocked() >>> Integer.SIZE);
+    }
+  }
+
+  @Override protected void fillLongs(final long[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = nextLongLocked();
+    }
+  }
+
+  @Override protected void fillDoubles(final double[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = (nextLongLocked() >>> (Long.SIZE - ENTROPY_OF_DOUBLE)) * DOUBLE_UNIT;
+    }
+  }
+
+  @Override protected void fillFloats(final float[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = (nextLongLocked() >>> (Long.SIZE - ENTROPY_OF_FLOAT)) * FLOAT_UNIT;
+    }
+  }
+
+  /**
+   * Copies 8 bytes from each step, rather than the 4 that the inherited implementation would use.
+   */
+  @Override protected void fillBytes(final byte[] bytes) {
+    int i = 0;
+    while (i < bytes.length) {
+      i = unpackWord(nextLongLocked(), Long.BYTES, bytes, i);
+    }
+  }
+
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  @Override protected void fillBytes(final ByteBuffer buffer) {
+    while (buffer.remaining() >= Long.BYTES) {
+      buffer.putLong(nextLongLocked());
+    }
+    if (buffer.hasRemaining()) {
+      long rnd = nextLongLocked();
+      while (buffer.hasRemaining()) {
+        buffer.put((byte) rnd);
+        rnd >>= Byte.SIZE;
+      }
+    }
+  }
+
+  @Override protected void fillLongs(final LongBuffer buffer) {
+    while (buffer.hasRemaining()) {
+      buffer.put(nextLongLocked());
+    }
+  }
+
+  /**
+   * Returns a copy of this PRNG and advances this one past the part of the sequence the copy will
+   * use, so that the two don't overlap.
+   */
+  @Override protected BaseRandom createStreamSplit(final long distance) {
+    return splitBySeeking(distance);
+  }
+
+  @Override protected BaseRandom newInstanceWithSeed(final byte[] seed) {
+    return new Threefry4x64Random(seed);
+  }
+
+  @Override protected ToStringHelper addSubclassFields(final ToStringHelper original) {
+    return original.add("positionHigh", positionHigh).add("positionLow", positionLow);
+  }
+
+  @Override public int getNewSeedLength() {
+    return SEED_SIZE_BYTES;
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    lock.lock();
+    try {
+      copyStateToSeed();
+    } finally {
+      lock.unlock();
+    }
+    out.defaultWriteObject();
+  }
+}
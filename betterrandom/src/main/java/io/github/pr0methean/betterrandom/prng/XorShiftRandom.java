@@ -120,19 +120,46 @@ public class XorShiftRandom extends BaseRandom {
   @Override protected int next(final int bits) {
     lock.lock();
     try {
-      final int t = (state1 ^ (state1 >> 7));
-      state1 = state2;
-      state2 = state3;
-      state3 = state4;
-      state4 = state5;
-      state5 = (state5 ^ (state5 << 6)) ^ (t ^ (t << 13));
-      final int value = (state2 + state2 + 1) * state5;
-      return value >>> (32 - bits);
+      return nextIntLocked() >>> (32 - bits);
     } finally {
       lock.unlock();
     }
   }
 
+  @Override protected void fillInts(final int[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = nextIntLocked();
+    }
+  }
+
+  @Override protected void fillLongs(final long[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = ((long) nextIntLocked() << 32) + nextIntLocked();
+    }
+  }
+
+  @Override protected void fillBytes(final byte[] bytes) {
+    int i = 0;
+    while (i < bytes.length) {
+      i = unpackWord(nextIntLocked(), Integer.BYTES, bytes, i);
+    }
+  }
+
+  /**
+   * Generates the next 32 pseudorandom bits. Caller must hold {@link #lock}.
+   *
+   * @return the next pseudorandom {@code int}
+   */
+  private int nextIntLocked() {
+    final int t = (state1 ^ (state1 >> 7));
+    state1 = state2;
+    state2 = state3;
+    state3 = state4;
+    state4 = state5;
+    state5 = (state5 ^ (state5 << 6)) ^ (t ^ (t << 13));
+    return (state2 + state2 + 1) * state5;
+  }
+
   @Override public int getNewSeedLength() {
     return SEED_SIZE_BYTES;
   }
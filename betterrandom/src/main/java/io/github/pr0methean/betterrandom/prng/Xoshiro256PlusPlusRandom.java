@@ -0,0 +1,57 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+
+/**
+ * A Java port of the xoshiro256++ generator, whose scrambler adds the first and last words of the
+ * state. Very fast, and statistically strong in all output bits; a good non-cryptographic default.
+ * See {@link Xoshiro256Random} for details.
+ *
+ * @author David Blackman and Sebastiano Vigna (algorithm and C implementation)
+ */
+public class Xoshiro256PlusPlusRandom extends Xoshiro256Random {
+
+  private static final long serialVersionUID = -4722317829390384027L;
+
+  /**
+   * Creates a new PRNG with a seed from the {@link DefaultSeedGenerator}.
+   *
+   * @throws SeedException if the {@link DefaultSeedGenerator} fails to generate a seed
+   */
+  public Xoshiro256PlusPlusRandom() throws SeedException {
+    this(DefaultSeedGenerator.DEFAULT_SEED_GENERATOR);
+  }
+
+  /**
+   * Creates a new PRNG with a seed from the provided {@link SeedGenerator}.
+   *
+   * @param seedGenerator the seed generator that will generate the initial seed
+   * @throws SeedException if {@code seedGenerator} fails to generate a seed
+   */
+  @EntryPoint public Xoshiro256PlusPlusRandom(final SeedGenerator seedGenerator)
+      throws SeedException {
+    this(seedGenerator.generateSeed(SEED_SIZE_BYTES));
+  }
+
+  /**
+   * Creates a new PRNG with the provided seed.
+   *
+   * @param seed the seed; must be exactly 32 bytes
+   */
+  @EntryPoint public Xoshiro256PlusPlusRandom(final byte[] seed) {
+    super(seed);
+  }
+
+  @Override protected BaseRandom newInstanceWithSeed(final byte[] seed) {
+    return new Xoshiro256PlusPlusRandom(seed);
+  }
+
+  @Override protected long nextLongLocked() {
+    final long result = Long.rotateLeft(state0 + state3, 23) + state0;
+    step();
+    return result;
+  }
+}
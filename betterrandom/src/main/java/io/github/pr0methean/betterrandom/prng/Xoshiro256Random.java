@@ -0,0 +1,305 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import com.google.common.base.MoreObjects.ToStringHelper;
+import io.github.pr0methean.betterrandom.SeekableRandom;
+import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * <p>Common superclass of the xoshiro256 family of generators by David Blackman and Sebastiano
+ * Vigna, described at <a href="http://prng.di.unimi.it/">http://prng.di.unimi.it/</a>. They share a
+ * 256-bit linear engine with a period of 2<sup>256</sup> - 1, and differ only in the scrambler that
+ * turns its state into output. Each step produces 64 bits, so {@link #nextInt()} and {@link
+ * #nextLong()} both advance the state by one step. This PRNG is seekable: {@link #advance(long)}
+ * jumps by any distance in either direction, and {@link #jump()} and {@link #longJump()} use the
+ * published jump polynomials.</p>
+ * <p>The all-zero state is a fixed point of the engine, so an all-zero seed is replaced by a
+ * fixed nonzero state.</p>
+ *
+ * @author David Blackman and Sebastiano Vigna (algorithm and C implementation)
+ */
+public abstract class Xoshiro256Random extends BaseRandom implements SeekableRandom {
+
+  private static final long serialVersionUID = -3361484779493934516L;
+  /**
+   * The seed size in bytes.
+   */
+  protected static final int SEED_SIZE_BYTES = 4 * Long.BYTES;
+  private static final double DOUBLE_UNIT = 0x1.0p-53;
+  private static final long ZERO_SEED_REPLACEMENT = 0x9E3779B97F4A7C15L;
+  /**
+   * Equivalent to 2<sup>128</sup> calls to {@link #nextLong()}.
+   */
+  private static final long[] JUMP =
+      {0x180ec6d33cfd0abaL, 0xd5a61266f0c9392cL, 0xa9582618e03fc9aaL, 0x39abdc4529b1661cL};
+  /**
+   * Equivalent to 2<sup>192</sup> calls to {@link #nextLong()}.
+   */
+  private static final long[] LONG_JUMP =
+      {0x76e15d3efefdcbbfL, 0xc5004e441c522fb3L, 0x77710069854ee241L, 0x39109bb02acbe635L};
+  static final long[] CHARACTERISTIC_POLYNOMIAL;
+
+  static {
+    final long[] state = {ZERO_SEED_REPLACEMENT, 0, 0, 0};
+    CHARACTERISTIC_POLYNOMIAL = Gf2Polynomials.characteristicPolynomial(4 * Long.SIZE, () -> {
+      final long t = state[1] << 17;
+      state[2] ^= state[0];
+      state[3] ^= state[1];
+      state[1] ^= state[2];
+      state[0] ^= state[3];
+      state[2] ^= t;
+      state[3] = Long.rotateLeft(state[3], 45);
+      return (state[0] & 1) != 0;
+    });
+  }
+
+  // Separate fields rather than an array, for speed.
+  /**
+   * First word of the state.
+   */
+  protected long state0;
+  /**
+   * Second word of the state.
+   */
+  protected long state1;
+  /**
+   * Third word of the state.
+   */
+  protected long state2;
+  /**
+   * Fourth word of the state.
+   */
+  protected long state3;
+
+  /**
+   * Creates an instance with the given seed.
+   *
+   * @param seed the seed; must be exactly 32 bytes
+   */
+  protected Xoshiro256Random(final byte[] seed) {
+    super(seed);
+  }
+
+  /**
+   * Reseeds this PRNG using the {@link DefaultSeedGenerator}, since it needs a longer seed.
+   *
+   * @param seed ignored
+   */
+  @Override public void setSeed(final long seed) {
+    fallbackSetSeedIfInitialized();
+  }
+
+  @Override public byte[] getSeed() {
+    lock.lock();
+    try {
+      copyStateToSeed();
+      return seed.clone();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void copyStateToSeed() {
+    BinaryUtils.convertLongToBytes(state0, seed, 0);
+    BinaryUtils.convertLongToBytes(state1, seed, Long.BYTES);
+    BinaryUtils.convertLongToBytes(state2, seed, 2 * Long.BYTES);
+    BinaryUtils.convertLongToBytes(state3, seed, 3 * Long.BYTES);
+  }
+
+  @Override protected void setSeedInternal(final byte[] seed) {
+    super.setSeedInternal(seed);
+    state0 = BinaryUtils.convertBytesToLong(seed, 0);
+    state1 = BinaryUtils.convertBytesToLong(seed, Long.BYTES);
+    state2 = BinaryUtils.convertBytesToLong(seed, 2 * Long.BYTES);
+    state3 = BinaryUtils.convertBytesToLong(seed, 3 * Long.BYTES);
+    if ((state0 | state1 | state2 | state3) == 0) {
+      state0 = ZERO_SEED_REPLACEMENT;
+    }
+  }
+
+  /**
+   * Advances the linear engine by one step, without calculating any output. Caller must hold
+   * {@link #lock}.
+   */
+  protected final void step() {
+    final long t = state1 << 17;
+    state2 ^= state0;
+    state3 ^= state1;
+    state1 ^= state2;
+    state0 ^= state3;
+    state2 ^= t;
+    state3 = Long.rotateLeft(state3, 45);
+  }
+
+  /**
+   * Calculates the output from the current state, then calls {@link #step()}. Caller must hold
+   * {@link #lock}.
+   *
+   * @return the next pseudorandom {@code long}
+   */
+  protected abstract long nextLongLocked();
+
+  @Override public void advance(final long delta) {
+    if (delta == 0) {
+      return;
+    }
+    final long[] jumpPolynomial = Gf2Polynomials.powerOfX(CHARACTERISTIC_POLYNOMIAL, delta);
+    lock.lock();
+    try {
+      jumpLocked(jumpPolynomial);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Advances the state 2<sup>128</sup> steps. Can be used to generate 2<sup>128</sup>
+   * non-overlapping subsequences for parallel computations.
+   */
+  public void jump() {
+    lock.lock();
+    try {
+      jumpLocked(JUMP);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Advances the state 2<sup>192</sup> steps. Can be used to generate 2<sup>64</sup> starting
+   * points, from each of which {@link #jump()} will generate 2<sup>64</sup> non-overlapping
+   * subsequences for parallel distributed computations.
+   */
+  public void longJump() {
+    lock.lock();
+    try {
+      jumpLocked(LONG_JUMP);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void jumpLocked(final long[] jumpPolynomial) {
+    long new0 = 0;
+    long new1 = 0;
+    long new2 = 0;
+    long new3 = 0;
+    for (final long word : jumpPolynomial) {
+      for (int bit = 0; bit < Long.SIZE; bit++) {
+        if ((word & (1L << bit)) != 0) {
+          new0 ^= state0;
+          new1 ^= state1;
+          new2 ^= state2;
+          new3 ^= state3;
+        }
+        step();
+      }
+    }
+    state0 = new0;
+    state1 = new1;
+    state2 = new2;
+    state3 = new3;
+  }
+
+  @Override protected int next(final int bits) {
+    return (int) (nextLongNoEntropyDebit() >>> (Long.SIZE - bits));
+  }
+
+  @Override protected long nextLongNoEntropyDebit() {
+    lock.lock();
+    try {
+      return nextLongLocked();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override protected double nextDoubleNoEntropyDebit() {
+    return (nextLongNoEntropyDebit() >>> (Long.SIZE - ENTROPY_OF_DOUBLE)) * DOUBLE_UNIT;
+  }
+
+  @Override protected void fillInts(final int[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = (int) (nextLongLocked() >>> Integer.SIZE);
+    }
+  }
+
+  @Override protected void fillLongs(final long[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = nextLongLocked();
+    }
+  }
+
+  @Override protected void fillDoubles(final double[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = (nextLongLocked() >>> (Long.SIZE - ENTROPY_OF_DOUBLE)) * DOUBLE_UNIT;
+    }
+  }
+
+  @Override protected void fillFloats(final float[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = (nextLongLocked() >>> (Long.SIZE - ENTROPY_OF_FLOAT)) * FLOAT_UNIT;
+    }
+  }
+
+  /**
+   * Copies 8 bytes from each step, rather than the 4 that the inherited implementation would use.
+   */
+  @Override protected void fillBytes(final byte[] bytes) {
+    int i = 0;
+    while (i < bytes.length) {
+      i = unpackWord(nextLongLocked(), Long.BYTES, bytes, i);
+    }
+  }
+
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  @Override protected void fillBytes(final ByteBuffer buffer) {
+    while (buffer.remaining() >= Long.BYTES) {
+      buffer.putLong(nextLongLocked());
+    }
+    if (buffer.hasRemaining()) {
+      long rnd = nextLongLocked();
+      while (buffer.hasRemaining()) {
+        buffer.put((byte) rnd);
+        rnd >>= Byte.SIZE;
+      }
+    }
+  }
+
+  @Override protected void fillLongs(final LongBuffer buffer) {
+    while (buffer.hasRemaining()) {
+      buffer.put(nextLongLocked());
+    }
+  }
+
+  /**
+   * Returns a copy of this PRNG and advances this one past the part of the sequence the copy will
+   * use, so that the two don't overlap.
+   */
+  @Override protected BaseRandom createStreamSplit(final long distance) {
+    return splitBySeeking(distance);
+  }
+
+  @Override protected ToStringHelper addSubclassFields(final ToStringHelper original) {
+    return original.add("state0", state0).add("state1", state1).add("state2", state2)
+        .add("state3", state3);
+  }
+
+  @Override public int getNewSeedLength() {
+    return SEED_SIZE_BYTES;
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    lock.lock();
+    try {
+      copyStateToSeed();
+    } finally {
+      lock.unlock();
+    }
+    out.defaultWriteObject();
+  }
+}
@@ -0,0 +1,109 @@
+package io.github.pr0methean.betterrandom.prng;
+
+/**
+ * The Ziggurat method of Marsaglia and Tsang, "The Ziggurat Method for Generating Random
+ * Variables" (2000), for sampling the standard normal distribution. The positive half of the
+ * density is covered by 256 layers of equal area; about 99% of the time, one random {@code long}
+ * picks a layer, a sign and a point that lies entirely under the curve, so no logarithms, square
+ * roots or rejection loops are needed. Unlike the polar method, it doesn't produce values in pairs,
+ * so there's no spare value to cache and no lock to hold; and each value consumes exactly one
+ * {@code long} from the caller's PRNG.
+ */
+enum ZigguratGaussian {
+  ;
+
+  private static final int LAYERS = 256;
+  private static final int LAYER_MASK = LAYERS - 1;
+  private static final int SIGN_BIT = Integer.numberOfTrailingZeros(LAYERS);
+  private static final double DOUBLE_UNIT = 0x1.0p-53;
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+  /**
+   * Start of the tail, beyond which the base layer isn't a rectangle.
+   */
+  private static final double R = 3.6541528853610088;
+  /**
+   * The area of each layer, including the base layer's tail.
+   */
+  private static final double V = 4.92867323399e-3;
+  /**
+   * {@code X[i]} is the width of layer {@code i}; the base layer's width is that of a rectangle
+   * with the same area as the base layer including its tail. {@code X[LAYERS]} is zero.
+   */
+  private static final double[] X = new double[LAYERS + 1];
+  /**
+   * {@code F[i]} is the density at {@code X[i]}, up to the normalizing constant.
+   */
+  private static final double[] F = new double[LAYERS + 1];
+
+  static {
+    F[1] = density(R);
+    X[0] = V / F[1];
+    X[1] = R;
+    for (int i = 1; i < LAYERS - 1; i++) {
+      X[i + 1] = StrictMath.sqrt(-2 * StrictMath.log((V / X[i]) + F[i]));
+      F[i + 1] = density(X[i + 1]);
+    }
+    X[LAYERS] = 0;
+    F[0] = 0;
+    F[LAYERS] = 1;
+  }
+
+  private static double density(final double x) {
+    return StrictMath.exp(-0.5 * x * x);
+  }
+
+  /**
+   * The variant-13 finalizer of MurmurHash3, as used by {@link java.util.SplittableRandom}.
+   */
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  private static double toUnitInterval(final long bits) {
+    return (bits >>> (Long.SIZE - BaseRandom.ENTROPY_OF_DOUBLE)) * DOUBLE_UNIT;
+  }
+
+  /**
+   * Returns a standard normal variate that's a function of a single random {@code long}. The rare
+   * cases that need more random bits take them from a SplitMix64 sequence seeded with {@code bits},
+   * so that callers sharing a PRNG between threads don't need to lock it across several calls.
+   *
+   * @param bits a uniformly distributed random {@code long}
+   * @return a random number that is normally distributed with mean 0 and standard deviation 1
+   */
+  static double nextGaussian(long bits) {
+    long splitMixState = bits;
+    while (true) {
+      final int layer = (int) bits & LAYER_MASK;
+      final double x = toUnitInterval(bits) * X[layer];
+      final boolean negative = ((bits >>> SIGN_BIT) & 1) != 0;
+      if (x < X[layer + 1]) {
+        // Entirely under the curve
+        return negative ? -x : x;
+      }
+      if (layer == 0) {
+        // Tail, by Marsaglia's 1964 method
+        double tailX;
+        double tailY;
+        do {
+          splitMixState += GOLDEN_GAMMA;
+          tailX = -StrictMath.log(1.0 - toUnitInterval(mix64(splitMixState))) / R;
+          splitMixState += GOLDEN_GAMMA;
+          tailY = -StrictMath.log(1.0 - toUnitInterval(mix64(splitMixState)));
+        } while ((tailY + tailY) < (tailX * tailX));
+        return negative ? (-R - tailX) : (R + tailX);
+      }
+      // Wedge between the curve and the rectangle
+      splitMixState += GOLDEN_GAMMA;
+      final double y =
+          F[layer] + (toUnitInterval(mix64(splitMixState)) * (F[layer + 1] - F[layer]));
+      if (y < density(x)) {
+        return negative ? -x : x;
+      }
+      splitMixState += GOLDEN_GAMMA;
+      bits = mix64(splitMixState);
+    }
+  }
+}
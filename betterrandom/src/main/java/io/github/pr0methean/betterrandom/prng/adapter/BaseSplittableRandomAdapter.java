@@ -1,6 +1,9 @@
 package io.github.pr0methean.betterrandom.prng.adapter;
 
 import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
 import java.util.SplittableRandom;
 
 /**
@@ -12,7 +15,6 @@ import java.util.SplittableRandom;
 public abstract class BaseSplittableRandomAdapter extends BaseRandom {
 
   private static final long serialVersionUID = 4273652147052638879L;
-  private static final float FLOAT_MULTIPLIER = 1.0f / (1 << ENTROPY_OF_FLOAT);
 
   /**
    * Constructs an instance with the given seed.
@@ -52,9 +54,13 @@ public abstract class BaseSplittableRandomAdapter extends BaseRandom {
   /**
    * Delegates to {@link SplittableRandom#nextDouble(double, double) SplittableRandom.nextDouble
    * (origin,
-   * bound)}.
+   * bound)}, unless the width of the range overflows, which that method doesn't handle.
    */
   @Override public double nextDouble(final double origin, final double bound) {
+    checkValidRange(origin, bound);
+    if (Double.isInfinite(bound - origin)) {
+      return super.nextDouble(origin, bound);
+    }
     debitEntropy(ENTROPY_OF_DOUBLE);
     return getSplittableRandom().nextDouble(origin, bound);
   }
@@ -70,40 +76,60 @@ public abstract class BaseSplittableRandomAdapter extends BaseRandom {
   }
 
   /**
-   * Delegates to {@link SplittableRandom#nextInt(int) SplittableRandom.nextInt(256)}.
+   * Fills the array from {@link SplittableRandom#nextLong()}, 8 bytes at a time, then debits the
+   * entropy once.
    */
-  @SuppressWarnings("NumericCastThatLosesPrecision") @Override public void nextBytes(
-      final byte[] bytes) {
-    final int length = bytes.length;
-    for (int i = 0; i < length; i++) {
-      debitEntropy(Byte.SIZE); // May cause replacement before the next getSplittableRandom()
-      bytes[i] = (byte) (getSplittableRandom().nextInt(1 << Byte.SIZE));
+  @Override public void nextBytes(final byte[] bytes) {
+    final SplittableRandom splittableRandom = getSplittableRandom();
+    int i = 0;
+    while (i < bytes.length) {
+      i = unpackWord(splittableRandom.nextLong(), Long.BYTES, bytes, i);
     }
+    debitEntropy(Byte.SIZE * (long) bytes.length);
   }
 
   /**
-   * Delegates to {@link SplittableRandom#nextInt()}.
+   * Delegates to {@link SplittableRandom#nextLong()}, then debits the entropy once. Writes each
+   * {@code long} least significant byte first, as {@link #nextBytes(byte[])} does, whatever the
+   * buffer's byte order.
    */
-  @Override public int nextInt() {
-    debitEntropy(Integer.SIZE);
-    return getSplittableRandom().nextInt();
+  @SuppressWarnings("NumericCastThatLosesPrecision") @Override public void nextBytes(
+      final ByteBuffer buffer) {
+    final long length = buffer.remaining();
+    final ByteBuffer littleEndian = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    final SplittableRandom splittableRandom = getSplittableRandom();
+    while (littleEndian.remaining() >= Long.BYTES) {
+      littleEndian.putLong(splittableRandom.nextLong());
+    }
+    if (littleEndian.hasRemaining()) {
+      long rnd = splittableRandom.nextLong();
+      while (littleEndian.hasRemaining()) {
+        littleEndian.put((byte) rnd);
+        rnd >>= Byte.SIZE;
+      }
+    }
+    buffer.position(littleEndian.position());
+    debitEntropy(Byte.SIZE * length);
   }
 
   /**
-   * Delegates to {@link SplittableRandom#nextInt(int) SplittableRandom.nextInt(bound)}.
+   * Delegates to {@link SplittableRandom#nextLong()}, then debits the entropy once.
    */
-  @Override public int nextInt(final int bound) {
-    debitEntropy(entropyOfInt(0, bound));
-    return getSplittableRandom().nextInt(bound);
+  @Override public void nextLongs(final LongBuffer buffer) {
+    final long length = buffer.remaining();
+    final SplittableRandom splittableRandom = getSplittableRandom();
+    while (buffer.hasRemaining()) {
+      buffer.put(splittableRandom.nextLong());
+    }
+    debitEntropy(Long.SIZE * length);
   }
 
   /**
-   * Delegates to {@link SplittableRandom#nextInt(int, int) SplittableRandom.nextInt(origin,
-   * bound)}.
+   * Delegates to {@link SplittableRandom#nextInt()}.
    */
-  @Override public int nextInt(final int origin, final int bound) {
-    debitEntropy(entropyOfInt(origin, bound));
-    return getSplittableRandom().nextInt(origin, bound);
+  @Override public int nextInt() {
+    debitEntropy(Integer.SIZE);
+    return getSplittableRandom().nextInt();
   }
 
   /**
@@ -120,27 +146,17 @@ public abstract class BaseSplittableRandomAdapter extends BaseRandom {
   }
 
   /**
-   * <p>Delegates to {@link SplittableRandom#nextLong()}.</p> {@inheritDoc}
-   */
-  @Override protected long nextLongNoEntropyDebit() {
-    return getSplittableRandom().nextLong();
-  }
-
-  /**
-   * Delegates to {@link SplittableRandom#nextLong(long) SplittableRandom.nextLong(bound)}.
+   * <p>Delegates to {@link SplittableRandom#nextInt()}.</p> {@inheritDoc}
    */
-  @Override public long nextLong(final long bound) {
-    debitEntropy(entropyOfLong(0, bound));
-    return getSplittableRandom().nextLong(bound);
+  @Override protected int nextIntNoEntropyDebit() {
+    return getSplittableRandom().nextInt();
   }
 
   /**
-   * Delegates to {@link SplittableRandom#nextLong(long, long) SplittableRandom.nextLong(origin,
-   * bound)}.
+   * <p>Delegates to {@link SplittableRandom#nextLong()}.</p> {@inheritDoc}
    */
-  @Override public long nextLong(final long origin, final long bound) {
-    debitEntropy(entropyOfLong(origin, bound));
-    return getSplittableRandom().nextLong(origin, bound);
+  @Override protected long nextLongNoEntropyDebit() {
+    return getSplittableRandom().nextLong();
   }
 
   /**
@@ -151,22 +167,13 @@ public abstract class BaseSplittableRandomAdapter extends BaseRandom {
   }
 
   /**
-   * Delegates to {@link SplittableRandom#nextDouble()} via
-   * {@link #internalNextGaussian(java.util.function.DoubleSupplier)}.
+   * Delegates to {@link SplittableRandom#nextLong()} via
+   * {@link #internalNextGaussian(long)}.
    */
   @Override public double nextGaussian() {
-    // Upper bound. 2 Gaussians are generated from 2 nextDouble calls, which once made are either
-    // used or rerolled.
+    // Upper bound: only one long is consumed, and at most 53 bits of it are returned.
     debitEntropy(ENTROPY_OF_DOUBLE);
-    return internalNextGaussian(() -> getSplittableRandom().nextDouble());
-  }
-
-  @Override protected void lockForNextGaussian() {
-    // No-op.
-  }
-
-  @Override protected void unlockForNextGaussian() {
-    // No-op.
+    return internalNextGaussian(getSplittableRandom().nextLong());
   }
 
   /**
@@ -183,7 +190,73 @@ public abstract class BaseSplittableRandomAdapter extends BaseRandom {
   @Override public float nextFloat() {
     debitEntropy(ENTROPY_OF_FLOAT);
     return getSplittableRandom().nextInt(1 << ENTROPY_OF_FLOAT)
-        * FLOAT_MULTIPLIER;
+        * FLOAT_UNIT;
+  }
+
+  /**
+   * Delegates to {@link SplittableRandom#nextInt()}, then debits the entropy once.
+   */
+  @Override public void nextInts(final int[] output) {
+    final SplittableRandom splittableRandom = getSplittableRandom();
+    for (int i = 0; i < output.length; i++) {
+      output[i] = splittableRandom.nextInt();
+    }
+    debitEntropy(Integer.SIZE * (long) output.length);
+  }
+
+  /**
+   * Delegates to {@link SplittableRandom#nextLong()}, then debits the entropy once.
+   */
+  @Override public void nextLongs(final long[] output) {
+    final SplittableRandom splittableRandom = getSplittableRandom();
+    for (int i = 0; i < output.length; i++) {
+      output[i] = splittableRandom.nextLong();
+    }
+    debitEntropy(Long.SIZE * (long) output.length);
+  }
+
+  /**
+   * Delegates to {@link SplittableRandom#nextInt()}, fetching the {@link SplittableRandom} only
+   * once.
+   */
+  @Override protected void fillInts(final int[] output) {
+    final SplittableRandom splittableRandom = getSplittableRandom();
+    for (int i = 0; i < output.length; i++) {
+      output[i] = splittableRandom.nextInt();
+    }
+  }
+
+  /**
+   * Delegates to {@link SplittableRandom#nextLong()}, fetching the {@link SplittableRandom} only
+   * once.
+   */
+  @Override protected void fillLongs(final long[] output) {
+    final SplittableRandom splittableRandom = getSplittableRandom();
+    for (int i = 0; i < output.length; i++) {
+      output[i] = splittableRandom.nextLong();
+    }
+  }
+
+  /**
+   * Delegates to {@link SplittableRandom#nextDouble()}, then debits the entropy once.
+   */
+  @Override public void nextDoubles(final double[] output) {
+    final SplittableRandom splittableRandom = getSplittableRandom();
+    for (int i = 0; i < output.length; i++) {
+      output[i] = splittableRandom.nextDouble();
+    }
+    debitEntropy(ENTROPY_OF_DOUBLE * (long) output.length);
+  }
+
+  /**
+   * Delegates to {@link SplittableRandom#nextInt(int)}, then debits the entropy once.
+   */
+  @Override public void nextFloats(final float[] output) {
+    final SplittableRandom splittableRandom = getSplittableRandom();
+    for (int i = 0; i < output.length; i++) {
+      output[i] = splittableRandom.nextInt(1 << ENTROPY_OF_FLOAT) * FLOAT_UNIT;
+    }
+    debitEntropy(ENTROPY_OF_FLOAT * (long) output.length);
   }
 
   /**
@@ -1,10 +1,17 @@
 package io.github.pr0methean.betterrandom.prng.adapter;
 
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
 import io.github.pr0methean.betterrandom.seed.RandomSeeder;
 import io.github.pr0methean.betterrandom.seed.SeedException;
 import io.github.pr0methean.betterrandom.seed.SeedGenerator;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Condition;
 import javax.annotation.Nullable;
@@ -86,6 +93,106 @@ public class EntropyBlockingRandomWrapper<T extends Random> extends RandomWrappe
     }
   }
 
+  // The bulk methods debit entropy per element, for the same reason nextBytes does: a single debit
+  // for a large array could exceed what a reseed can ever restore, and would then block forever.
+
+  @Override public void nextInts(final int[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = nextInt();
+    }
+  }
+
+  @Override public void nextLongs(final long[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = nextLong();
+    }
+  }
+
+  @Override public void nextDoubles(final double[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = nextDouble();
+    }
+  }
+
+  @Override public void nextFloats(final float[] output) {
+    for (int i = 0; i < output.length; i++) {
+      output[i] = nextFloat();
+    }
+  }
+
+  @Override public void nextDoubles(final double[] output, final double origin,
+      final double bound) {
+    checkValidRange(origin, bound);
+    for (int i = 0; i < output.length; i++) {
+      output[i] = nextDouble(origin, bound);
+    }
+  }
+
+  @Override public void nextFloats(final float[] output, final float origin, final float bound) {
+    checkValidRange(origin, bound);
+    // If the range overflows, scale into half of it and double the result, which is exact
+    final float factor = Float.isInfinite(bound - origin) ? 2.0f : 1.0f;
+    final float offset = origin / factor;
+    final float range = (bound / factor) - offset;
+    final float max = Math.nextDown(bound);
+    for (int i = 0; i < output.length; i++) {
+      output[i] = Math.min(((nextFloat() * range) + offset) * factor, max);
+    }
+  }
+
+  @Override public void nextBytes(final ByteBuffer buffer) {
+    while (buffer.hasRemaining()) {
+      buffer.put((byte) (nextInt(1 << Byte.SIZE)));
+    }
+  }
+
+  @Override public void nextLongs(final LongBuffer buffer) {
+    while (buffer.hasRemaining()) {
+      buffer.put(nextLong());
+    }
+  }
+
+  @Override public void shuffle(final int[] array) {
+    for (int i = array.length - 1; i > 0; i--) {
+      int target = nextInt(i + 1);
+      int temp = array[i];
+      array[i] = array[target];
+      array[target] = temp;
+    }
+  }
+
+  @Override public void shuffle(final long[] array) {
+    for (int i = array.length - 1; i > 0; i--) {
+      int target = nextInt(i + 1);
+      long temp = array[i];
+      array[i] = array[target];
+      array[target] = temp;
+    }
+  }
+
+  @Override public void shuffle(final List<?> list) {
+    Collections.shuffle(list, this);
+  }
+
+  /**
+   * Uses Floyd's algorithm, which calls {@link #nextInt(int)} once per element of the sample, and
+   * then shuffles the sample.
+   */
+  @Override public int[] sampleWithoutReplacement(final int populationSize, final int sampleSize) {
+    if ((sampleSize < 0) || (sampleSize > populationSize)) {
+      throw new IllegalArgumentException(String.format(
+          "sampleSize %d must be between 0 and populationSize %d", sampleSize, populationSize));
+    }
+    Set<Integer> chosen = new LinkedHashSet<>();
+    for (int i = populationSize - sampleSize; i < populationSize; i++) {
+      int candidate = nextInt(i + 1);
+      chosen.add(chosen.contains(candidate) ? i : candidate);
+    }
+    int[] sample = chosen.stream().mapToInt(Integer::intValue).toArray();
+    shuffle(sample);
+    return sample;
+  }
+
   /**
    * Returns the seed generator that is used on the calling thread if not registered with a running
    * {@link RandomSeeder}.
@@ -116,6 +223,13 @@ public class EntropyBlockingRandomWrapper<T extends Random> extends RandomWrappe
     onSeedingStateChanged(false);
   }
 
+  /**
+   * Returns false, because blocking on reseeding requires the lock.
+   */
+  @Override protected boolean supportsUnsynchronized() {
+    return false;
+  }
+
   @Override protected void debitEntropy(long bits) {
     long remaining;
     while (true) {
@@ -125,7 +239,7 @@ public class EntropyBlockingRandomWrapper<T extends Random> extends RandomWrappe
           // We need reseeding, but don't need to block waiting for it
           RandomSeeder seeder = getRandomSeeder();
           if (seeder != null) {
-            seeder.wakeUp();
+            seeder.wakeUp(this);
           }
         }
         return;
@@ -136,7 +250,7 @@ public class EntropyBlockingRandomWrapper<T extends Random> extends RandomWrappe
         if (seeder != null) {
           waitingOnReseed = true;
           if (seeder.contains(this)) {
-            seeder.wakeUp();
+            seeder.wakeUp(this);
           } else {
             seeder.add(this);
           }
@@ -2,10 +2,17 @@ package io.github.pr0methean.betterrandom.prng.adapter;
 
 import static io.github.pr0methean.betterrandom.util.BinaryUtils.convertBytesToLong;
 
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
 import io.github.pr0methean.betterrandom.seed.RandomSeeder;
 import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.List;
 import java.util.SplittableRandom;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 import javax.annotation.Nullable;
 
 /**
@@ -102,6 +109,73 @@ public class EntropyBlockingSplittableRandomAdapter extends SplittableRandomAdap
     getDelegateWrapper().debitEntropy(bits);
   }
 
+  // Delegated so that entropy is debited per element; see EntropyBlockingRandomWrapper.
+
+  @Override public void nextBytes(byte[] bytes) {
+    getDelegateWrapper().nextBytes(bytes);
+  }
+
+  @Override public void nextInts(int[] output) {
+    getDelegateWrapper().nextInts(output);
+  }
+
+  @Override public void nextLongs(long[] output) {
+    getDelegateWrapper().nextLongs(output);
+  }
+
+  @Override public void nextDoubles(double[] output) {
+    getDelegateWrapper().nextDoubles(output);
+  }
+
+  @Override public void nextFloats(float[] output) {
+    getDelegateWrapper().nextFloats(output);
+  }
+
+  @Override public void nextDoubles(final double[] output, final double origin,
+      final double bound) {
+    getDelegateWrapper().nextDoubles(output, origin, bound);
+  }
+
+  @Override public void nextFloats(final float[] output, final float origin, final float bound) {
+    getDelegateWrapper().nextFloats(output, origin, bound);
+  }
+
+  @Override public void forEachInt(long count, IntConsumer action) {
+    getDelegateWrapper().forEachInt(count, action);
+  }
+
+  @Override public void forEachLong(long count, LongConsumer action) {
+    getDelegateWrapper().forEachLong(count, action);
+  }
+
+  @Override public void forEachDouble(long count, DoubleConsumer action) {
+    getDelegateWrapper().forEachDouble(count, action);
+  }
+
+  @Override public void shuffle(int[] array) {
+    getDelegateWrapper().shuffle(array);
+  }
+
+  @Override public void shuffle(long[] array) {
+    getDelegateWrapper().shuffle(array);
+  }
+
+  @Override public void shuffle(List<?> list) {
+    getDelegateWrapper().shuffle(list);
+  }
+
+  @Override public int[] sampleWithoutReplacement(int populationSize, int sampleSize) {
+    return getDelegateWrapper().sampleWithoutReplacement(populationSize, sampleSize);
+  }
+
+  @Override public void nextBytes(ByteBuffer buffer) {
+    getDelegateWrapper().nextBytes(buffer);
+  }
+
+  @Override public void nextLongs(LongBuffer buffer) {
+    getDelegateWrapper().nextLongs(buffer);
+  }
+
   @SuppressWarnings("unchecked")
   private EntropyBlockingRandomWrapper<SingleThreadSplittableRandomAdapter> getDelegateWrapper() {
     return (EntropyBlockingRandomWrapper<SingleThreadSplittableRandomAdapter>) threadLocal.get();
@@ -0,0 +1,443 @@
+package io.github.pr0methean.betterrandom.prng.adapter;
+
+import com.google.common.base.MoreObjects.ToStringHelper;
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.seed.RandomSeeder;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import io.github.pr0methean.betterrandom.util.SerializableFunction;
+import io.github.pr0methean.betterrandom.util.SerializableSupplier;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import javax.annotation.Nullable;
+
+/**
+ * <p>Like {@link ThreadLocalRandomWrapper}, provides concurrency for any {@link BaseRandom} by
+ * giving each concurrent caller its own instance; but rather than keeping one instance per
+ * {@link Thread} for the thread's lifetime, it lends one from a pool for the duration of each call
+ * and then takes it back. Thus the number of instances, and so the memory they use and the cost of
+ * seeding them, is bounded by how many calls are in progress at once rather than by how many
+ * threads ever use this wrapper. This suits large numbers of short-lived threads, such as virtual
+ * threads, which would each seed and retain their own instance of a {@link
+ * ThreadLocalRandomWrapper}.</p>
+ * <p>A new instance is created only when all the pooled ones are in use, and at most {@link
+ * #getMaxIdle()} instances are kept once they're returned; the rest are left for the garbage
+ * collector. Instances are returned to the front of the pool and taken from the front, so a
+ * single thread calling repeatedly will usually get the same instance each time. To make several
+ * calls on the same instance without returning it in between, use {@link
+ * #withDelegate(Function)}.</p>
+ * <p>Like {@link ThreadLocalRandomWrapper}, this wrapper isn't repeatable: methods such as
+ * {@link #setSeed(byte[])} and {@link #getSeed()} act on whichever instance is lent for the
+ * call.</p>
+ *
+ * @param <T> the type of the pooled PRNGs
+ */
+public class PooledRandomWrapper<T extends BaseRandom> extends RandomWrapper<T> {
+
+  private static final long serialVersionUID = -4373413937652305818L;
+  private final SerializableSupplier<? extends T> initializer;
+  private final int maxIdle;
+  private final int seedSize;
+  /**
+   * The instances that aren't lent out, most recently returned first.
+   */
+  private transient Deque<T> idle;
+  /**
+   * The size of {@link #idle}, which {@link ConcurrentLinkedDeque#size()} can't report in constant
+   * time.
+   */
+  private transient AtomicInteger idleCount;
+
+  @Override protected void initTransientFields() {
+    super.initTransientFields();
+    idle = new ConcurrentLinkedDeque<>();
+    idleCount = new AtomicInteger(0);
+  }
+
+  /**
+   * Creates an instance that keeps up to {@link Runtime#availableProcessors()} idle PRNGs, which is
+   * how many carrier threads a virtual-thread scheduler normally uses.
+   *
+   * @param initializer a supplier that will be called whenever a new {@link BaseRandom} is needed
+   *     for the pool
+   */
+  public PooledRandomWrapper(final SerializableSupplier<? extends T> initializer) {
+    this(Runtime.getRuntime().availableProcessors(), initializer);
+  }
+
+  /**
+   * Creates an instance.
+   *
+   * @param maxIdle the maximum number of PRNGs to keep in the pool when they're not in use
+   * @param initializer a supplier that will be called whenever a new {@link BaseRandom} is needed
+   *     for the pool
+   * @throws IllegalArgumentException if {@code maxIdle} is less than 1
+   */
+  public PooledRandomWrapper(final int maxIdle,
+      final SerializableSupplier<? extends T> initializer) {
+    super(null);
+    if (maxIdle < 1) {
+      throw new IllegalArgumentException("maxIdle must be at least 1, but is " + maxIdle);
+    }
+    this.maxIdle = maxIdle;
+    this.initializer = initializer;
+    // Keep the instance we create to find the seed size, rather than wasting its seed
+    final T first = initializer.get();
+    seedSize = first.getNewSeedLength();
+    release(first);
+  }
+
+  /**
+   * Wraps a seed generator and a function that takes a seed byte array as input. This
+   * PooledRandomWrapper will be serializable if the {@link Function} is serializable.
+   *
+   * @param maxIdle the maximum number of PRNGs to keep in the pool when they're not in use
+   * @param seedSize the size of seed arrays to generate.
+   * @param seedGenerator The seed generation strategy that will provide the seed value for each
+   *     new {@link BaseRandom}.
+   * @param creator a {@link Function} that creates a {@link BaseRandom} from each seed.
+   *     Probably a constructor reference.
+   * @throws IllegalArgumentException if {@code maxIdle} is less than 1
+   */
+  public PooledRandomWrapper(final int maxIdle, final int seedSize,
+      final SeedGenerator seedGenerator, final SerializableFunction<byte[], ? extends T> creator) {
+    this(maxIdle, () -> creator.apply(seedGenerator.generateSeed(seedSize)));
+  }
+
+  /**
+   * Returns the maximum number of PRNGs kept in the pool when they're not in use.
+   *
+   * @return the maximum number of idle PRNGs
+   */
+  public int getMaxIdle() {
+    return maxIdle;
+  }
+
+  /**
+   * Returns the number of PRNGs currently in the pool and not in use. May be out of date as soon
+   * as it's returned, if other threads are using this wrapper.
+   *
+   * @return the number of idle PRNGs
+   */
+  public int getIdleCount() {
+    return idleCount.get();
+  }
+
+  /**
+   * Borrows a PRNG from the pool, or creates one if none are idle.
+   *
+   * @return a PRNG that no other caller is using
+   */
+  private T borrow() {
+    final T delegate = idle.pollFirst();
+    if (delegate == null) {
+      return initializer.get();
+    }
+    idleCount.decrementAndGet();
+    return delegate;
+  }
+
+  /**
+   * Returns a PRNG to the pool, unless the pool is already full.
+   *
+   * @param delegate a PRNG from {@link #borrow()}, which the caller must no longer use
+   */
+  private void release(final T delegate) {
+    if (idleCount.incrementAndGet() <= maxIdle) {
+      idle.offerFirst(delegate);
+    } else {
+      idleCount.decrementAndGet();
+    }
+  }
+
+  /**
+   * Lends a PRNG from the pool to the given function, and returns it to the pool afterward. The
+   * PRNG is used by no other caller until the function returns, so this is the cheapest way to make
+   * many calls in a row; but the function mustn't let the PRNG escape.
+   *
+   * @param action a function that uses the PRNG
+   * @param <R> the type of the function's result
+   * @return the function's result
+   */
+  public <R> R withDelegate(final Function<? super T, ? extends R> action) {
+    final T delegate = borrow();
+    try {
+      return action.apply(delegate);
+    } finally {
+      release(delegate);
+    }
+  }
+
+  private void accept(final Consumer<? super T> action) {
+    final T delegate = borrow();
+    try {
+      action.accept(delegate);
+    } finally {
+      release(delegate);
+    }
+  }
+
+  private int applyAsInt(final ToIntFunction<? super T> action) {
+    final T delegate = borrow();
+    try {
+      return action.applyAsInt(delegate);
+    } finally {
+      release(delegate);
+    }
+  }
+
+  private long applyAsLong(final ToLongFunction<? super T> action) {
+    final T delegate = borrow();
+    try {
+      return action.applyAsLong(delegate);
+    } finally {
+      release(delegate);
+    }
+  }
+
+  private double applyAsDouble(final ToDoubleFunction<? super T> action) {
+    final T delegate = borrow();
+    try {
+      return action.applyAsDouble(delegate);
+    } finally {
+      release(delegate);
+    }
+  }
+
+  /**
+   * Not supported, because no one PRNG is wrapped for longer than one call; use {@link
+   * #withDelegate(Function)} instead.
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override public T getWrapped() {
+    throw new UnsupportedOperationException("Use withDelegate to borrow a PRNG from the pool");
+  }
+
+  /**
+   * Not supported, because the pooled PRNGs are created by the initializer.
+   *
+   * @param wrapped ignored
+   * @throws UnsupportedOperationException always
+   */
+  @Override public void setWrapped(final T wrapped) {
+    throw new UnsupportedOperationException("The pooled PRNGs can't be replaced");
+  }
+
+  @Nullable @Override public RandomSeeder getRandomSeeder() {
+    return null;
+  }
+
+  /**
+   * Not supported, because the pooled PRNGs come and go.
+   *
+   * @param randomSeeder ignored.
+   * @throws UnsupportedOperationException if {@code randomSeeder} is non-null.
+   */
+  @Override public void setRandomSeeder(@Nullable final RandomSeeder randomSeeder) {
+    if (randomSeeder != null) {
+      throw new UnsupportedOperationException("This can't be reseeded by a RandomSeeder");
+    }
+  }
+
+  /**
+   * Returns false, because this wrapper is shared between threads.
+   */
+  @Override protected boolean supportsUnsynchronized() {
+    return false;
+  }
+
+  @Override protected boolean withProbabilityInternal(final double probability) {
+    throw new AssertionError("Caller should be delegating at a higher level");
+  }
+
+  @Override public boolean withProbability(final double probability) {
+    return applyAsInt(delegate -> delegate.withProbability(probability) ? 1 : 0) != 0;
+  }
+
+  @Override public long nextLong() {
+    return applyAsLong(BaseRandom::nextLong);
+  }
+
+  @Override public long nextLong(final long bound) {
+    return applyAsLong(delegate -> delegate.nextLong(bound));
+  }
+
+  @Override public int nextInt(final int origin, final int bound) {
+    return applyAsInt(delegate -> delegate.nextInt(origin, bound));
+  }
+
+  @Override public long nextLong(final long origin, final long bound) {
+    return applyAsLong(delegate -> delegate.nextLong(origin, bound));
+  }
+
+  @Override public void nextBytes(final byte[] bytes) {
+    accept(delegate -> delegate.nextBytes(bytes));
+  }
+
+  @Override public int nextInt() {
+    return applyAsInt(BaseRandom::nextInt);
+  }
+
+  @Override public int nextInt(final int bound) {
+    return applyAsInt(delegate -> delegate.nextInt(bound));
+  }
+
+  @Override protected int next(final int bits) {
+    return applyAsInt(delegate -> (bits >= 32) ? delegate.nextInt() :
+        (bits == 31) ? delegate.nextInt() >>> 1 : delegate.nextInt(1 << bits));
+  }
+
+  @Override protected long nextLongNoEntropyDebit() {
+    throw new AssertionError("Caller should be delegating at a higher level");
+  }
+
+  @Override protected int nextIntNoEntropyDebit() {
+    throw new AssertionError("Caller should be delegating at a higher level");
+  }
+
+  @Override public boolean nextBoolean() {
+    return applyAsInt(delegate -> delegate.nextBoolean() ? 1 : 0) != 0;
+  }
+
+  @Override public float nextFloat() {
+    return (float) applyAsDouble(BaseRandom::nextFloat);
+  }
+
+  @Override public double nextDoubleNoEntropyDebit() {
+    throw new AssertionError("Caller should be delegating at a higher level");
+  }
+
+  @Override public double nextGaussian() {
+    return applyAsDouble(BaseRandom::nextGaussian);
+  }
+
+  @Override public double nextDouble() {
+    return applyAsDouble(BaseRandom::nextDouble);
+  }
+
+  @Override public void nextInts(final int[] output) {
+    accept(delegate -> delegate.nextInts(output));
+  }
+
+  @Override public void nextLongs(final long[] output) {
+    accept(delegate -> delegate.nextLongs(output));
+  }
+
+  @Override public void nextDoubles(final double[] output) {
+    accept(delegate -> delegate.nextDoubles(output));
+  }
+
+  @Override public void nextFloats(final float[] output) {
+    accept(delegate -> delegate.nextFloats(output));
+  }
+
+  @Override public void nextDoubles(final double[] output, final double origin,
+      final double bound) {
+    accept(delegate -> delegate.nextDoubles(output, origin, bound));
+  }
+
+  @Override public void nextFloats(final float[] output, final float origin, final float bound) {
+    accept(delegate -> delegate.nextFloats(output, origin, bound));
+  }
+
+  @Override public void nextBytes(final ByteBuffer buffer) {
+    accept(delegate -> delegate.nextBytes(buffer));
+  }
+
+  @Override public void nextLongs(final LongBuffer buffer) {
+    accept(delegate -> delegate.nextLongs(buffer));
+  }
+
+  @Override public void forEachInt(final long count, final IntConsumer action) {
+    accept(delegate -> delegate.forEachInt(count, action));
+  }
+
+  @Override public void forEachLong(final long count, final LongConsumer action) {
+    accept(delegate -> delegate.forEachLong(count, action));
+  }
+
+  @Override public void forEachDouble(final long count, final DoubleConsumer action) {
+    accept(delegate -> delegate.forEachDouble(count, action));
+  }
+
+  @Override public void shuffle(final int[] array) {
+    accept(delegate -> delegate.shuffle(array));
+  }
+
+  @Override public void shuffle(final long[] array) {
+    accept(delegate -> delegate.shuffle(array));
+  }
+
+  @Override public void shuffle(final List<?> list) {
+    accept(delegate -> delegate.shuffle(list));
+  }
+
+  @Override public int[] sampleWithoutReplacement(final int populationSize,
+      final int sampleSize) {
+    return withDelegate(delegate -> delegate.sampleWithoutReplacement(populationSize, sampleSize));
+  }
+
+  @Override public String toString() {
+    return String.format("PooledRandomWrapper (currently around %s)",
+        withDelegate(Object::toString));
+  }
+
+  @Override protected ToStringHelper addSubclassFields(final ToStringHelper original) {
+    final T nextIdle = idle.peekFirst();
+    return original.add("maxIdle", maxIdle).add("idleCount", idleCount.get())
+        .add("next idle", (nextIdle == null) ? null : nextIdle.dump());
+  }
+
+  @Override public boolean preferSeedWithLong() {
+    final int newSeedLength = getNewSeedLength();
+    return (newSeedLength > 0) && (newSeedLength <= Long.BYTES);
+  }
+
+  @Override public byte[] getSeed() {
+    return withDelegate(BaseRandom::getSeed);
+  }
+
+  @Override public void setSeed(final long seed) {
+    if (initializer != null) {
+      accept(delegate -> delegate.setSeed(seed));
+    }
+  }
+
+  @Override protected void setSeedInternal(final byte[] seed) {
+    if (seed == null) {
+      throw new IllegalArgumentException("Seed must not be null");
+    }
+    // Called by the superclass constructor, before there's an initializer to create a PRNG with
+    if (initializer != null) {
+      accept(delegate -> delegate.setSeed(seed));
+    }
+    if (this.seed == null) {
+      this.seed = seed.clone(); // Needed for serialization
+    }
+  }
+
+  @Override protected void debitEntropy(final long bits) {
+    throw new AssertionError("Caller should be delegating at a higher level");
+  }
+
+  @Override public long getEntropyBits() {
+    return applyAsLong(BaseRandom::getEntropyBits);
+  }
+
+  @Override public int getNewSeedLength() {
+    // Called by the superclass constructor, before seedSize is set
+    return (initializer == null) ? 0 : seedSize;
+  }
+}
@@ -25,6 +25,8 @@ import io.github.pr0methean.betterrandom.seed.SeedGenerator;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
 import io.github.pr0methean.betterrandom.util.Dumpable;
 import io.github.pr0methean.betterrandom.util.EntryPoint;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
 import java.security.SecureRandom;
 import java.util.Random;
 
@@ -124,6 +126,7 @@ public class RandomWrapper<T extends Random> extends BaseRandom {
     } else {
       this.seed = seed.clone();
     }
+    flushPendingDebits();
     entropyBits.set(seed.length * 8L);
     unknownSeed = false;
   }
@@ -173,6 +176,7 @@ public class RandomWrapper<T extends Random> extends BaseRandom {
   }
 
   private void readEntropyOfWrapped(final Random wrapped) {
+    flushPendingDebits();
     entropyBits.set((wrapped instanceof EntropyCountingRandom) ?
         ((EntropyCountingRandom) wrapped).getEntropyBits() :
         ((wrapped instanceof RepeatableRandom) ?
@@ -328,6 +332,66 @@ public class RandomWrapper<T extends Random> extends BaseRandom {
     return getWrapped().nextBoolean();
   }
 
+  /**
+   * Delegates to {@link BaseRandom#nextInts(int[])} if the wrapped PRNG is a {@link BaseRandom};
+   * otherwise calls {@link Random#nextInt()} on it once per element.
+   */
+  @Override protected void fillInts(final int[] output) {
+    if (wrapped instanceof BaseRandom) {
+      ((BaseRandom) wrapped).nextInts(output);
+    } else {
+      for (int i = 0; i < output.length; i++) {
+        output[i] = wrapped.nextInt();
+      }
+    }
+  }
+
+  @Override protected void fillLongs(final long[] output) {
+    if (wrapped instanceof BaseRandom) {
+      ((BaseRandom) wrapped).nextLongs(output);
+    } else {
+      for (int i = 0; i < output.length; i++) {
+        output[i] = wrapped.nextLong();
+      }
+    }
+  }
+
+  @Override protected void fillDoubles(final double[] output) {
+    if (wrapped instanceof BaseRandom) {
+      ((BaseRandom) wrapped).nextDoubles(output);
+    } else {
+      for (int i = 0; i < output.length; i++) {
+        output[i] = wrapped.nextDouble();
+      }
+    }
+  }
+
+  @Override protected void fillFloats(final float[] output) {
+    if (wrapped instanceof BaseRandom) {
+      ((BaseRandom) wrapped).nextFloats(output);
+    } else {
+      for (int i = 0; i < output.length; i++) {
+        output[i] = wrapped.nextFloat();
+      }
+    }
+  }
+
+  @Override protected void fillBytes(final ByteBuffer buffer) {
+    if (wrapped instanceof BaseRandom) {
+      ((BaseRandom) wrapped).nextBytes(buffer);
+    } else {
+      super.fillBytes(buffer);
+    }
+  }
+
+  @Override protected void fillLongs(final LongBuffer buffer) {
+    if (wrapped instanceof BaseRandom) {
+      ((BaseRandom) wrapped).nextLongs(buffer);
+    } else {
+      super.fillLongs(buffer);
+    }
+  }
+
   @Override public float nextFloat() {
     debitEntropy(ENTROPY_OF_FLOAT);
     return getWrapped().nextFloat();
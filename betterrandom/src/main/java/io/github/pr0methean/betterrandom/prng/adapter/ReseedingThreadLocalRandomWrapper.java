@@ -118,6 +118,20 @@ public class ReseedingThreadLocalRandomWrapper<T extends BaseRandom> extends Thr
     }
   }
 
+  /**
+   * Not supported, because the per-thread PRNGs are reseeded from the {@link RandomSeeder}'s
+   * thread.
+   *
+   * @param unsynchronizedDelegates ignored if false
+   * @throws UnsupportedOperationException if {@code unsynchronizedDelegates} is true
+   */
+  @Override public void setUnsynchronizedDelegates(final boolean unsynchronizedDelegates) {
+    if (unsynchronizedDelegates) {
+      throw new UnsupportedOperationException(
+          "PRNGs reseeded by a RandomSeeder can't be unsynchronized");
+    }
+  }
+
   @Override public RandomSeeder getRandomSeeder() {
     return randomSeeder.get();
   }
@@ -85,6 +85,14 @@ public class SplittableRandomAdapter extends BaseSplittableRandomAdapter {
     return threadLocal.get().getSeed();
   }
 
+  /**
+   * Returns false, because this adapter is shared between threads, and its per-thread delegates
+   * are already lock-free.
+   */
+  @Override protected boolean supportsUnsynchronized() {
+    return false;
+  }
+
   @Override public void setRandomSeeder(@Nullable final RandomSeeder randomSeeder) {
     if (!Objects.equals(this.randomSeeder.get(), randomSeeder)) {
       throw new UnsupportedOperationException(
@@ -115,6 +123,15 @@ public class SplittableRandomAdapter extends BaseSplittableRandomAdapter {
     ((SingleThreadSplittableRandomAdapter) threadLocal.get()).debitEntropy(bits);
   }
 
+  /**
+   * {@inheritDoc} Applies only to the calling thread.
+   */
+  @Override public void setSeed(final byte[] seed) {
+    checkLength(seed, Long.BYTES);
+    super.setSeed(seed);
+    threadLocal.get().setSeed(seed);
+  }
+
   @Override protected void setSeedInternal(final byte[] seed) {
     this.seed = seed.clone();
   }
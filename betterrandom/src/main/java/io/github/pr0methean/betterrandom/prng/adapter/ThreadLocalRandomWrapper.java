@@ -11,9 +11,15 @@ import io.github.pr0methean.betterrandom.util.SerializableLongFunction;
 import io.github.pr0methean.betterrandom.util.SerializableSupplier;
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.function.DoubleConsumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
@@ -27,6 +33,7 @@ public class ThreadLocalRandomWrapper<T extends BaseRandom> extends RandomWrappe
   private final SerializableSupplier<? extends T> initializer;
   private final SerializableFunction<byte[], ? extends T> initializerForSeed;
   private final int seedSize;
+  private volatile boolean unsynchronizedDelegates;
   private transient Set<Thread> threadsInitializedFor;
   /**
    * Holds the delegate for each thread.
@@ -44,9 +51,10 @@ public class ThreadLocalRandomWrapper<T extends BaseRandom> extends RandomWrappe
     this.seedSize = seedSize;
     initializer = () -> {
       threadsInitializedFor.add(Thread.currentThread());
-      return undecoratedInitializer.get();
+      return constructConfinedIfRequested(undecoratedInitializer);
     };
-    this.initializerForSeed = initializerForSeed;
+    this.initializerForSeed = seed ->
+        constructConfinedIfRequested(() -> initializerForSeed.apply(seed));
     threadLocal = ThreadLocal.withInitial(initializer);
   }
 
@@ -136,6 +144,39 @@ public class ThreadLocalRandomWrapper<T extends BaseRandom> extends RandomWrappe
     return getWrapped().nextLong(origin, bound);
   }
 
+  /**
+   * Returns false, because this wrapper is shared between threads; use {@link
+   * #setUnsynchronizedDelegates(boolean)} instead.
+   */
+  @Override protected boolean supportsUnsynchronized() {
+    return false;
+  }
+
+  /**
+   * Sets whether the per-thread PRNGs created from now on will be {@linkplain
+   * BaseRandom#createUnsynchronized(Supplier) unsynchronized}, so that they skip acquiring their locks. Only
+   * safe if the PRNG returned by {@link #getWrapped()} is never passed to another thread. PRNGs
+   * that were already created for other threads are unaffected.
+   *
+   * @param unsynchronizedDelegates true to make new per-thread PRNGs unsynchronized
+   */
+  public void setUnsynchronizedDelegates(final boolean unsynchronizedDelegates) {
+    this.unsynchronizedDelegates = unsynchronizedDelegates;
+  }
+
+  private T constructConfinedIfRequested(final Supplier<? extends T> constructor) {
+    return unsynchronizedDelegates ? BaseRandom.createUnsynchronized(constructor)
+        : constructor.get();
+  }
+
+  /**
+   * Returns the current thread's PRNG. Each call looks it up in a {@link ThreadLocal}, as does
+   * each method of this wrapper; so a tight loop on one thread can call this once and use the
+   * result directly, as a lease for the duration of the loop. The result shouldn't be passed to
+   * other threads, especially if {@link #setUnsynchronizedDelegates(boolean)} was set.
+   *
+   * @return the current thread's PRNG
+   */
   @Override public T getWrapped() {
     return threadLocal.get();
   }
@@ -161,6 +202,10 @@ public class ThreadLocalRandomWrapper<T extends BaseRandom> extends RandomWrappe
     throw new AssertionError("Caller should be delegating at a higher level");
   }
 
+  @Override protected int nextIntNoEntropyDebit() {
+    throw new AssertionError("Caller should be delegating at a higher level");
+  }
+
   @Override public boolean nextBoolean() {
     return getWrapped().nextBoolean();
   }
@@ -181,6 +226,68 @@ public class ThreadLocalRandomWrapper<T extends BaseRandom> extends RandomWrappe
     return getWrapped().nextDouble();
   }
 
+  @Override public void nextInts(final int[] output) {
+    getWrapped().nextInts(output);
+  }
+
+  @Override public void nextLongs(final long[] output) {
+    getWrapped().nextLongs(output);
+  }
+
+  @Override public void nextDoubles(final double[] output) {
+    getWrapped().nextDoubles(output);
+  }
+
+  @Override public void nextFloats(final float[] output) {
+    getWrapped().nextFloats(output);
+  }
+
+  @Override public void nextDoubles(final double[] output, final double origin,
+      final double bound) {
+    getWrapped().nextDoubles(output, origin, bound);
+  }
+
+  @Override public void nextFloats(final float[] output, final float origin, final float bound) {
+    getWrapped().nextFloats(output, origin, bound);
+  }
+
+  @Override public void nextBytes(final ByteBuffer buffer) {
+    getWrapped().nextBytes(buffer);
+  }
+
+  @Override public void forEachInt(final long count, final IntConsumer action) {
+    getWrapped().forEachInt(count, action);
+  }
+
+  @Override public void forEachLong(final long count, final LongConsumer action) {
+    getWrapped().forEachLong(count, action);
+  }
+
+  @Override public void forEachDouble(final long count, final DoubleConsumer action) {
+    getWrapped().forEachDouble(count, action);
+  }
+
+  @Override public void shuffle(final int[] array) {
+    getWrapped().shuffle(array);
+  }
+
+  @Override public void shuffle(final long[] array) {
+    getWrapped().shuffle(array);
+  }
+
+  @Override public void shuffle(final List<?> list) {
+    getWrapped().shuffle(list);
+  }
+
+  @Override public int[] sampleWithoutReplacement(final int populationSize,
+      final int sampleSize) {
+    return getWrapped().sampleWithoutReplacement(populationSize, sampleSize);
+  }
+
+  @Override public void nextLongs(final LongBuffer buffer) {
+    getWrapped().nextLongs(buffer);
+  }
+
   @Override protected ToStringHelper addSubclassFields(final ToStringHelper original) {
     return original.add("wrapped on this thread", getWrapped().dump());
   }
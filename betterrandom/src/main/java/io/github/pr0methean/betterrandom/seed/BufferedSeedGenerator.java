@@ -3,16 +3,31 @@ package io.github.pr0methean.betterrandom.seed;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nullable;
+import org.slf4j.LoggerFactory;
 
 /**
- * A seed generator that wraps another, maintaining a buffer of previously-fetched bytes to
+ * <p>A seed generator that wraps another, maintaining a buffer of previously-fetched bytes to
  * reduce the number of I/O calls. The buffer is only used when the requested seed is strictly
- * smaller than the buffer.
+ * smaller than the buffer.</p>
+ * <p>Optionally, a second buffer can be filled in the background whenever the number of unused
+ * bytes in the first falls below a low-water mark, so that callers rarely have to wait for the
+ * delegate. The first background refill starts on construction.</p>
  */
 public class BufferedSeedGenerator implements SeedGenerator {
   private static final long serialVersionUID = -2100305696539110970L;
+  /**
+   * How long the background refill thread lingers after its last refill before exiting.
+   */
+  private static final long PREFETCH_THREAD_KEEP_ALIVE_SECONDS = 10;
 
   private final SeedGenerator delegate;
   /**
@@ -28,18 +43,65 @@ public class BufferedSeedGenerator implements SeedGenerator {
    */
   private final Lock lock = new ReentrantLock(true);
   private final int size;
+  /**
+   * When fewer than this many unused bytes remain in {@link #buffer}, {@link #spare} is refilled in
+   * the background. Zero if prefetching is disabled.
+   */
+  private final int lowWaterMark;
   private transient byte[] buffer;
   private transient volatile int pos;
+  /**
+   * The buffer that's refilled in the background, and swapped with {@link #buffer} once that's used
+   * up. Null if prefetching is disabled.
+   */
+  @Nullable private transient byte[] spare;
+  /**
+   * True when {@link #spare} is full and not yet swapped in.
+   */
+  private transient volatile boolean spareReady;
+  /**
+   * True while a background task owns {@link #spare}.
+   */
+  private transient boolean refillInProgress;
+  /**
+   * Signalled when a background refill finishes, whether or not it succeeds.
+   */
+  private transient Condition refillFinished;
+  @Nullable private transient Executor prefetchExecutor;
+  private transient LongAdder hits;
+  private transient LongAdder misses;
+  private transient LongAdder refills;
 
   /**
-   * Creates an instance.
+   * Creates an instance that doesn't prefetch.
    *
    * @param delegate the SeedGenerator to wrap
    * @param size the buffer size in bytes
    */
   public BufferedSeedGenerator(SeedGenerator delegate, int size) {
+    this(delegate, size, 0);
+  }
+
+  /**
+   * Creates an instance that refills a second buffer in the background whenever fewer than {@code
+   * lowWaterMark} unused bytes remain in the current one. The refill runs on a daemon thread that
+   * exits when idle.
+   *
+   * @param delegate the SeedGenerator to wrap
+   * @param size the size in bytes of each of the two buffers
+   * @param lowWaterMark how few bytes can remain before refilling begins; if zero, there is only
+   *     one buffer, and it's refilled only when a caller needs more bytes than it contains
+   * @throws IllegalArgumentException if {@code lowWaterMark} is negative or greater than {@code
+   *     size}
+   */
+  public BufferedSeedGenerator(SeedGenerator delegate, int size, int lowWaterMark) {
+    if (lowWaterMark < 0 || lowWaterMark > size) {
+      throw new IllegalArgumentException(String.format(
+          "lowWaterMark must be between 0 and size (%d), but is %d", size, lowWaterMark));
+    }
     this.delegate = delegate;
     this.size = size;
+    this.lowWaterMark = lowWaterMark;
     initTransientFields();
   }
 
@@ -51,10 +113,27 @@ public class BufferedSeedGenerator implements SeedGenerator {
   private void initTransientFields() {
     buffer = new byte[size];
     pos = size;
+    refillFinished = lock.newCondition();
+    hits = new LongAdder();
+    misses = new LongAdder();
+    refills = new LongAdder();
+    if (lowWaterMark > 0) {
+      spare = new byte[size];
+      prefetchExecutor = new ThreadPoolExecutor(0, 1, PREFETCH_THREAD_KEEP_ALIVE_SECONDS,
+          TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+          new RandomSeeder.DefaultThreadFactory("BufferedSeedGenerator prefetch for " + delegate));
+      lock.lock();
+      try {
+        startRefillIfNeeded();
+      } finally {
+        lock.unlock();
+      }
+    }
   }
 
   @Override public void generateSeed(byte[] output) throws SeedException {
     if (output.length >= size) {
+      misses.increment();
       delegate.generateSeed(output);
       return;
     }
@@ -65,24 +144,120 @@ public class BufferedSeedGenerator implements SeedGenerator {
       if (available >= output.length) {
         System.arraycopy(buffer, curPos, output, 0, output.length);
         curPos += output.length;
+        hits.increment();
       } else {
         System.arraycopy(buffer, curPos, output, 0, available);
-        delegate.generateSeed(buffer);
+        refillBuffer();
         curPos = output.length - available;
         System.arraycopy(buffer, 0, output, available, curPos);
       }
       pos = curPos;
+      startRefillIfNeeded();
     } finally {
       lock.unlock();
     }
   }
 
+  /**
+   * Replaces the contents of {@link #buffer}: with the spare buffer if it's ready or about to be,
+   * and otherwise from the delegate. Caller must hold {@link #lock}.
+   */
+  private void refillBuffer() {
+    boolean waited = false;
+    while (refillInProgress) {
+      waited = true;
+      refillFinished.awaitUninterruptibly();
+    }
+    if (spareReady) {
+      final byte[] oldBuffer = buffer;
+      buffer = spare;
+      spare = oldBuffer;
+      spareReady = false;
+      if (waited) {
+        misses.increment();
+      } else {
+        hits.increment();
+      }
+    } else {
+      // Prefetching is disabled or failed
+      misses.increment();
+      delegate.generateSeed(buffer);
+      refills.increment();
+    }
+  }
+
+  /**
+   * Starts a background refill of {@link #spare} if the current buffer has fallen below the
+   * low-water mark and none is running. Caller must hold {@link #lock}.
+   */
+  private void startRefillIfNeeded() {
+    if (prefetchExecutor == null || spareReady || refillInProgress
+        || (size - pos) >= lowWaterMark) {
+      return;
+    }
+    refillInProgress = true;
+    final byte[] target = spare;
+    prefetchExecutor.execute(() -> {
+      boolean succeeded = false;
+      try {
+        delegate.generateSeed(target);
+        succeeded = true;
+      } catch (final RuntimeException e) {
+        // The next caller to run out will retry synchronously, and see the exception if it recurs
+        LoggerFactory.getLogger(BufferedSeedGenerator.class)
+            .warn("Background refill from " + delegate + " failed", e);
+      } finally {
+        lock.lock();
+        try {
+          if (succeeded) {
+            spareReady = true;
+            refills.increment();
+          }
+          refillInProgress = false;
+          refillFinished.signalAll();
+        } finally {
+          lock.unlock();
+        }
+      }
+    });
+  }
+
+  /**
+   * Returns the number of requests that were served without waiting for the delegate.
+   *
+   * @return the number of requests served from the buffers
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of requests that had to wait for the delegate, either because they were
+   * too large to buffer or because the buffers ran out.
+   *
+   * @return the number of requests that waited for the delegate
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the number of times a buffer has been refilled from the delegate, whether in the
+   * background or not.
+   *
+   * @return the number of buffer refills
+   */
+  public long getRefillCount() {
+    return refills.sum();
+  }
+
   @Override public boolean isWorthTrying() {
-    return pos < size || delegate.isWorthTrying();
+    return pos < size || spareReady || delegate.isWorthTrying();
   }
 
   @Override public String toString() {
-    return String.format("BufferedSeedGenerator(%s,%d)", delegate, size);
+    return (lowWaterMark == 0) ? String.format("BufferedSeedGenerator(%s,%d)", delegate, size)
+        : String.format("BufferedSeedGenerator(%s,%d,%d)", delegate, size, lowWaterMark);
   }
 
   @Override public boolean equals(Object o) {
@@ -93,10 +268,11 @@ public class BufferedSeedGenerator implements SeedGenerator {
       return false;
     }
     BufferedSeedGenerator that = (BufferedSeedGenerator) o;
-    return size == that.size && delegate.equals(that.delegate);
+    return size == that.size && lowWaterMark == that.lowWaterMark
+        && delegate.equals(that.delegate);
   }
 
   @Override public int hashCode() {
-    return Objects.hash(delegate, size);
+    return Objects.hash(delegate, size, lowWaterMark);
   }
 }
@@ -0,0 +1,182 @@
+package io.github.pr0methean.betterrandom.seed;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>A variant of {@link BufferedSeedGenerator} for many concurrent small requests. Rather than
+ * taking a lock to read the buffer, each caller claims a range of it by atomically advancing a
+ * cursor, then copies that range without synchronization; only refilling the buffer takes a lock.
+ * Since claimed ranges never overlap, and a refill always puts the new bytes in a new array rather
+ * than overwriting a buffer that a slow reader may still be copying from, no byte is ever handed
+ * out twice.</p>
+ * <p>The buffer is only used when the requested seed is strictly smaller than it. A request that
+ * reaches past the end of the buffer takes the rest of the buffer and then continues in the next
+ * one, as it would with {@link BufferedSeedGenerator}.</p>
+ */
+public class ConcurrentBufferedSeedGenerator implements SeedGenerator {
+
+  private static final long serialVersionUID = 2478946234893152095L;
+
+  private final SeedGenerator delegate;
+  /**
+   * Held only while refilling.
+   */
+  private final Lock refillLock = new ReentrantLock();
+  private final int size;
+  private transient volatile Segment current;
+  private transient LongAdder hits;
+  private transient LongAdder misses;
+  private transient LongAdder refills;
+
+  /**
+   * One buffer's worth of bytes from the delegate, and the cursor that claims them.
+   */
+  private static final class Segment {
+    final byte[] bytes;
+    /**
+     * The offset of the first unclaimed byte. May be advanced past the end by claims that fail.
+     */
+    final AtomicInteger cursor;
+
+    Segment(final byte[] bytes) {
+      this.bytes = bytes;
+      cursor = new AtomicInteger(0);
+    }
+  }
+
+  /**
+   * Creates an instance.
+   *
+   * @param delegate the SeedGenerator to wrap
+   * @param size the buffer size in bytes
+   */
+  public ConcurrentBufferedSeedGenerator(final SeedGenerator delegate, final int size) {
+    this.delegate = delegate;
+    this.size = size;
+    initTransientFields();
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    initTransientFields();
+  }
+
+  private void initTransientFields() {
+    // Starts out empty, so that construction doesn't block on the delegate
+    current = new Segment(new byte[0]);
+    hits = new LongAdder();
+    misses = new LongAdder();
+    refills = new LongAdder();
+  }
+
+  @Override public void generateSeed(final byte[] output) throws SeedException {
+    if (output.length >= size) {
+      misses.increment();
+      delegate.generateSeed(output);
+      return;
+    }
+    int offset = 0;
+    boolean waited = false;
+    while (offset < output.length) {
+      final Segment segment = current;
+      final int length = segment.bytes.length;
+      // Cheap check first, so that callers waiting for a refill don't push the cursor further
+      if (segment.cursor.get() < length) {
+        final int wanted = output.length - offset;
+        final int start = segment.cursor.getAndAdd(wanted);
+        if (start < length) {
+          // Bytes start through start + wanted - 1 are now ours alone
+          final int claimed = Math.min(wanted, length - start);
+          System.arraycopy(segment.bytes, start, output, offset, claimed);
+          offset += claimed;
+          continue;
+        }
+      }
+      waited = true;
+      refill(segment);
+    }
+    if (waited) {
+      misses.increment();
+    } else {
+      hits.increment();
+    }
+  }
+
+  /**
+   * Replaces the given segment with a new one from the delegate, unless another thread already
+   * has.
+   *
+   * @param exhausted the segment that the caller found to be used up
+   */
+  private void refill(final Segment exhausted) {
+    refillLock.lock();
+    try {
+      if (current == exhausted) {
+        final byte[] bytes = new byte[size];
+        delegate.generateSeed(bytes);
+        refills.increment();
+        current = new Segment(bytes);
+      }
+    } finally {
+      refillLock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of requests that were served without waiting for the delegate.
+   *
+   * @return the number of requests served from the buffer
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of requests that had to wait for the delegate, either because they were
+   * too large to buffer or because the buffer ran out.
+   *
+   * @return the number of requests that waited for the delegate
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the number of times the buffer has been refilled from the delegate.
+   *
+   * @return the number of buffer refills
+   */
+  public long getRefillCount() {
+    return refills.sum();
+  }
+
+  @Override public boolean isWorthTrying() {
+    final Segment segment = current;
+    return segment.cursor.get() < segment.bytes.length || delegate.isWorthTrying();
+  }
+
+  @Override public String toString() {
+    return String.format("ConcurrentBufferedSeedGenerator(%s,%d)", delegate, size);
+  }
+
+  @Override public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final ConcurrentBufferedSeedGenerator that = (ConcurrentBufferedSeedGenerator) o;
+    return size == that.size && delegate.equals(that.delegate);
+  }
+
+  @Override public int hashCode() {
+    return Objects.hash(delegate, size);
+  }
+}
@@ -44,6 +44,8 @@ public final class LegacyRandomSeeder extends RandomSeeder {
       for (Object random : randoms) {
         if (random instanceof ByteArrayReseedableRandom) {
           byteArrayPrngs.remove(random);
+          readyPrngs.remove(random);
+          uncountedPrngs.remove(random);
         } else if (random instanceof Random) {
           otherPrngs.remove(random);
         }
@@ -73,7 +75,7 @@ public final class LegacyRandomSeeder extends RandomSeeder {
     try {
       for (final Random random : randoms) {
         if (random instanceof ByteArrayReseedableRandom) {
-          byteArrayPrngs.add((ByteArrayReseedableRandom) random);
+          addAndMarkReady((ByteArrayReseedableRandom) random);
         } else {
           otherPrngs.add(random);
         }
@@ -123,16 +125,16 @@ public final class LegacyRandomSeeder extends RandomSeeder {
 
   @Override protected boolean iterate() {
     try {
-      Collection<ByteArrayReseedableRandom> byteArrayPrngsThisIteration = new ArrayList<>(byteArrayPrngs);
       Collection<Random> otherPrngsThisIteration = new ArrayList<>(otherPrngs);
-      while (otherPrngsThisIteration.isEmpty() && byteArrayPrngsThisIteration.isEmpty()) {
+      while (otherPrngsThisIteration.isEmpty() && byteArrayPrngs.isEmpty()) {
         if (stillEmptyAfterWaiting()) {
           return false;
         }
         otherPrngsThisIteration.addAll(otherPrngs);
-        byteArrayPrngsThisIteration.addAll(byteArrayPrngs);
       }
-      boolean entropyConsumed = reseedByteArrayReseedableRandoms(byteArrayPrngsThisIteration);
+      // The legacy PRNGs can't report running out, so every iteration checks everything
+      sweepDue = true;
+      boolean entropyConsumed = reseedByteArrayReseedableRandoms(takeDuePrngs());
       for (Random random : otherPrngsThisIteration) {
         if (!stillDefinitelyHasEntropy(random)) {
           entropyConsumed = true;
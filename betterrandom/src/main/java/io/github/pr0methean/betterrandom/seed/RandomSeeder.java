@@ -10,6 +10,10 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
@@ -22,6 +26,11 @@ import org.slf4j.LoggerFactory;
 /**
  * Thread that loops over {@link ByteArrayReseedableRandom} instances and reseeds them. No {@link
  * EntropyCountingRandom} will be reseeded when it's already had more input than output.
+ * <p>Rather than scan every registered PRNG on every iteration, the seeder keeps a ready list of
+ * the PRNGs that have reported running out of entropy through {@link
+ * #wakeUp(ByteArrayReseedableRandom)}, and reseeds those, most-depleted first. All the registered
+ * PRNGs are checked only when the seeder has been idle for a polling interval, to catch any that
+ * ran out without reporting it.</p>
  *
  * @author Chris Hennick
  */
@@ -45,6 +54,12 @@ public class RandomSeeder extends Looper {
    */
   protected static final long DEFAULT_STOP_IF_EMPTY_FOR_NANOS = 5_000_000_000L;
 
+  /**
+   * Maximum number of seed bytes fetched in one call when {@link #batchReseeding} is true. Larger
+   * sweeps are split into several calls, so that one sweep can't make an unbounded request.
+   */
+  protected static final int MAX_BATCH_BYTES = 1 << 16;
+
   /**
    * The seed generator this seeder uses.
    */
@@ -56,6 +71,25 @@ public class RandomSeeder extends Looper {
    */
   protected transient Set<ByteArrayReseedableRandom> byteArrayPrngs;
 
+  /**
+   * Registered {@link EntropyCountingRandom} instances that are known or suspected to need
+   * reseeding. Like {@link #byteArrayPrngs}, this compares its members by identity and holds them
+   * only weakly.
+   */
+  protected transient Set<ByteArrayReseedableRandom> readyPrngs;
+
+  /**
+   * Registered PRNGs that don't implement {@link EntropyCountingRandom}, and so are reseeded on
+   * every iteration.
+   */
+  protected transient Set<ByteArrayReseedableRandom> uncountedPrngs;
+
+  /**
+   * True if the next iteration should check every registered PRNG rather than only {@link
+   * #readyPrngs}. Only used on this seeder's thread.
+   */
+  protected transient boolean sweepDue;
+
   /**
    * Signaled when a PRNG is added.
    */
@@ -71,6 +105,39 @@ public class RandomSeeder extends Looper {
    */
   protected final long stopIfEmptyForNanos;
 
+  /**
+   * If true, each iteration fetches the seeds for all the PRNGs that need reseeding in one call to
+   * {@link SeedGenerator#generateSeed(byte[])}, rather than one call per PRNG.
+   */
+  protected final boolean batchReseeding;
+
+  /**
+   * PRNGs waiting for their slice of the current batch. Only used on this seeder's thread.
+   */
+  private transient List<ByteArrayReseedableRandom> batch;
+
+  /**
+   * The seed length of each PRNG in {@link #batch}, recorded when it was added.
+   */
+  private transient int[] batchSeedLengths;
+
+  /**
+   * Whether each PRNG in {@link #batch} was to be reseeded with {@link Random#setSeed(long)},
+   * recorded when it was added.
+   */
+  private transient boolean[] batchSeedWithLong;
+
+  /**
+   * Reused from one batch to the next when the total length is unchanged.
+   */
+  private transient byte[] batchBuffer;
+
+  /**
+   * Arrays passed to {@link ByteArrayReseedableRandom#setSeed(byte[])}, reused across batches and
+   * keyed by length.
+   */
+  private transient Map<Integer, byte[]> seedArraysByLength;
+
   /**
    * Creates an instance whose thread will terminate if no PRNGs have been associated with it for 5
    * seconds.
@@ -101,10 +168,30 @@ public class RandomSeeder extends Looper {
    */
   public RandomSeeder(SeedGenerator seedGenerator, ThreadFactory threadFactory,
       long stopIfEmptyForNanos) {
+    this(seedGenerator, threadFactory, stopIfEmptyForNanos, false);
+  }
+
+  /**
+   * Creates an instance that can fetch the seeds for all the PRNGs needing them in one call to the
+   * seed generator. This suits seed generators whose cost is mostly per call, such as those that
+   * make a system call or an HTTP request, when many PRNGs are registered. In batch mode, the seed
+   * arrays passed to {@link ByteArrayReseedableRandom#setSeed(byte[])} are reused, so the PRNGs
+   * must copy them rather than keep them; {@link BaseRandom} does.
+   *
+   * @param seedGenerator the seed generator
+   * @param threadFactory the {@link ThreadFactory} that will create this seeder's thread
+   * @param stopIfEmptyForNanos time in nanoseconds after which this thread will terminate if no
+   *     PRNGs are attached
+   * @param batchReseeding if true, each iteration makes one seed-generator call for all the PRNGs
+   *     that need reseeding (or one per {@value #MAX_BATCH_BYTES} bytes); if false, one per PRNG
+   */
+  public RandomSeeder(SeedGenerator seedGenerator, ThreadFactory threadFactory,
+      long stopIfEmptyForNanos, boolean batchReseeding) {
     super(threadFactory);
     this.seedGenerator = seedGenerator;
     Objects.requireNonNull(seedGenerator, "randomSeeder must not be null");
     this.stopIfEmptyForNanos = stopIfEmptyForNanos;
+    this.batchReseeding = batchReseeding;
   }
 
   static boolean stillDefinitelyHasEntropy(final Object random) {
@@ -135,6 +222,8 @@ public class RandomSeeder extends Looper {
     lock.lock();
     try {
       byteArrayPrngs.removeAll(randoms);
+      readyPrngs.removeAll(randoms);
+      uncountedPrngs.removeAll(randoms);
     } finally {
       lock.unlock();
     }
@@ -168,13 +257,44 @@ public class RandomSeeder extends Looper {
     }
     lock.lock();
     try {
-      byteArrayPrngs.addAll(randoms);
+      for (ByteArrayReseedableRandom random : randoms) {
+        addAndMarkReady(random);
+      }
       wakeUp();
     } finally {
       lock.unlock();
     }
   }
 
+  /**
+   * Registers a PRNG and puts it on the ready list, so that it's checked on the next iteration.
+   * Caller must hold {@link #lock}.
+   *
+   * @param random the PRNG to start reseeding
+   */
+  protected void addAndMarkReady(ByteArrayReseedableRandom random) {
+    byteArrayPrngs.add(random);
+    if (random instanceof EntropyCountingRandom) {
+      readyPrngs.add(random);
+    } else {
+      uncountedPrngs.add(random);
+    }
+  }
+
+  /**
+   * Puts a registered PRNG on the ready list, so that it's reseeded on the next iteration if it
+   * still needs to be, then wakes up this seeder. Does nothing if the PRNG isn't registered. Called
+   * by {@link BaseRandom} when its entropy count reaches zero.
+   *
+   * @param random a PRNG that has run out of entropy
+   */
+  public void wakeUp(ByteArrayReseedableRandom random) {
+    if (random instanceof EntropyCountingRandom && byteArrayPrngs.contains(random)) {
+      readyPrngs.add(random);
+    }
+    wakeUp();
+  }
+
   /**
    * Ensures this seeder's thread is started, and signals conditions it may be waiting on.
    */
@@ -219,29 +339,107 @@ public class RandomSeeder extends Looper {
    */
   @Override protected void initTransientFields() {
     byteArrayPrngs = MoreCollections.createSynchronizedWeakHashSet();
+    readyPrngs = MoreCollections.createSynchronizedWeakHashSet();
+    uncountedPrngs = MoreCollections.createSynchronizedWeakHashSet();
+    sweepDue = true;
     waitWhileEmpty = lock.newCondition();
     waitForEntropyDrain = lock.newCondition();
+    batch = new ArrayList<>();
+    batchSeedLengths = new int[16];
+    batchSeedWithLong = new boolean[16];
+    batchBuffer = new byte[0];
+    seedArraysByLength = new HashMap<>();
   }
 
   @Override
   protected boolean iterate() {
-    Collection<ByteArrayReseedableRandom> byteArrayPrngsThisIteration = new ArrayList<>(byteArrayPrngs);
     try {
-      while (byteArrayPrngsThisIteration.isEmpty()) {
+      while (byteArrayPrngs.isEmpty()) {
         if (stillEmptyAfterWaiting()) {
           return false;
         }
-        byteArrayPrngsThisIteration.addAll(byteArrayPrngs);
       }
-      boolean entropyConsumed = reseedByteArrayReseedableRandoms(byteArrayPrngsThisIteration);
+      boolean entropyConsumed = reseedByteArrayReseedableRandoms(takeDuePrngs());
       waitForEntropyDrainOrUpdateFlag(entropyConsumed);
       return true;
     } catch (final Throwable t) {
       getLogger().error("Disabling the LegacyRandomSeeder for " + seedGenerator, t);
+      // PRNGs taken off the ready list may not have been reseeded, so check them all if restarted
+      sweepDue = true;
       return false;
     }
   }
 
+  /**
+   * Removes and returns the PRNGs that need reseeding this iteration, most-depleted first. These
+   * are the ones on the ready list and those that don't count entropy, or if {@link #sweepDue},
+   * all the registered PRNGs. PRNGs that {@link #stillDefinitelyHasEntropy(Object) still have
+   * entropy} are left out.
+   *
+   * @return the PRNGs to reseed, in order
+   */
+  protected List<ByteArrayReseedableRandom> takeDuePrngs() {
+    List<DuePrng> due = new ArrayList<>();
+    if (sweepDue) {
+      sweepDue = false;
+      // Anything that becomes ready from here on is caught on the next iteration
+      readyPrngs.clear();
+      addIfDue(byteArrayPrngs, due);
+    } else {
+      for (ByteArrayReseedableRandom random : readyPrngs) {
+        // If it's marked ready again after this, it stays on the list for the next iteration
+        if (readyPrngs.remove(random)) {
+          addIfDue(random, due);
+        }
+      }
+      addIfDue(uncountedPrngs, due);
+    }
+    due.sort(Comparator.comparingLong(duePrng -> duePrng.entropyBits));
+    List<ByteArrayReseedableRandom> result = new ArrayList<>(due.size());
+    for (DuePrng duePrng : due) {
+      result.add(duePrng.random);
+    }
+    return result;
+  }
+
+  private static void addIfDue(Iterable<ByteArrayReseedableRandom> randoms, List<DuePrng> due) {
+    // Iterating a concurrent map's key set doesn't need a copy; concurrent changes are tolerated
+    for (ByteArrayReseedableRandom random : randoms) {
+      addIfDue(random, due);
+    }
+  }
+
+  private static void addIfDue(ByteArrayReseedableRandom random, List<DuePrng> due) {
+    if (stillDefinitelyHasEntropy(random)) {
+      return;
+    }
+    // Entropy counts can change while sorting, so the sort key is read only once
+    long entropyBits = Long.MIN_VALUE;
+    if (random instanceof EntropyCountingRandom) {
+      EntropyCountingRandom entropyCountingRandom = (EntropyCountingRandom) random;
+      if (!entropyCountingRandom.needsReseedingEarly()) {
+        entropyBits = entropyCountingRandom.getEntropyBits();
+      }
+    }
+    due.add(new DuePrng(random, entropyBits));
+  }
+
+  /**
+   * A PRNG that needs reseeding, and its entropy count when it was found to need it.
+   */
+  private static final class DuePrng {
+    private final ByteArrayReseedableRandom random;
+    /**
+     * {@link Long#MIN_VALUE} if the PRNG doesn't count entropy or is blocked waiting for a reseed.
+     */
+    private final long entropyBits;
+
+    private DuePrng(ByteArrayReseedableRandom random, long entropyBits) {
+      this.random = random;
+      this.entropyBits = entropyBits;
+    }
+  }
+
   /**
    * Waits {@link #stopIfEmptyForNanos} for {@link #waitWhileEmpty} to be signaled
    * @return true if not signaled; false if signaled
@@ -252,8 +450,9 @@ public class RandomSeeder extends Looper {
   }
 
   /**
-   * If entropy was consumed this iteration, waits until {@link #wakeUp()} is called or the polling
-   * interval expires. Updates whether the next polling wait will be short or long.
+   * If no entropy was consumed this iteration and no PRNGs are on the ready list, waits until
+   * {@link #wakeUp()} is called or the polling interval expires, and in the latter case schedules a
+   * check of every registered PRNG. Updates whether the next polling wait will be short or long.
    *
    * @param entropyConsumed whether entropy was consumed this iteration
    * @throws InterruptedException if interrupted
@@ -261,9 +460,12 @@ public class RandomSeeder extends Looper {
   protected void waitForEntropyDrainOrUpdateFlag(boolean entropyConsumed) throws InterruptedException {
     if (entropyConsumed) {
       alreadyPolled = false;
-    } else {
-      waitForEntropyDrain.await(alreadyPolled ? REPEAT_POLL_INTERVAL : FIRST_POLL_INTERVAL,
-          TimeUnit.SECONDS);
+    } else if (readyPrngs.isEmpty()) {
+      if (!waitForEntropyDrain.await(alreadyPolled ? REPEAT_POLL_INTERVAL : FIRST_POLL_INTERVAL,
+          TimeUnit.SECONDS)) {
+        // Nothing reported running out during the whole interval, so check everything
+        sweepDue = true;
+      }
       alreadyPolled = true;
     }
   }
@@ -275,6 +477,9 @@ public class RandomSeeder extends Looper {
    * @return true if at least one PRNG was reseeded; false otherwise
    */
   protected boolean reseedByteArrayReseedableRandoms(Iterable<? extends ByteArrayReseedableRandom> randoms) {
+    if (batchReseeding) {
+      return reseedInBatches(randoms);
+    }
     boolean entropyConsumed = false;
     for (ByteArrayReseedableRandom random : randoms) {
       if (stillDefinitelyHasEntropy(random)) {
@@ -291,6 +496,83 @@ public class RandomSeeder extends Looper {
     return entropyConsumed;
   }
 
+  /**
+   * Reseeds all the PRNGs that need reseeding in {@code randoms}, fetching their seeds together in
+   * as few calls as {@link #MAX_BATCH_BYTES} allows.
+   *
+   * @param randoms the PRNGs to reseed
+   * @return true if at least one PRNG was reseeded; false otherwise
+   */
+  private boolean reseedInBatches(Iterable<? extends ByteArrayReseedableRandom> randoms) {
+    boolean entropyConsumed = false;
+    int batchLength = 0;
+    try {
+      for (ByteArrayReseedableRandom random : randoms) {
+        if (stillDefinitelyHasEntropy(random)) {
+          continue;
+        }
+        entropyConsumed = true;
+        boolean seedWithLong = random.preferSeedWithLong();
+        int seedLength = seedWithLong ? Long.BYTES : random.getNewSeedLength();
+        if (batchLength > 0 && batchLength + seedLength > MAX_BATCH_BYTES) {
+          reseedBatch(batchLength);
+          batchLength = 0;
+        }
+        if (batch.size() == batchSeedLengths.length) {
+          batchSeedLengths = Arrays.copyOf(batchSeedLengths, 2 * batchSeedLengths.length);
+          batchSeedWithLong = Arrays.copyOf(batchSeedWithLong, batchSeedLengths.length);
+        }
+        batchSeedLengths[batch.size()] = seedLength;
+        batchSeedWithLong[batch.size()] = seedWithLong;
+        batch.add(random);
+        batchLength += seedLength;
+      }
+      if (batchLength > 0) {
+        reseedBatch(batchLength);
+      }
+    } finally {
+      // Don't keep the PRNGs reachable, and don't reseed them later from a failed batch
+      batch.clear();
+    }
+    return entropyConsumed;
+  }
+
+  /**
+   * Fetches {@code batchLength} bytes in one call and hands each PRNG in {@link #batch} its slice.
+   *
+   * @param batchLength the total seed length needed by {@link #batch}
+   */
+  private void reseedBatch(int batchLength) {
+    if (batchBuffer.length != batchLength) {
+      batchBuffer = new byte[batchLength];
+    }
+    seedGenerator.generateSeed(batchBuffer);
+    int offset = 0;
+    for (int i = 0; i < batch.size(); i++) {
+      ByteArrayReseedableRandom random = batch.get(i);
+      int seedLength = batchSeedLengths[i];
+      if (batchSeedWithLong[i]) {
+        ((Random) random).setSeed(BinaryUtils.convertBytesToLong(batchBuffer, offset));
+      } else {
+        byte[] seed = seedArraysByLength.computeIfAbsent(seedLength, byte[]::new);
+        System.arraycopy(batchBuffer, offset, seed, 0, seedLength);
+        random.setSeed(seed);
+      }
+      offset += seedLength;
+    }
+    batch.clear();
+  }
+
+  /**
+   * Returns the number of seed bytes a PRNG takes each time it's reseeded.
+   *
+   * @param random a PRNG
+   * @return the seed length in bytes, or {@link Long#BYTES} if it prefers a long seed
+   */
+  static int getSeedLength(ByteArrayReseedableRandom random) {
+    return random.preferSeedWithLong() ? Long.BYTES : random.getNewSeedLength();
+  }
+
   /**
    * Generates an 8-byte seed, converts it to a long and calls {@link Random#setSeed(long)}.
    * @param random the PRNG to reseed
@@ -315,6 +597,8 @@ public class RandomSeeder extends Looper {
     try {
       unregisterWithAll(byteArrayPrngs);
       byteArrayPrngs.clear();
+      readyPrngs.clear();
+      uncountedPrngs.clear();
     } finally {
       lock.unlock();
     }
@@ -0,0 +1,318 @@
+package io.github.pr0methean.betterrandom.seed;
+
+import io.github.pr0methean.betterrandom.ByteArrayReseedableRandom;
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nullable;
+
+/**
+ * <p>Spreads {@link ByteArrayReseedableRandom} instances across several {@link RandomSeeder}
+ * shards, each with its own thread, so that reseeding throughput can scale with the number of cores
+ * and with how many requests the seed source can serve in parallel. Each PRNG is reseeded by exactly
+ * one shard.</p>
+ * <p>A newly added PRNG goes to the shard with the least seed demand, breaking ties in favor of
+ * the lowest-numbered shard. A shard's demand is the total, over the PRNGs added to it through this
+ * pool, of the number of bytes each took per reseeding when it was added ({@link Long#BYTES} for
+ * one that {@link ByteArrayReseedableRandom#preferSeedWithLong() prefers a long seed}). It doesn't
+ * account for how often each PRNG is reseeded, or for a seed length that changes later. Demand is
+ * released when a PRNG is removed through this pool, but not when one is garbage-collected or
+ * moved to another seeder without being removed; so it's best to remove PRNGs that are no longer
+ * in use.</p>
+ * <p>A {@link BaseRandom} is registered through {@link BaseRandom#setRandomSeeder(RandomSeeder)},
+ * so that it wakes up its shard as soon as it runs out of entropy. A {@link BaseRandom} whose
+ * seeder can't be changed, and any other {@link ByteArrayReseedableRandom}, is added to the shard
+ * directly and is only reseeded when the shard polls it.</p>
+ */
+public class RandomSeederPool {
+
+  private final SeedGenerator seedGenerator;
+  private final RandomSeeder[] shards;
+  /**
+   * Total seed length in bytes of the PRNGs added to each shard through this pool. Guarded by
+   * {@link #lock}.
+   */
+  private final long[] demand;
+  private final Lock lock = new ReentrantLock();
+
+  /**
+   * Creates an instance with one shard per available processor.
+   *
+   * @param seedGenerator the seed generator
+   */
+  public RandomSeederPool(SeedGenerator seedGenerator) {
+    this(seedGenerator, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates an instance whose shards use {@link RandomSeeder.DefaultThreadFactory}s, and terminate
+   * their threads if no PRNGs have been associated with them for 5 seconds.
+   *
+   * @param seedGenerator the seed generator
+   * @param shardCount the number of shards, each with its own thread
+   * @throws IllegalArgumentException if {@code shardCount} is less than 1
+   */
+  public RandomSeederPool(SeedGenerator seedGenerator, int shardCount) {
+    this(seedGenerator, shardCount, null, RandomSeeder.DEFAULT_STOP_IF_EMPTY_FOR_NANOS, false);
+  }
+
+  /**
+   * Creates an instance.
+   *
+   * @param seedGenerator the seed generator
+   * @param shardCount the number of shards, each with its own thread
+   * @param threadFactory the {@link ThreadFactory} that will create the shards' threads, or null
+   *     to give each shard a {@link RandomSeeder.DefaultThreadFactory} with a distinct name
+   * @param stopIfEmptyForNanos time in nanoseconds after which a shard's thread will terminate if
+   *     no PRNGs are attached to that shard
+   * @param batchReseeding if true, each shard fetches the seeds for all its PRNGs that need
+   *     reseeding in one call; see {@link RandomSeeder#RandomSeeder(SeedGenerator, ThreadFactory,
+   *     long, boolean)}
+   * @throws IllegalArgumentException if {@code shardCount} is less than 1
+   */
+  public RandomSeederPool(SeedGenerator seedGenerator, int shardCount,
+      @Nullable ThreadFactory threadFactory, long stopIfEmptyForNanos, boolean batchReseeding) {
+    if (shardCount < 1) {
+      throw new IllegalArgumentException("shardCount must be at least 1, but is " + shardCount);
+    }
+    this.seedGenerator = seedGenerator;
+    shards = new RandomSeeder[shardCount];
+    for (int i = 0; i < shardCount; i++) {
+      ThreadFactory shardThreadFactory = (threadFactory == null)
+          ? new RandomSeeder.DefaultThreadFactory(
+              String.format("RandomSeederPool shard %d for %s", i, seedGenerator))
+          : threadFactory;
+      shards[i] = new RandomSeeder(seedGenerator, shardThreadFactory, stopIfEmptyForNanos,
+          batchReseeding);
+    }
+    demand = new long[shardCount];
+  }
+
+  /**
+   * Adds {@link ByteArrayReseedableRandom} instances, each to the shard with the least seed demand.
+   * PRNGs that are already in this pool stay in their current shard. A {@link BaseRandom} also gets
+   * that shard as its {@link BaseRandom#getRandomSeeder() RandomSeeder}, unless its seeder can't be
+   * changed.
+   *
+   * @param randoms the PRNGs to start reseeding
+   * @throws IllegalStateException if one of the PRNGs is a {@link BaseRandom} that {@link
+   *     BaseRandom#isUnsynchronized() is unsynchronized}
+   */
+  public void add(ByteArrayReseedableRandom... randoms) {
+    add(Arrays.asList(randoms));
+  }
+
+  /**
+   * Adds {@link ByteArrayReseedableRandom} instances, each to the shard with the least seed demand.
+   * PRNGs that are already in this pool stay in their current shard. A {@link BaseRandom} also gets
+   * that shard as its {@link BaseRandom#getRandomSeeder() RandomSeeder}, unless its seeder can't be
+   * changed.
+   *
+   * @param randoms the PRNGs to start reseeding
+   * @throws IllegalStateException if one of the PRNGs is a {@link BaseRandom} that {@link
+   *     BaseRandom#isUnsynchronized() is unsynchronized}
+   */
+  public void add(Collection<? extends ByteArrayReseedableRandom> randoms) {
+    if (randoms.isEmpty()) {
+      return;
+    }
+    List<List<ByteArrayReseedableRandom>> toAdd = createListPerShard();
+    lock.lock();
+    try {
+      for (ByteArrayReseedableRandom random : randoms) {
+        if (getSeederFor(random) != null) {
+          continue;
+        }
+        int shard = 0;
+        for (int i = 1; i < shards.length; i++) {
+          if (demand[i] < demand[shard]) {
+            shard = i;
+          }
+        }
+        if (!trySetRandomSeeder(random, shards[shard])) {
+          toAdd.get(shard).add(random);
+        }
+        demand[shard] += RandomSeeder.getSeedLength(random);
+      }
+    } finally {
+      // Still holding the lock, so that a concurrent add can't put the same PRNG in another shard
+      for (int i = 0; i < shards.length; i++) {
+        shards[i].add(toAdd.get(i));
+      }
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes PRNGs so that they will no longer be reseeded. A {@link BaseRandom} whose {@link
+   * BaseRandom#getRandomSeeder() RandomSeeder} is its shard is left with none.
+   *
+   * @param randoms the PRNGs to remove
+   */
+  public void remove(ByteArrayReseedableRandom... randoms) {
+    remove(Arrays.asList(randoms));
+  }
+
+  /**
+   * Removes PRNGs so that they will no longer be reseeded. A {@link BaseRandom} whose {@link
+   * BaseRandom#getRandomSeeder() RandomSeeder} is its shard is left with none.
+   *
+   * @param randoms the PRNGs to remove
+   */
+  public void remove(Collection<? extends ByteArrayReseedableRandom> randoms) {
+    if (randoms.isEmpty()) {
+      return;
+    }
+    List<List<ByteArrayReseedableRandom>> toRemove = createListPerShard();
+    lock.lock();
+    try {
+      for (ByteArrayReseedableRandom random : randoms) {
+        for (int i = 0; i < shards.length; i++) {
+          if (shards[i].contains(random)) {
+            demand[i] -= RandomSeeder.getSeedLength(random);
+            if ((random instanceof BaseRandom)
+                && (((BaseRandom) random).getRandomSeeder() == shards[i])) {
+              ((BaseRandom) random).setRandomSeeder(null);
+            } else {
+              toRemove.get(i).add(random);
+            }
+            break;
+          }
+        }
+      }
+    } finally {
+      for (int i = 0; i < shards.length; i++) {
+        shards[i].remove(toRemove.get(i));
+      }
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Sets the {@link RandomSeeder} of a {@link BaseRandom}, which also adds it to the shard.
+   *
+   * @param random a PRNG
+   * @param shard the shard to add it to
+   * @return true if done; false if {@code random} isn't a {@link BaseRandom} or its seeder can't be
+   *     changed, in which case the caller should add it to the shard directly
+   */
+  private static boolean trySetRandomSeeder(ByteArrayReseedableRandom random,
+      RandomSeeder shard) {
+    if (!(random instanceof BaseRandom)) {
+      return false;
+    }
+    try {
+      ((BaseRandom) random).setRandomSeeder(shard);
+    } catch (UnsupportedOperationException e) {
+      return false;
+    }
+    return shard.contains(random);
+  }
+
+  private List<List<ByteArrayReseedableRandom>> createListPerShard() {
+    List<List<ByteArrayReseedableRandom>> lists = new ArrayList<>(shards.length);
+    for (int i = 0; i < shards.length; i++) {
+      lists.add(new ArrayList<>());
+    }
+    return lists;
+  }
+
+  /**
+   * Checks whether the given PRNG is currently registered with this pool.
+   *
+   * @param random the PRNG to check the status of
+   * @return true if registered; false if not
+   */
+  public boolean contains(Object random) {
+    return getSeederFor(random) != null;
+  }
+
+  /**
+   * Returns the shard that reseeds the given PRNG.
+   *
+   * @param random a PRNG
+   * @return the shard {@code random} is registered with, or null if it isn't in this pool
+   */
+  @Nullable public RandomSeeder getSeederFor(Object random) {
+    for (RandomSeeder shard : shards) {
+      if (shard.contains(random)) {
+        return shard;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the number of shards.
+   *
+   * @return the number of shards, each with its own thread
+   */
+  public int getShardCount() {
+    return shards.length;
+  }
+
+  /**
+   * Returns true if no PRNGs are registered with any shard.
+   *
+   * @return true if this pool is empty; false otherwise
+   */
+  public boolean isEmpty() {
+    for (RandomSeeder shard : shards) {
+      if (!shard.isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Ensures every shard's thread is started, and signals conditions they may be waiting on.
+   */
+  public void wakeUp() {
+    for (RandomSeeder shard : shards) {
+      shard.wakeUp();
+    }
+  }
+
+  /**
+   * Shuts down every shard's thread if no PRNGs are registered with it.
+   */
+  public void stopIfEmpty() {
+    for (RandomSeeder shard : shards) {
+      shard.stopIfEmpty();
+    }
+  }
+
+  /**
+   * Shuts down every shard's thread, even if PRNGs are registered with it.
+   */
+  public void shutDown() {
+    lock.lock();
+    try {
+      for (RandomSeeder shard : shards) {
+        shard.shutDown();
+      }
+      Arrays.fill(demand, 0);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the {@link SeedGenerator} this pool's shards use.
+   *
+   * @return the seed generator
+   */
+  public SeedGenerator getSeedGenerator() {
+    return seedGenerator;
+  }
+
+  @Override public String toString() {
+    return String.format("RandomSeederPool(%s, %d shards)", seedGenerator, shards.length);
+  }
+}
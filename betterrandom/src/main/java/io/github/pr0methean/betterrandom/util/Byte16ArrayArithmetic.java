@@ -5,18 +5,16 @@ import static io.github.pr0methean.betterrandom.util.BinaryUtils.convertLongToBy
 
 /**
  * Collection of arithmetic methods that treat {@code byte[16]} arrays as 128-bit unsigned integers.
+ * They convert to and from pairs of {@code long}s and delegate to {@link LongPairArithmetic}, which
+ * should be used directly in performance-sensitive code.
  */
 public enum Byte16ArrayArithmetic {
   ;
 
-  private static final int SIZE_BYTES = 16;
-  private static final int SIZE_BYTES_MINUS_LONG = SIZE_BYTES - Long.BYTES;
-
   /**
    * The 128-bit value 1.
    */
   public static final byte[] ONE = {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1};
-  private static final long UNSIGNED_INT_TO_LONG_MASK = (1L << Integer.SIZE) - 1;
 
   /**
    * {@code counter += delta}
@@ -24,13 +22,10 @@ public enum Byte16ArrayArithmetic {
    * @param delta the long-sized input
    */
   public static void addInto(final byte[] counter, final long delta) {
-    byte[] addendDigits = new byte[16];
-    convertLongToBytes(delta, addendDigits, SIZE_BYTES_MINUS_LONG);
-    final byte signExtend = (byte) (delta < 0 ? -1 : 0);
-    for (int i = 0; i < SIZE_BYTES_MINUS_LONG; i++) {
-      addendDigits[i] = signExtend;
-    }
-    addInto(counter, addendDigits);
+    final long oldMost = convertBytesToLong(counter, 0);
+    final long oldLeast = convertBytesToLong(counter, Long.BYTES);
+    convertLongToBytes(LongPairArithmetic.addMost(oldMost, oldLeast, delta), counter, 0);
+    convertLongToBytes(oldLeast + delta, counter, Long.BYTES);
   }
 
   /**
@@ -40,14 +35,13 @@ public enum Byte16ArrayArithmetic {
    * @param delta the second input
    */
   public static void addInto(final byte[] counter, final byte[] delta) {
-    boolean carry = false;
-    for (int i = 15; i >= 0; i--) {
-      final int oldCounterUnsigned = counter[i] < 0 ? counter[i] + 256 : counter[i];
-      counter[i] = (byte)(counter[i] + delta[i] + (carry ? 1 : 0));
-      final int newCounterUnsigned = counter[i] < 0 ? counter[i] + 256 : counter[i];
-      carry = (oldCounterUnsigned > newCounterUnsigned) ||
-          (carry && (oldCounterUnsigned == newCounterUnsigned));
-    }
+    final long oldMost = convertBytesToLong(counter, 0);
+    final long oldLeast = convertBytesToLong(counter, Long.BYTES);
+    final long deltaLeast = convertBytesToLong(delta, Long.BYTES);
+    convertLongToBytes(
+        LongPairArithmetic.addMost(oldMost, oldLeast, convertBytesToLong(delta, 0), deltaLeast),
+        counter, 0);
+    convertLongToBytes(oldLeast + deltaLeast, counter, Long.BYTES);
   }
 
   /**
@@ -86,34 +80,10 @@ public enum Byte16ArrayArithmetic {
       final byte[] counter, final byte[] mult, long addLow, long addHigh) {
     final long x = convertBytesToLong(counter, Long.BYTES);
     final long y = convertBytesToLong(mult, Long.BYTES);
-
-    // https://stackoverflow.com/a/38880097/833771
-    final long x_high = x >>> 32;
-    final long x_low = x & UNSIGNED_INT_TO_LONG_MASK;
-    final long y_high = y >>> 32;
-    final long y_low = y & UNSIGNED_INT_TO_LONG_MASK;
-    final long t = x_high * y_low + (x_low * y_low >>> 32);
-    final long z1 = (t & UNSIGNED_INT_TO_LONG_MASK) + x_low * y_high;
-    final long z0 = t >>> 32;
-    final long lowProduct = x * y;
-    final long lowOut = lowProduct + addLow;
-    final long highOut =
-        (x_high * y_high) + z0 + (z1 >>> 32) + (convertBytesToLong(counter, 0) * y) +
-            (convertBytesToLong(mult, 0) * x) + addHigh +
-            (Long.compareUnsigned(lowProduct, lowOut) > 0 ? 1 : 0);
-
+    final long highOut = LongPairArithmetic.multiplyAndAddMost(convertBytesToLong(counter, 0), x,
+        convertBytesToLong(mult, 0), y, addHigh, addLow);
     convertLongToBytes(highOut, counter, 0);
-    convertLongToBytes(lowOut, counter, Long.BYTES);
-  }
-
-  private static long trueShiftRight(final long input, final int amount) {
-    if (amount <= -Long.SIZE || amount >= Long.SIZE) {
-      return 0;
-    }
-    if (amount < 0) {
-      return input << -amount;
-    }
-    return input >>> amount;
+    convertLongToBytes(x * y + addLow, counter, Long.BYTES);
   }
 
   /**
@@ -161,7 +131,7 @@ public enum Byte16ArrayArithmetic {
    * @return the upper 64 bits of {@code (oldMost << 64LL + oldLeast) >>> bits}
    */
   public static long shiftedMost(final int bits, final long oldMost, final long oldLeast) {
-    return trueShiftRight(oldMost, bits) | trueShiftRight(oldLeast, bits + 64);
+    return LongPairArithmetic.shiftedMost(bits, oldMost, oldLeast);
   }
 
   /**
@@ -173,7 +143,7 @@ public enum Byte16ArrayArithmetic {
    * @return the lower 64 bits of {@code (oldMost << 64LL + oldLeast) >>> bits}
    */
   public static long shiftedLeast(final int bits, final long oldMost, final long oldLeast) {
-    return trueShiftRight(oldLeast, bits) | trueShiftRight(oldMost, bits - 64);
+    return LongPairArithmetic.shiftedLeast(bits, oldMost, oldLeast);
   }
 
   /**
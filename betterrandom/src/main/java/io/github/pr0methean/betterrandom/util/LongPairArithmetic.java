@@ -0,0 +1,170 @@
+package io.github.pr0methean.betterrandom.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import javax.annotation.Nullable;
+
+/**
+ * Collection of arithmetic methods that treat pairs of {@code long}s as 128-bit unsigned integers,
+ * so that callers can keep 128-bit state in two fields rather than a {@code byte[16]} array. Since
+ * Java can't return two values at once, each operation returns the most significant half of its
+ * result; the least significant half is always trivial for the caller to calculate inline, and is
+ * given in each method's description.
+ */
+public enum LongPairArithmetic {
+  ;
+
+  private static final long UNSIGNED_INT_TO_LONG_MASK = (1L << Integer.SIZE) - 1;
+
+  /**
+   * {@code Math.multiplyHigh(long, long)}, which is intrinsic on JDK 9 and later; null on JDK 8.
+   */
+  @Nullable private static final MethodHandle MULTIPLY_HIGH = findMultiplyHigh();
+
+  @Nullable private static MethodHandle findMultiplyHigh() {
+    try {
+      return MethodHandles.publicLookup().findStatic(Math.class, "multiplyHigh",
+          MethodType.methodType(long.class, long.class, long.class));
+    } catch (final NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the most significant 64 bits of the unsigned 128-bit product of two unsigned 64-bit
+   * inputs. Uses {@code Math.multiplyHigh} when running on JDK 9 or later.
+   *
+   * @param x the first input
+   * @param y the second input
+   * @return the most significant 64 bits of {@code x * y}
+   */
+  public static long unsignedMultiplyHigh(final long x, final long y) {
+    if (MULTIPLY_HIGH == null) {
+      return unsignedMultiplyHighPortable(x, y);
+    }
+    final long signedHigh;
+    try {
+      signedHigh = (long) MULTIPLY_HIGH.invokeExact(x, y);
+    } catch (final RuntimeException | Error e) {
+      throw e;
+    } catch (final Throwable t) {
+      throw new AssertionError(t);
+    }
+    // Correct for the inputs having been treated as signed
+    return signedHigh + ((x >> (Long.SIZE - 1)) & y) + ((y >> (Long.SIZE - 1)) & x);
+  }
+
+  /**
+   * Implementation of {@link #unsignedMultiplyHigh(long, long)} for JDK 8.
+   *
+   * @param x the first input
+   * @param y the second input
+   * @return the most significant 64 bits of {@code x * y}
+   */
+  static long unsignedMultiplyHighPortable(final long x, final long y) {
+    // https://stackoverflow.com/a/38880097/833771
+    final long xHigh = x >>> 32;
+    final long xLow = x & UNSIGNED_INT_TO_LONG_MASK;
+    final long yHigh = y >>> 32;
+    final long yLow = y & UNSIGNED_INT_TO_LONG_MASK;
+    final long t = xHigh * yLow + (xLow * yLow >>> 32);
+    final long z1 = (t & UNSIGNED_INT_TO_LONG_MASK) + xLow * yHigh;
+    final long z0 = t >>> 32;
+    return xHigh * yHigh + z0 + (z1 >>> 32);
+  }
+
+  /**
+   * Returns the most significant 64 bits of {@code x * y mod 2^128}. The least significant 64 bits
+   * are {@code xLeast * yLeast}.
+   *
+   * @param xMost upper 64 bits of the first input
+   * @param xLeast lower 64 bits of the first input
+   * @param yMost upper 64 bits of the second input
+   * @param yLeast lower 64 bits of the second input
+   * @return the upper 64 bits of the product
+   */
+  public static long multiplyMost(final long xMost, final long xLeast, final long yMost,
+      final long yLeast) {
+    return unsignedMultiplyHigh(xLeast, yLeast) + xMost * yLeast + xLeast * yMost;
+  }
+
+  /**
+   * Returns the most significant 64 bits of {@code x * y + add mod 2^128}. The least significant 64
+   * bits are {@code xLeast * yLeast + addLeast}.
+   *
+   * @param xMost upper 64 bits of the first input
+   * @param xLeast lower 64 bits of the first input
+   * @param yMost upper 64 bits of the input to multiply by
+   * @param yLeast lower 64 bits of the input to multiply by
+   * @param addMost upper 64 bits of the input to add after multiplying
+   * @param addLeast lower 64 bits of the input to add after multiplying
+   * @return the upper 64 bits of the result
+   */
+  public static long multiplyAndAddMost(final long xMost, final long xLeast, final long yMost,
+      final long yLeast, final long addMost, final long addLeast) {
+    return addMost(multiplyMost(xMost, xLeast, yMost, yLeast), xLeast * yLeast, addMost, addLeast);
+  }
+
+  /**
+   * Returns the most significant 64 bits of {@code x + y mod 2^128}. The least significant 64 bits
+   * are {@code xLeast + yLeast}.
+   *
+   * @param xMost upper 64 bits of the first input
+   * @param xLeast lower 64 bits of the first input
+   * @param yMost upper 64 bits of the second input
+   * @param yLeast lower 64 bits of the second input
+   * @return the upper 64 bits of the sum
+   */
+  public static long addMost(final long xMost, final long xLeast, final long yMost,
+      final long yLeast) {
+    return xMost + yMost + ((Long.compareUnsigned(xLeast + yLeast, xLeast) < 0) ? 1 : 0);
+  }
+
+  /**
+   * Returns the most significant 64 bits of {@code x + delta mod 2^128}, where {@code delta} is
+   * sign-extended to 128 bits. The least significant 64 bits are {@code xLeast + delta}.
+   *
+   * @param xMost upper 64 bits of the first input
+   * @param xLeast lower 64 bits of the first input
+   * @param delta the signed input to add
+   * @return the upper 64 bits of the sum
+   */
+  public static long addMost(final long xMost, final long xLeast, final long delta) {
+    return addMost(xMost, xLeast, delta >> (Long.SIZE - 1), delta);
+  }
+
+  private static long trueShiftRight(final long input, final int amount) {
+    if (amount <= -Long.SIZE || amount >= Long.SIZE) {
+      return 0;
+    }
+    if (amount < 0) {
+      return input << -amount;
+    }
+    return input >>> amount;
+  }
+
+  /**
+   * Returns the upper 64 bits of {@code (oldMost << 64LL + oldLeast) >>> bits}.
+   *
+   * @param bits how many bits to shift by
+   * @param oldMost upper 64 bits of input
+   * @param oldLeast lower 64 bits of input
+   * @return the upper 64 bits of {@code (oldMost << 64LL + oldLeast) >>> bits}
+   */
+  public static long shiftedMost(final int bits, final long oldMost, final long oldLeast) {
+    return trueShiftRight(oldMost, bits) | trueShiftRight(oldLeast, bits + 64);
+  }
+
+  /**
+   * Returns the lower 64 bits of {@code (oldMost << 64LL + oldLeast) >>> bits}.
+   *
+   * @param bits how many bits to shift by
+   * @param oldMost upper 64 bits of input
+   * @param oldLeast lower 64 bits of input
+   * @return the lower 64 bits of {@code (oldMost << 64LL + oldLeast) >>> bits}
+   */
+  public static long shiftedLeast(final int bits, final long oldMost, final long oldLeast) {
+    return trueShiftRight(oldLeast, bits) | trueShiftRight(oldMost, bits - 64);
+  }
+}
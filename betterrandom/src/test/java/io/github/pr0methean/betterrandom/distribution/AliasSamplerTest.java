@@ -0,0 +1,87 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.SamplerTestUtils.assertBulkMatchesScalarDiscrete;
+import static io.github.pr0methean.betterrandom.distribution.SamplerTestUtils.assertMatches;
+import static io.github.pr0methean.betterrandom.distribution.SamplerTestUtils.createRandom;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import org.apache.commons.math3.distribution.EnumeratedIntegerDistribution;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class AliasSamplerTest {
+
+  @DataProvider(name = "weights") public static Object[][] getWeights() {
+    final double[] many = new double[1000];
+    for (int i = 0; i < many.length; i++) {
+      many[i] = 1 + (i % 7) * (i % 13);
+    }
+    // The sum is finite, but the first weight times the number of weights isn't
+    final double[] huge = {Double.MAX_VALUE / 3, Double.MAX_VALUE / 8, Double.MAX_VALUE / 8,
+        Double.MAX_VALUE / 8};
+    return new Object[][]{{new double[]{1, 1}}, {new double[]{0.1, 0.2, 0.3, 0.4}},
+        {new double[]{1000, 1, 1, 1, 1, 1}}, {new double[]{5, 0, 3, 0, 2}}, {many}, {huge}};
+  }
+
+  @Test(dataProvider = "weights") public void testDistribution(final double[] weights) {
+    final int[] indices = new int[weights.length];
+    for (int i = 0; i < indices.length; i++) {
+      indices[i] = i;
+    }
+    assertMatches(new AliasSampler(weights), new EnumeratedIntegerDistribution(indices, weights));
+  }
+
+  @Test public void testZeroWeightsNeverChosen() {
+    final AliasSampler sampler = new AliasSampler(new double[]{0, 1, 0, 1, 0});
+    final BaseRandom random = createRandom(1);
+    for (int i = 0; i < 10_000; i++) {
+      assertEquals(sampler.sample(random) % 2, 1);
+    }
+  }
+
+  @Test public void testSingleWeight() {
+    final AliasSampler sampler = new AliasSampler(new double[]{0.5});
+    assertEquals(sampler.size(), 1);
+    final BaseRandom random = createRandom(1);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(sampler.sample(random), 0);
+    }
+  }
+
+  @Test public void testWeightsCopied() {
+    final double[] weights = {1, 0};
+    final AliasSampler sampler = new AliasSampler(weights);
+    weights[0] = 0;
+    weights[1] = 1;
+    final BaseRandom random = createRandom(1);
+    for (int i = 0; i < 100; i++) {
+      assertNotEquals(sampler.sample(random), 1);
+    }
+  }
+
+  @Test public void testBulk() {
+    assertBulkMatchesScalarDiscrete(new AliasSampler(new double[]{3, 1, 4, 1, 5, 9, 2, 6}));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testEmpty() {
+    new AliasSampler(new double[0]);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testNegativeWeight() {
+    new AliasSampler(new double[]{1, -1});
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testNaNWeight() {
+    new AliasSampler(new double[]{1, Double.NaN});
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testAllZero() {
+    new AliasSampler(new double[]{0, 0});
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testInfiniteSum() {
+    new AliasSampler(new double[]{Double.MAX_VALUE, Double.MAX_VALUE});
+  }
+}
@@ -0,0 +1,28 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.SamplerTestUtils.assertBulkMatchesScalar;
+import static io.github.pr0methean.betterrandom.distribution.SamplerTestUtils.assertMatches;
+
+import org.apache.commons.math3.distribution.BetaDistribution;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class BetaSamplerTest {
+
+  @DataProvider(name = "parameters") public static Object[][] getParameters() {
+    return new Object[][]{{0.5, 0.5}, {2.0, 5.0}, {30.0, 1.5}};
+  }
+
+  @Test(dataProvider = "parameters") public void testDistribution(final double alpha,
+      final double beta) {
+    assertMatches(new BetaSampler(alpha, beta), new BetaDistribution(alpha, beta));
+  }
+
+  @Test public void testBulk() {
+    assertBulkMatchesScalar(new BetaSampler(2, 3));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testZeroAlpha() {
+    new BetaSampler(0, 1);
+  }
+}
@@ -0,0 +1,70 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.SamplerTestUtils.assertBulkMatchesScalarDiscrete;
+import static io.github.pr0methean.betterrandom.distribution.SamplerTestUtils.assertMatches;
+import static io.github.pr0methean.betterrandom.distribution.SamplerTestUtils.createRandom;
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import org.apache.commons.math3.distribution.BinomialDistribution;
+import org.apache.commons.math3.special.Gamma;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class BinomialSamplerTest {
+
+  @DataProvider(name = "parameters") public static Object[][] getParameters() {
+    // Inversion, then BTPE, each with p above and below 0.5
+    return new Object[][]{{20, 0.3}, {50, 0.85}, {1000, 0.4}, {1000, 0.9}, {100_000, 0.01}};
+  }
+
+  @Test(dataProvider = "parameters") public void testDistribution(final int trials,
+      final double probability) {
+    assertMatches(new BinomialSampler(trials, probability),
+        new BinomialDistribution(trials, probability));
+  }
+
+  @Test public void testDegenerate() {
+    final BaseRandom random = createRandom(1);
+    assertEquals(new BinomialSampler(10, 0).sample(random), 0);
+    assertEquals(new BinomialSampler(10, 1).sample(random), 10);
+    assertEquals(new BinomialSampler(0, 0.5).sample(random), 0);
+  }
+
+  @Test public void testLogDensityRatio() {
+    checkLogDensityRatio(1000, 0.4);
+    checkLogDensityRatio(1000, 0.9);
+  }
+
+  /**
+   * Compares the Stirling-formula log density ratio against exact log-gamma values, over the range
+   * where BTPE uses it.
+   */
+  private static void checkLogDensityRatio(final int trials, final double probability) {
+    final BinomialSampler sampler = new BinomialSampler(trials, probability);
+    final double r = Math.min(probability, 1 - probability);
+    final double q = 1 - r;
+    final long m = (long) Math.floor((trials * r) + r);
+    final long maxK = (long) (trials * r * q / 2) - 2;
+    for (long k = 21; k <= maxK; k++) {
+      for (final long y : new long[]{m - k, m + k}) {
+        final double exact = (Gamma.logGamma(m + 1) + Gamma.logGamma((trials - m) + 1))
+            - Gamma.logGamma(y + 1) - Gamma.logGamma((trials - y) + 1)
+            + ((y - m) * Math.log(r / q));
+        assertEquals(sampler.logDensityRatio(y), exact, 1e-11, "y = " + y);
+      }
+    }
+  }
+
+  @Test public void testBulk() {
+    assertBulkMatchesScalarDiscrete(new BinomialSampler(500, 0.3));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testNegativeTrials() {
+    new BinomialSampler(-1, 0.5);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testProbabilityAbove1() {
+    new BinomialSampler(10, 1.5);
+  }
+}
@@ -0,0 +1,41 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.SamplerTestUtils.assertBulkMatchesScalar;
+import static io.github.pr0methean.betterrandom.distribution.SamplerTestUtils.assertMatches;
+import static org.testng.Assert.assertTrue;
+
+import org.apache.commons.math3.distribution.ExponentialDistribution;
+import org.testng.annotations.Test;
+
+public class ExponentialSamplerTest {
+
+  @Test public void testDistribution() {
+    assertMatches(new ExponentialSampler(2.5), new ExponentialDistribution(2.5));
+  }
+
+  @Test public void testTail() {
+    // Only about 1 in 2200 standard samples is in the ziggurat's tail, so check it separately
+    final double[] samples = new double[SamplerTestUtils.SAMPLES];
+    new ExponentialSampler(1).sample(SamplerTestUtils.createRandom(1), samples);
+    int inTail = 0;
+    for (final double sample : samples) {
+      if (sample > 7.69711747013104972) {
+        inTail++;
+      }
+    }
+    // Expect about 45
+    assertTrue(inTail > 15 && inTail < 90, "Wrong number in tail: " + inTail);
+  }
+
+  @Test public void testBulk() {
+    assertBulkMatchesScalar(new ExponentialSampler(1));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testZeroMean() {
+    new ExponentialSampler(0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testInfiniteMean() {
+    new ExponentialSampler(Double.POSITIVE_INFINITY);
+  }
+}
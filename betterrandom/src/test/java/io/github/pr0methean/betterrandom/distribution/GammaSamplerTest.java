@@ -0,0 +1,32 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.SamplerTestUtils.assertBulkMatchesScalar;
+import static io.github.pr0methean.betterrandom.distribution.SamplerTestUtils.assertMatches;
+
+import org.apache.commons.math3.distribution.GammaDistribution;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class GammaSamplerTest {
+
+  @DataProvider(name = "parameters") public static Object[][] getParameters() {
+    return new Object[][]{{0.3, 1.0}, {1.0, 2.0}, {2.5, 0.5}, {40.0, 3.0}};
+  }
+
+  @Test(dataProvider = "parameters") public void testDistribution(final double shape,
+      final double scale) {
+    assertMatches(new GammaSampler(shape, scale), new GammaDistribution(shape, scale));
+  }
+
+  @Test public void testBulk() {
+    assertBulkMatchesScalar(new GammaSampler(0.5, 1));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testNegativeShape() {
+    new GammaSampler(-1, 1);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testNaNScale() {
+    new GammaSampler(1, Double.NaN);
+  }
+}
@@ -0,0 +1,32 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.SamplerTestUtils.assertBulkMatchesScalarDiscrete;
+import static io.github.pr0methean.betterrandom.distribution.SamplerTestUtils.assertMatches;
+
+import org.apache.commons.math3.distribution.PoissonDistribution;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class PoissonSamplerTest {
+
+  @DataProvider(name = "means") public static Object[][] getMeans() {
+    // Below and above the threshold for PTRS
+    return new Object[][]{{0.2}, {3.7}, {10.0}, {42.5}, {2500.0}};
+  }
+
+  @Test(dataProvider = "means") public void testDistribution(final double mean) {
+    assertMatches(new PoissonSampler(mean), new PoissonDistribution(mean));
+  }
+
+  @Test public void testBulk() {
+    assertBulkMatchesScalarDiscrete(new PoissonSampler(100));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testZeroMean() {
+    new PoissonSampler(0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testHugeMean() {
+    new PoissonSampler(Integer.MAX_VALUE);
+  }
+}
@@ -0,0 +1,94 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.math3.distribution.IntegerDistribution;
+import org.apache.commons.math3.distribution.RealDistribution;
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.apache.commons.math3.stat.inference.KolmogorovSmirnovTest;
+
+/**
+ * Checks that samplers match the corresponding Commons Math distributions.
+ */
+enum SamplerTestUtils {
+  ;
+
+  static final int SAMPLES = 100_000;
+  /**
+   * Tests fail if the p-value is below this. The PRNGs are seeded, so results are repeatable.
+   */
+  private static final double SIGNIFICANCE = 1e-3;
+  private static final double MINIMUM_EXPECTED_COUNT = 10;
+
+  static BaseRandom createRandom(final long seed) {
+    return new Pcg64Random(BinaryUtils.convertLongToBytes(seed));
+  }
+
+  static void assertMatches(final ContinuousSampler sampler, final RealDistribution expected) {
+    final double[] samples = new double[SAMPLES];
+    sampler.sample(createRandom(0x0123456789ABCDEFL), samples);
+    final double pValue = new KolmogorovSmirnovTest().kolmogorovSmirnovTest(expected, samples);
+    assertTrue(pValue >= SIGNIFICANCE,
+        String.format("%s doesn't match %s: p = %s", sampler, expected, pValue));
+  }
+
+  static void assertMatches(final DiscreteSampler sampler, final IntegerDistribution expected) {
+    final int[] samples = new int[SAMPLES];
+    sampler.sample(createRandom(0x0123456789ABCDEFL), samples);
+    final int lowest = expected.getSupportLowerBound();
+    final int highest = (int) Math.min(expected.getSupportUpperBound(), lowest + 100_000L);
+    final long[] counts = new long[highest - lowest + 1];
+    for (final int sample : samples) {
+      assertTrue(sample >= lowest && sample <= highest,
+          String.format("%s returned %d, outside the support of %s", sampler, sample, expected));
+      counts[sample - lowest]++;
+    }
+    // Merge bins with too few expected values into their neighbors
+    final List<Double> expectedBins = new ArrayList<>();
+    final List<Long> observedBins = new ArrayList<>();
+    double pendingExpected = 0;
+    long pendingObserved = 0;
+    for (int k = lowest; k <= highest; k++) {
+      pendingExpected += expected.probability(k) * SAMPLES;
+      pendingObserved += counts[k - lowest];
+      if (pendingExpected >= MINIMUM_EXPECTED_COUNT) {
+        expectedBins.add(pendingExpected);
+        observedBins.add(pendingObserved);
+        pendingExpected = 0;
+        pendingObserved = 0;
+      }
+    }
+    final int lastBin = expectedBins.size() - 1;
+    expectedBins.set(lastBin, expectedBins.get(lastBin) + pendingExpected);
+    observedBins.set(lastBin, observedBins.get(lastBin) + pendingObserved);
+    final double[] expectedArray = expectedBins.stream().mapToDouble(Double::doubleValue).toArray();
+    final long[] observedArray = observedBins.stream().mapToLong(Long::longValue).toArray();
+    final double pValue = new ChiSquareTest().chiSquareTest(expectedArray, observedArray);
+    assertTrue(pValue >= SIGNIFICANCE,
+        String.format("%s doesn't match %s: p = %s", sampler, expected, pValue));
+  }
+
+  static void assertBulkMatchesScalar(final ContinuousSampler sampler) {
+    final double[] bulk = new double[100];
+    sampler.sample(createRandom(42), bulk);
+    final BaseRandom random = createRandom(42);
+    for (final double value : bulk) {
+      assertEquals(sampler.sample(random), value);
+    }
+  }
+
+  static void assertBulkMatchesScalarDiscrete(final DiscreteSampler sampler) {
+    final int[] bulk = new int[100];
+    sampler.sample(createRandom(42), bulk);
+    final BaseRandom random = createRandom(42);
+    for (final int value : bulk) {
+      assertEquals(sampler.sample(random), value);
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.SamplerTestUtils.assertBulkMatchesScalarDiscrete;
+import static io.github.pr0methean.betterrandom.distribution.SamplerTestUtils.assertMatches;
+import static io.github.pr0methean.betterrandom.distribution.SamplerTestUtils.createRandom;
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import org.apache.commons.math3.distribution.ZipfDistribution;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class ZipfSamplerTest {
+
+  @DataProvider(name = "parameters") public static Object[][] getParameters() {
+    return new Object[][]{{2, 1.0}, {10, 0.01}, {100, 1.1}, {50, 2.5}, {1000, 0.5}};
+  }
+
+  @Test(dataProvider = "parameters") public void testDistribution(final int numberOfElements,
+      final double exponent) {
+    assertMatches(new ZipfSampler(numberOfElements, exponent),
+        new ZipfDistribution(numberOfElements, exponent));
+  }
+
+  @Test public void testSingleElement() {
+    final BaseRandom random = createRandom(1);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(new ZipfSampler(1, 1).sample(random), 1);
+    }
+  }
+
+  @Test public void testBulk() {
+    assertBulkMatchesScalarDiscrete(new ZipfSampler(100, 1));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testNoElements() {
+    new ZipfSampler(0, 1);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testNegativeExponent() {
+    new ZipfSampler(10, -1);
+  }
+}
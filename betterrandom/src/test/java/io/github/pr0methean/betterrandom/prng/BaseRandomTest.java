@@ -15,6 +15,8 @@ import static org.powermock.api.mockito.PowerMockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -33,14 +35,24 @@ import io.github.pr0methean.betterrandom.seed.RandomSeeder;
 import io.github.pr0methean.betterrandom.seed.SeedException;
 import io.github.pr0methean.betterrandom.seed.SeedGenerator;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.UUID;
@@ -50,10 +62,12 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.DoubleConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.LongStream;
 import org.apache.commons.math3.stat.descriptive.SynchronizedDescriptiveStatistics;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.api.mockito.mockpolicies.Slf4jMockPolicy;
@@ -74,6 +88,10 @@ public abstract class BaseRandomTest<T extends BaseRandom> extends PowerMockTest
   protected static final int INSTANCES_TO_HASH = 25;
   protected static final int EXPECTED_UNIQUE_HASHES = (int) (0.8 * INSTANCES_TO_HASH);
   protected static final int TEST_BYTES_LENGTH = 100;
+  private static final int PARALLEL_STREAM_SIZE = 256;
+  private static final int BIAS_TEST_SAMPLES = 3000;
+  private static final int PERMUTATION_TEST_SAMPLES = 1200;
+  private static final int BULK_CONVERSION_TEST_SIZE = 2500;
   protected final SeedGenerator pseudorandomSeedGenerator = new PseudorandomSeedGenerator();
 
   /**
@@ -448,6 +466,55 @@ public abstract class BaseRandomTest<T extends BaseRandom> extends PowerMockTest
     RandomTestUtils.checkReseeding(seedGenerator, rng, true);
   }
 
+  @Test(timeOut = 10_000) public void testCreateUnsynchronized() throws IOException {
+    assertFalse(createRng().isUnsynchronized());
+    final BaseRandom prng = BaseRandom.createUnsynchronized(this::createRng);
+    assertTrue(prng.isUnsynchronized());
+    // The lock still reports its holds accurately to the owning thread
+    prng.lock.lock();
+    try {
+      assertTrue(prng.lock.isHeldByCurrentThread());
+      prng.lock.lock();
+      assertEquals(prng.lock.getHoldCount(), 2);
+      prng.lock.unlock();
+    } finally {
+      prng.lock.unlock();
+    }
+    assertFalse(prng.lock.isHeldByCurrentThread());
+    final long entropy = prng.getEntropyBits();
+    prng.nextInt();
+    prng.nextLong();
+    prng.nextBytes(new byte[TEST_BYTE_ARRAY_LENGTH]);
+    prng.nextInts(new int[STREAM_SIZE]);
+    assertLessOrEqual(prng.getEntropyBits(), entropy - Integer.SIZE - Long.SIZE);
+    prng.setSeed(getTestSeedGenerator().generateSeed(getNewSeedLength()));
+    assertFalse(prng.lock.isLocked());
+    // The lock is serialized as a plain ReentrantLock, and the copy is synchronized
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(prng);
+    }
+    assertFalse(new String(bytes.toByteArray(), StandardCharsets.ISO_8859_1)
+        .contains("UnsynchronizedLock"), "Lock serialized as a private subclass");
+    final BaseRandom copy = SerializableTester.reserialize(prng);
+    assertSame(copy.lock.getClass(), ReentrantLock.class);
+    assertFalse(copy.isUnsynchronized());
+  }
+
+  @Test(timeOut = 10_000, expectedExceptions = IllegalStateException.class)
+  public void testSetRandomSeederWhenUnsynchronized() {
+    final BaseRandom prng = BaseRandom.createUnsynchronized(this::createRng);
+    prng.setRandomSeeder(new RandomSeeder(getTestSeedGenerator()));
+  }
+
+  /**
+   * By default, streams share the PRNG instead of splitting, since a PRNG seeded from this one's
+   * output isn't guaranteed not to overlap it.
+   */
+  @Test public void testCreateStreamSplit() {
+    assertNull(createRng().createStreamSplit(1 << 20));
+  }
+
   @Test(timeOut = 10_000) public void testWithProbability() {
     final BaseRandom prng = createRng();
     final long originalEntropy = prng.getEntropyBits();
@@ -500,8 +567,13 @@ public abstract class BaseRandomTest<T extends BaseRandom> extends PowerMockTest
     final long oldEntropy = prng.getEntropyBits();
     prng.nextBytes(testBytes);
     assertFalse(Arrays.equals(testBytes, new byte[TEST_BYTE_ARRAY_LENGTH]));
+    checkEntropyDebit(prng, oldEntropy, 8 * TEST_BYTE_ARRAY_LENGTH);
+  }
+
+  protected void checkEntropyDebit(final BaseRandom prng, final long oldEntropy,
+      final long expectedDebit) {
     final long entropy = prng.getEntropyBits();
-    final long expectedEntropy = oldEntropy - (8 * TEST_BYTE_ARRAY_LENGTH);
+    final long expectedEntropy = oldEntropy - expectedDebit;
     EntropyCheckMode entropyCheckMode = getEntropyCheckMode();
     switch (entropyCheckMode) {
       case EXACT:
@@ -517,6 +589,240 @@ public abstract class BaseRandomTest<T extends BaseRandom> extends PowerMockTest
     }
   }
 
+  @Test(timeOut = 10_000) public void testNextBytesByteBuffer() {
+    checkNextBytesByteBuffer(ByteBuffer.allocate(TEST_BYTE_ARRAY_LENGTH + 2));
+    checkNextBytesByteBuffer(ByteBuffer.allocateDirect(TEST_BYTE_ARRAY_LENGTH + 2));
+  }
+
+  private void checkNextBytesByteBuffer(final ByteBuffer buffer) {
+    final BaseRandom prng = createRng();
+    // Leave a byte untouched at each end
+    buffer.position(1);
+    buffer.limit(TEST_BYTE_ARRAY_LENGTH + 1);
+    final long oldEntropy = prng.getEntropyBits();
+    prng.nextBytes(buffer);
+    assertEquals(buffer.position(), TEST_BYTE_ARRAY_LENGTH + 1);
+    checkEntropyDebit(prng, oldEntropy, 8 * TEST_BYTE_ARRAY_LENGTH);
+    buffer.clear();
+    final byte[] testBytes = new byte[TEST_BYTE_ARRAY_LENGTH + 2];
+    buffer.get(testBytes);
+    assertEquals(testBytes[0], 0);
+    assertEquals(testBytes[TEST_BYTE_ARRAY_LENGTH + 1], 0);
+    assertFalse(Arrays.equals(testBytes, new byte[TEST_BYTE_ARRAY_LENGTH + 2]));
+  }
+
+  /**
+   * Every PRNG supports this, but only a {@link io.github.pr0methean.betterrandom.SeekableRandom}
+   * guarantees the output; see {@link SeekableRandomTest#testParallelLongs()}.
+   */
+  @Test(timeOut = 10_000) public void testParallelLongsSize() {
+    final LongStream stream = createRng().parallelLongs(PARALLEL_STREAM_SIZE);
+    assertTrue(stream.isParallel());
+    assertEquals(stream.count(), PARALLEL_STREAM_SIZE);
+  }
+
+  @Test(timeOut = 10_000) public void testNextLongsLongBuffer() {
+    final LongBuffer buffer = ByteBuffer.allocateDirect(Long.BYTES * STREAM_SIZE).asLongBuffer();
+    final BaseRandom prng = createRng();
+    final long oldEntropy = prng.getEntropyBits();
+    prng.nextLongs(buffer);
+    assertFalse(buffer.hasRemaining());
+    checkEntropyDebit(prng, oldEntropy, Long.SIZE * (long) STREAM_SIZE);
+    buffer.flip();
+    final long[] output = new long[STREAM_SIZE];
+    buffer.get(output);
+    assertFalse(Arrays.equals(output, new long[STREAM_SIZE]));
+  }
+
+  @Test(timeOut = 10_000) public void testNextInts() {
+    final int[] output = new int[STREAM_SIZE];
+    final BaseRandom prng = createRng();
+    final long oldEntropy = prng.getEntropyBits();
+    prng.nextInts(output);
+    assertFalse(Arrays.equals(output, new int[STREAM_SIZE]));
+    checkEntropyDebit(prng, oldEntropy, Integer.SIZE * (long) STREAM_SIZE);
+  }
+
+  @Test(timeOut = 10_000) public void testNextLongs() {
+    final long[] output = new long[STREAM_SIZE];
+    final BaseRandom prng = createRng();
+    final long oldEntropy = prng.getEntropyBits();
+    prng.nextLongs(output);
+    assertFalse(Arrays.equals(output, new long[STREAM_SIZE]));
+    checkEntropyDebit(prng, oldEntropy, Long.SIZE * (long) STREAM_SIZE);
+  }
+
+  @Test(timeOut = 10_000) public void testNextDoubles() {
+    final double[] output = new double[STREAM_SIZE];
+    final BaseRandom prng = createRng();
+    final long oldEntropy = prng.getEntropyBits();
+    prng.nextDoubles(output);
+    assertFalse(Arrays.equals(output, new double[STREAM_SIZE]));
+    for (final double value : output) {
+      assertGreaterOrEqual(value, 0.0);
+      assertTrue(value < 1.0, "Value too high: " + value);
+    }
+    checkEntropyDebit(prng, oldEntropy, ENTROPY_OF_DOUBLE * (long) STREAM_SIZE);
+  }
+
+  @Test(timeOut = 10_000) public void testNextFloats() {
+    final float[] output = new float[STREAM_SIZE];
+    final BaseRandom prng = createRng();
+    final long oldEntropy = prng.getEntropyBits();
+    prng.nextFloats(output);
+    assertFalse(Arrays.equals(output, new float[STREAM_SIZE]));
+    for (final float value : output) {
+      assertGreaterOrEqual(value, 0.0f);
+      assertTrue(value < 1.0f, "Value too high: " + value);
+    }
+    checkEntropyDebit(prng, oldEntropy, ENTROPY_OF_FLOAT * (long) STREAM_SIZE);
+  }
+
+  @Test(timeOut = 10_000) public void testNextDoublesWithBounds() {
+    // Longer than one chunk, so that the last chunk is partial
+    final double[] output = new double[BULK_CONVERSION_TEST_SIZE];
+    final BaseRandom prng = createRng();
+    final long oldEntropy = prng.getEntropyBits();
+    prng.nextDoubles(output, 5.0, 13.37);
+    for (final double value : output) {
+      assertGreaterOrEqual(value, 5.0);
+      assertTrue(value < 13.37, "Value too high: " + value);
+    }
+    assertNotEquals(output[0], output[output.length - 1]);
+    checkEntropyDebit(prng, oldEntropy, ENTROPY_OF_DOUBLE * (long) BULK_CONVERSION_TEST_SIZE);
+    prng.nextDoubles(output, 1.0, UPPER_BOUND_FOR_ROUNDING_TEST);
+    for (final double value : output) {
+      assertGreaterOrEqual(value, 1.0);
+      assertTrue(value < UPPER_BOUND_FOR_ROUNDING_TEST, "Value too high: " + value);
+    }
+  }
+
+  @Test(timeOut = 10_000) public void testNextFloatsWithBounds() {
+    final float[] output = new float[BULK_CONVERSION_TEST_SIZE];
+    final BaseRandom prng = createRng();
+    final long oldEntropy = prng.getEntropyBits();
+    prng.nextFloats(output, -2.0f, 0.5f);
+    for (final float value : output) {
+      assertGreaterOrEqual(value, -2.0f);
+      assertTrue(value < 0.5f, "Value too high: " + value);
+    }
+    assertNotEquals(output[0], output[output.length - 1]);
+    checkEntropyDebit(prng, oldEntropy, ENTROPY_OF_FLOAT * (long) BULK_CONVERSION_TEST_SIZE);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNextDoublesWithBoundsInvalid() {
+    createRng().nextDoubles(new double[1], 2.0, 1.0);
+  }
+
+  /**
+   * The width of these ranges overflows to infinity.
+   */
+  @Test(timeOut = 10_000) public void testNextDoublesAndFloatsWithExtremeBounds() {
+    final BaseRandom prng = createRng();
+    final double[] doubles = new double[BULK_CONVERSION_TEST_SIZE];
+    prng.nextDoubles(doubles, -Double.MAX_VALUE, Double.MAX_VALUE);
+    for (final double value : doubles) {
+      assertFalse(Double.isNaN(value) || Double.isInfinite(value), "Value not finite: " + value);
+    }
+    assertNotEquals(doubles[0], doubles[doubles.length - 1]);
+    final float[] floats = new float[BULK_CONVERSION_TEST_SIZE];
+    prng.nextFloats(floats, -Float.MAX_VALUE, Float.MAX_VALUE);
+    for (final float value : floats) {
+      assertFalse(Float.isNaN(value) || Float.isInfinite(value), "Value not finite: " + value);
+    }
+    assertNotEquals(floats[0], floats[floats.length - 1]);
+    checkRangeAndEntropy(prng, ENTROPY_OF_DOUBLE,
+        () -> prng.nextDouble(-Double.MAX_VALUE, Double.MAX_VALUE), -Double.MAX_VALUE,
+        Double.MAX_VALUE, getEntropyCheckMode());
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNextDoublesWithInfiniteBound() {
+    createRng().nextDoubles(new double[1], 0.0, Double.POSITIVE_INFINITY);
+  }
+
+  /**
+   * Test that the bulk-fill methods produce the same output as the corresponding single-value
+   * methods would.
+   */
+  @Test(timeOut = 15_000) public void testBulkFillMatchesSingleValues() throws SeedException {
+    final BaseRandom rng = createRng();
+    checkBulkFillMatchesSingleValues(rng, createRng(rng.getSeed()));
+  }
+
+  protected void checkBulkFillMatchesSingleValues(final BaseRandom rng,
+      final BaseRandom duplicateRng) {
+    // Odd lengths, so that generators producing 2 ints per step end up mid-step
+    final int[] ints = new int[STREAM_SIZE + 1];
+    rng.nextInts(ints);
+    for (final int value : ints) {
+      assertEquals(value, duplicateRng.nextInt());
+    }
+    final long[] longs = new long[STREAM_SIZE + 1];
+    rng.nextLongs(longs);
+    for (final long value : longs) {
+      assertEquals(value, duplicateRng.nextLong());
+    }
+    // Big-endian, so that words written in the buffer's own byte order would come out reversed
+    final ByteBuffer byteBuffer = ByteBuffer.allocate(STREAM_SIZE + 1).order(ByteOrder.BIG_ENDIAN);
+    rng.nextBytes(byteBuffer);
+    final byte[] bytes = new byte[STREAM_SIZE + 1];
+    duplicateRng.nextBytes(bytes);
+    assertEquals(byteBuffer.array(), bytes);
+    final LongBuffer longBuffer = LongBuffer.allocate(STREAM_SIZE + 1);
+    rng.nextLongs(longBuffer);
+    for (final long value : longBuffer.array()) {
+      assertEquals(value, duplicateRng.nextLong());
+    }
+    final double[] doubles = new double[STREAM_SIZE + 1];
+    rng.nextDoubles(doubles);
+    for (final double value : doubles) {
+      assertEquals(value, duplicateRng.nextDouble());
+    }
+    final float[] floats = new float[STREAM_SIZE + 1];
+    rng.nextFloats(floats);
+    for (final float value : floats) {
+      assertEquals(value, duplicateRng.nextFloat());
+    }
+    rng.forEachInt(STREAM_SIZE + 1, value -> assertEquals(value, duplicateRng.nextInt()));
+    rng.forEachLong(STREAM_SIZE + 1, value -> assertEquals(value, duplicateRng.nextLong()));
+    rng.forEachDouble(STREAM_SIZE + 1, value -> assertEquals(value, duplicateRng.nextDouble()));
+    assertEquals(rng.nextLong(), duplicateRng.nextLong());
+  }
+
+  @Test(timeOut = 10_000) public void testForEachLong() {
+    final BaseRandom prng = createRng();
+    final long oldEntropy = prng.getEntropyBits();
+    // Longer than one chunk, so that the last chunk is partial
+    final long[] output = new long[BULK_CONVERSION_TEST_SIZE];
+    final int[] index = {0};
+    prng.forEachLong(BULK_CONVERSION_TEST_SIZE, value -> output[index[0]++] = value);
+    assertEquals(index[0], BULK_CONVERSION_TEST_SIZE);
+    assertNotEquals(output[0], output[output.length - 1]);
+    checkEntropyDebit(prng, oldEntropy, Long.SIZE * (long) BULK_CONVERSION_TEST_SIZE);
+  }
+
+  @Test(timeOut = 10_000) public void testForEachIntAndDouble() {
+    final BaseRandom prng = createRng();
+    final int[] count = {0};
+    prng.forEachInt(BULK_CONVERSION_TEST_SIZE, value -> count[0]++);
+    assertEquals(count[0], BULK_CONVERSION_TEST_SIZE);
+    count[0] = 0;
+    prng.forEachDouble(BULK_CONVERSION_TEST_SIZE, value -> {
+      assertGreaterOrEqual(value, 0.0);
+      assertTrue(value < 1.0, "Value too high: " + value);
+      count[0]++;
+    });
+    assertEquals(count[0], BULK_CONVERSION_TEST_SIZE);
+    prng.forEachLong(0, value -> fail("Called for an empty batch"));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testForEachLongNegativeCount() {
+    createRng().forEachLong(-1, value -> {});
+  }
+
   @Test public void testNextInt1() {
     final BaseRandom prng = createRng();
     final Supplier<? extends Number> numberSupplier = () -> prng.nextInt(3 << 29);
@@ -553,6 +859,129 @@ public abstract class BaseRandomTest<T extends BaseRandom> extends PowerMockTest
         getEntropyCheckMode());
   }
 
+  /**
+   * With a bound of 3/8 of the output range, multiply-and-shift without rejection would make two
+   * of the three equal-width buckets 50% more likely than the third.
+   */
+  @Test public void testNextIntUnbiased() {
+    final BaseRandom prng = createRng();
+    final int[] counts = new int[3];
+    for (int i = 0; i < BIAS_TEST_SAMPLES; i++) {
+      counts[prng.nextInt(3 << 29) >>> 29]++;
+    }
+    assertBucketsEven(counts);
+  }
+
+  @Test public void testNextLongUnbiased() {
+    final BaseRandom prng = createRng();
+    final int[] counts = new int[3];
+    for (int i = 0; i < BIAS_TEST_SAMPLES; i++) {
+      counts[(int) ((prng.nextLong(-1L << 61, 1L << 62) + (1L << 61)) >>> 61)]++;
+    }
+    assertBucketsEven(counts);
+  }
+
+  @Test public void testShuffleUniform() {
+    final BaseRandom prng = createRng();
+    final int[] counts = new int[9];
+    for (int i = 0; i < PERMUTATION_TEST_SAMPLES; i++) {
+      final int[] array = {0, 1, 2};
+      prng.shuffle(array);
+      counts[(3 * array[0]) + array[1]]++;
+    }
+    // Buckets 0, 4 and 8 would mean a repeated element
+    assertEquals(counts[0] + counts[4] + counts[8], 0, "Not a permutation");
+    for (final int index : new int[]{1, 2, 3, 5, 6, 7}) {
+      assertEquals(counts[index], PERMUTATION_TEST_SAMPLES / 6.0, 75.0,
+          "Uneven permutations: " + Arrays.toString(counts));
+    }
+  }
+
+  @Test public void testShuffleLongs() {
+    final long[] array = new long[1000];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = i;
+    }
+    createRng().shuffle(array);
+    final long[] sorted = array.clone();
+    Arrays.sort(sorted);
+    for (int i = 0; i < sorted.length; i++) {
+      assertEquals(sorted[i], i, "Not a permutation");
+    }
+    assertFalse(Arrays.equals(array, sorted), "Not shuffled");
+  }
+
+  @Test public void testShuffleList() {
+    final BaseRandom prng = createRng();
+    final List<Integer> original = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      original.add(i);
+    }
+    for (final List<Integer> list : ImmutableList.of(new ArrayList<>(original),
+        new LinkedList<>(original))) {
+      prng.shuffle(list);
+      assertEquals(new HashSet<>(list), new HashSet<>(original), "Not a permutation");
+      assertNotEquals(list, original, "Not shuffled");
+    }
+  }
+
+  @Test public void testShuffleListCalledWithoutLock() {
+    final BaseRandom prng = createRng();
+    final List<Integer> original = new ArrayList<>();
+    for (int i = 0; i < 3000; i++) {
+      original.add(i);
+    }
+    final List<Integer> list = new ArrayList<Integer>(original) {
+      @Override public Integer set(final int index, final Integer element) {
+        assertFalse(prng.lock.isHeldByCurrentThread(), "List accessed while holding the lock");
+        return super.set(index, element);
+      }
+    };
+    prng.shuffle(list);
+    assertEquals(new HashSet<>(list), new HashSet<>(original), "Not a permutation");
+    assertNotEquals(list, original, "Not shuffled");
+  }
+
+  @Test public void testSampleWithoutReplacement() {
+    final BaseRandom prng = createRng();
+    final int[] counts = new int[20];
+    for (int i = 0; i < PERMUTATION_TEST_SAMPLES; i++) {
+      final int[] sample = prng.sampleWithoutReplacement(counts.length, 5);
+      assertEquals(sample.length, 5);
+      final Set<Integer> distinct = new HashSet<>();
+      for (final int value : sample) {
+        assertTrue(distinct.add(value), "Duplicate in " + Arrays.toString(sample));
+        counts[value]++;
+      }
+    }
+    for (final int count : counts) {
+      // Expect 300, with a standard deviation of about 15
+      assertEquals(count, PERMUTATION_TEST_SAMPLES / 4.0, 90.0,
+          "Uneven sample: " + Arrays.toString(counts));
+    }
+  }
+
+  @Test public void testSampleWithoutReplacementEdgeCases() {
+    final BaseRandom prng = createRng();
+    assertEquals(prng.sampleWithoutReplacement(10, 0).length, 0);
+    final int[] all = prng.sampleWithoutReplacement(10, 10);
+    Arrays.sort(all);
+    assertEquals(all, new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testSampleWithoutReplacementTooLarge() {
+    createRng().sampleWithoutReplacement(10, 11);
+  }
+
+  private static void assertBucketsEven(final int[] counts) {
+    final int expected = BIAS_TEST_SAMPLES / counts.length;
+    for (final int count : counts) {
+      // About 6 standard deviations
+      assertEquals(count, expected, 150.0, "Uneven buckets: " + Arrays.toString(counts));
+    }
+  }
+
   @Test public void testNextLong() {
     final BaseRandom prng = createRng();
     checkRangeAndEntropy(prng, 64, (Supplier<? extends Number>) prng::nextLong, Long.MIN_VALUE,
@@ -738,6 +1167,17 @@ public abstract class BaseRandomTest<T extends BaseRandom> extends PowerMockTest
         Double.MAX_VALUE, true);
   }
 
+  @Test(timeOut = 30_000L) public void testParallelStreamSplits() {
+    final BaseRandom prng = createRng();
+    final long[] output = prng.longs(PARALLEL_STREAM_SIZE, 1L << 40, 1L << 42).parallel()
+        .toArray();
+    assertEquals(output.length, PARALLEL_STREAM_SIZE);
+    for (final long value : output) {
+      assertGreaterOrEqual(value, 1L << 40);
+      assertLessOrEqual(value, (1L << 42) - 1);
+    }
+  }
+
   @Test public void testNextElementArray() {
     final BaseRandom prng = createRng();
     testGeneratesAll(() -> prng.nextElement(STRING_ARRAY), STRING_ARRAY);
@@ -0,0 +1,50 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+@Test(testName = "ChaCha20CounterRandom") public class ChaCha20CounterRandomTest
+    extends CipherCounterRandomTest<ChaCha20CounterRandom> {
+
+  /**
+   * Checks the keystream against the test vector in section 2.3.2 of RFC 7539. The counter is
+   * incremented before each block is generated, so the seed's counter is one less than the block
+   * counter in the RFC.
+   */
+  public void testRfc7539BlockFunction() {
+    if (seedSizeBytes > 16) {
+      throw new SkipException("Skipping a redundant test");
+    }
+    final byte[] seed = new byte[ChaCha20CounterRandom.MAX_SEED_LENGTH_BYTES];
+    for (int i = 0; i < 32; i++) {
+      seed[i] = (byte) i;
+    }
+    // Nonce 00:00:00:09:00:00:00:4a:00:00:00:00 occupies words 13 to 15
+    seed[32 + 4] = 0x4a;
+    seed[32 + 8] = 0x09;
+    final byte[] output = new byte[64];
+    createRng(seed).nextBytes(output);
+    assertEquals(BinaryUtils.convertBytesToHexString(output),
+        ("10f1e7e4d13b5915500fdd1fa32071c4c7d1f4c733c068030422aa9ac3d46c4e"
+            + "d2826446079faa0914c2d705d98b02a2b5129cd1de164eb9cbd083e8a2503c4e").toUpperCase());
+  }
+
+  @Override protected int getExpectedMaxSize() {
+    return ChaCha20CounterRandom.MAX_SEED_LENGTH_BYTES;
+  }
+
+  @Override protected Class<? extends ChaCha20CounterRandom> getClassUnderTest() {
+    return ChaCha20CounterRandom.class;
+  }
+
+  @Override protected ChaCha20CounterRandom createRng() {
+    return new ChaCha20CounterRandom(getTestSeedGenerator().generateSeed(seedSizeBytes));
+  }
+
+  @Override protected ChaCha20CounterRandom createRng(final byte[] seed) {
+    return new ChaCha20CounterRandom(seed);
+  }
+}
@@ -2,11 +2,13 @@ package io.github.pr0methean.betterrandom.prng;
 
 import static io.github.pr0methean.betterrandom.TestUtils.assertGreaterOrEqual;
 import static io.github.pr0methean.betterrandom.TestUtils.assertLessOrEqual;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertTrue;
 
 import io.github.pr0methean.betterrandom.seed.SeedException;
+import java.nio.ByteBuffer;
 import java.util.Random;
 import org.testng.SkipException;
 import org.testng.annotations.BeforeClass;
@@ -103,6 +105,45 @@ public abstract class CipherCounterRandomTest<T extends CipherCounterRandom>
         "Shouldn't allow a key longer than " + getExpectedMaxSize() + "bytes");
   }
 
+  /**
+   * Since whole blocks of keystream are copied out without rounding to the word size, splitting a
+   * nextBytes call shouldn't change the output.
+   */
+  @Test(timeOut = 15000) public void testNextBytesContiguous() {
+    final T rng = createRng();
+    final T duplicateRng = createRng(rng.getSeed());
+    final byte[] expected = new byte[3 * rng.getBytesAtOnce() + 5];
+    duplicateRng.nextBytes(expected);
+    final byte[] actual = new byte[expected.length];
+    final byte[] first = new byte[7];
+    final byte[] second = new byte[expected.length - first.length];
+    rng.nextBytes(first);
+    rng.nextBytes(second);
+    System.arraycopy(first, 0, actual, 0, first.length);
+    System.arraycopy(second, 0, actual, first.length, second.length);
+    assertEquals(actual, expected);
+  }
+
+  /**
+   * Whole blocks of a direct buffer are filled by the cipher in place, but the output should be the
+   * same as if it went through {@link CipherCounterRandom#currentBlock}.
+   */
+  @Test(timeOut = 15000) public void testNextBytesByteBufferContiguous() {
+    final T rng = createRng();
+    final T duplicateRng = createRng(rng.getSeed());
+    final byte[] expected = new byte[3 * rng.getBytesAtOnce() + 12];
+    duplicateRng.nextBytes(expected);
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(expected.length);
+    buffer.limit(7);
+    rng.nextBytes(buffer);
+    buffer.limit(expected.length);
+    rng.nextBytes(buffer);
+    buffer.flip();
+    final byte[] actual = new byte[expected.length];
+    buffer.get(actual);
+    assertEquals(actual, expected);
+  }
+
   @Override public void testInitialEntropy() {
     checkInitialEntropyForCipher(this, createRng().getCounterSizeBytes());
   }
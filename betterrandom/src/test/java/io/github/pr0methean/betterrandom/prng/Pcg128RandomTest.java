@@ -1,6 +1,88 @@
 package io.github.pr0methean.betterrandom.prng;
 
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.testng.annotations.Test;
+
 public class Pcg128RandomTest extends SeekableRandomTest<Pcg128Random> {
+
+  /**
+   * Checks that the output and the state returned by {@link Pcg128Random#getSeed()} are unchanged
+   * from the implementation based on {@link io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic}.
+   */
+  @Test public void testReferenceOutput() {
+    final byte[] seed = new byte[16];
+    for (int i = 0; i < seed.length; i++) {
+      seed[i] = (byte) (i * 17 + 1);
+    }
+    final Pcg128Random rng = createRng(seed);
+    assertEquals(rng.nextLong(), 4938422465870743424L);
+    assertEquals(rng.nextLong(), 5784216882663997124L);
+    assertEquals(rng.nextLong(), 8460977332234959482L);
+    assertEquals(rng.nextLong(), -1265550790982710097L);
+    rng.advance(-1234567);
+    assertEquals(rng.nextLong(), 3219439520853670826L);
+    assertEquals(BinaryUtils.convertBytesToHexString(rng.getSeed()),
+        "96A4ECE1D75960385BD11DE784B43FD6");
+  }
+
+  /**
+   * The unsynchronized mode uses a different code path to update the state.
+   */
+  @Test public void testUnsynchronizedRepeatability() {
+    final Pcg128Random rng = createRng();
+    final Pcg128Random duplicateRng =
+        BaseRandom.createUnsynchronized(() -> createRng(rng.getSeed()));
+    RandomTestUtils.assertEquivalent(rng, duplicateRng, TEST_BYTES_LENGTH, "Output mismatch");
+    rng.advance(12345);
+    duplicateRng.advance(12345);
+    for (int i = 0; i < TEST_BYTES_LENGTH; i++) {
+      assertEquals(rng.nextLong(), duplicateRng.nextLong());
+    }
+  }
+
+  /**
+   * When several threads share an instance, each state must be used exactly once, so together they
+   * must get the same output as a single thread would, in some order.
+   */
+  @Test(timeOut = 60_000) public void testConcurrentCallsUseEachStateOnce() throws Exception {
+    final int threads = 4;
+    final int callsPerThread = 10_000;
+    final Pcg128Random rng = createRng();
+    final Pcg128Random sequential = createRng(rng.getSeed());
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final long[] concurrentOutput = new long[threads * callsPerThread];
+    try {
+      final Future<?>[] futures = new Future<?>[threads];
+      for (int thread = 0; thread < threads; thread++) {
+        final int offset = thread * callsPerThread;
+        futures[thread] = executor.submit(() -> {
+          for (int i = 0; i < callsPerThread; i += 100) {
+            concurrentOutput[offset + i] = rng.nextLong();
+            final long[] batch = new long[99];
+            rng.nextLongs(batch);
+            System.arraycopy(batch, 0, concurrentOutput, offset + i + 1, batch.length);
+          }
+        });
+      }
+      for (final Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    final long[] sequentialOutput = new long[concurrentOutput.length];
+    sequential.nextLongs(sequentialOutput);
+    Arrays.sort(concurrentOutput);
+    Arrays.sort(sequentialOutput);
+    assertEquals(concurrentOutput, sequentialOutput);
+  }
+
   @Override protected Class<? extends Pcg128Random> getClassUnderTest() {
     return Pcg128Random.class;
   }
@@ -12,4 +94,4 @@ public class Pcg128RandomTest extends SeekableRandomTest<Pcg128Random> {
   @Override protected Pcg128Random createRng(final byte[] seed) {
     return new Pcg128Random(seed);
   }
-}
\ No newline at end of file
+}
@@ -1,6 +1,10 @@
 package io.github.pr0methean.betterrandom.prng;
 
+import static org.testng.Assert.assertEquals;
+
 import io.github.pr0methean.betterrandom.seed.SeedException;
+import java.util.ArrayList;
+import java.util.List;
 import org.testng.annotations.Test;
 
 @Test(testName = "Pcg64Random") public class Pcg64RandomTest extends SeekableRandomTest<Pcg64Random> {
@@ -11,6 +15,50 @@ import org.testng.annotations.Test;
     BaseRandomTest.checkSetSeedLong(rng, rng2);
   }
 
+  /**
+   * The unsynchronized mode uses a different code path to update the state.
+   */
+  public void testUnsynchronizedRepeatability() {
+    final Pcg64Random rng = createRng();
+    final Pcg64Random duplicateRng =
+        BaseRandom.createUnsynchronized(() -> createRng(rng.getSeed()));
+    RandomTestUtils.assertEquivalent(rng, duplicateRng, TEST_BYTES_LENGTH, "Output mismatch");
+    rng.advance(12345);
+    duplicateRng.advance(12345);
+    for (int i = 0; i < TEST_BYTES_LENGTH; i++) {
+      assertEquals(rng.nextInt(), duplicateRng.nextInt());
+    }
+  }
+
+  /**
+   * Once the entropy count is negative, debits are striped; the total must stay exact, and a
+   * reseeding must start from it.
+   */
+  @Test(timeOut = 30_000) public void testConcurrentEntropyDebits() throws InterruptedException {
+    final Pcg64Random rng = createRng();
+    final long originalEntropy = rng.getEntropyBits();
+    final int threadCount = 4;
+    final int callsPerThread = 10_000;
+    final List<Thread> threads = new ArrayList<>(threadCount);
+    for (int i = 0; i < threadCount; i++) {
+      threads.add(new Thread(() -> {
+        for (int j = 0; j < callsPerThread; j++) {
+          rng.nextInt();
+        }
+      }));
+    }
+    for (final Thread thread : threads) {
+      thread.start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(rng.getEntropyBits(),
+        originalEntropy - ((long) Integer.SIZE * threadCount * callsPerThread));
+    rng.setSeed(getTestSeedGenerator().generateSeed(getNewSeedLength()));
+    assertEquals(rng.getEntropyBits(), Long.SIZE);
+  }
+
   @Override protected Class<? extends Pcg64Random> getClassUnderTest() {
     return Pcg64Random.class;
   }
@@ -0,0 +1,75 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import org.testng.annotations.Test;
+
+@Test(testName = "Philox4x32Random")
+public class Philox4x32RandomTest extends SeekableRandomTest<Philox4x32Random> {
+
+  private static void assertBlock(final int[] key, final int[] counter, final int... expected) {
+    final int[] output = new int[4];
+    Philox4x32Random.generateBlock(key, counter, output);
+    assertEquals(output, expected);
+  }
+
+  /**
+   * Checks {@link Philox4x32Random#generateBlock(int[], int[], int[])} against the known-answer
+   * vectors from Random123.
+   */
+  public void testKnownAnswers() {
+    assertBlock(new int[2], new int[4], 0x6627e8d5, 0xe169c58d, 0xbc57ac4c, 0x9b00dbd8);
+    assertBlock(new int[]{-1, -1}, new int[]{-1, -1, -1, -1}, 0x408f276d, 0x41c83b0e, 0xa20bc7c6,
+        0x6d5451fd);
+    assertBlock(new int[]{0xa4093822, 0x299f31d0},
+        new int[]{0x243f6a88, 0x85a308d3, 0x13198a2e, 0x03707344}, 0xd16cfe09, 0x94fdcceb,
+        0x5001e420, 0x24126ea1);
+  }
+
+  /**
+   * Checks that the output at an arbitrary position matches the block for the corresponding counter.
+   */
+  public void testAdvanceMatchesGenerateBlock() {
+    final long key = 0x0123456789ABCDEFL;
+    final Philox4x32Random rng = new Philox4x32Random(key);
+    rng.advance(-6); // position 2^128 - 6, which is the third word of counter 2^126 - 2
+    final int[] output = new int[4];
+    Philox4x32Random.generateBlock(new int[]{(int) key, (int) (key >>> 32)},
+        new int[]{-2, -1, -1, 0x3FFFFFFF}, output);
+    assertEquals(rng.nextInt(), output[2]);
+    assertEquals(rng.nextInt(), output[3]);
+  }
+
+  public void testDifferentKeysDiverge() {
+    RandomTestUtils.assertDistinct(new Philox4x32Random(1), new Philox4x32Random(2), 20,
+        "Output with different keys matches");
+  }
+
+  /**
+   * Advancing by 2<sup>64</sup> should carry into the most significant half of the position.
+   */
+  public void testAdvanceCarries() {
+    final byte[] seed = new byte[24];
+    BinaryUtils.convertLongToBytes(-1L, seed, 16);
+    final Philox4x32Random rng = createRng(seed);
+    BinaryUtils.convertLongToBytes(1L, seed, 8);
+    final Philox4x32Random expected = createRng(seed);
+    rng.advance(Long.MAX_VALUE);
+    rng.advance(Long.MAX_VALUE);
+    rng.advance(2);
+    RandomTestUtils.assertEquivalent(rng, expected, 16, "Output mismatch after carrying");
+  }
+
+  @Override protected Class<? extends Philox4x32Random> getClassUnderTest() {
+    return Philox4x32Random.class;
+  }
+
+  @Override protected Philox4x32Random createRng() {
+    return new Philox4x32Random(getTestSeedGenerator());
+  }
+
+  @Override protected Philox4x32Random createRng(final byte[] seed) {
+    return new Philox4x32Random(seed);
+  }
+}
@@ -1,7 +1,11 @@
 package io.github.pr0methean.betterrandom.prng;
 
+import static org.testng.Assert.assertEquals;
+
 import io.github.pr0methean.betterrandom.SeekableRandom;
+import java.util.HashSet;
 import java.util.Random;
+import java.util.Set;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -13,6 +17,14 @@ public abstract class SeekableRandomTest<T extends BaseRandom & SeekableRandom>
 
   private static final int ITERATIONS = 10; // because bugs may depend on the initial seed value
   private static final int DELTA = 37;
+  /**
+   * Large enough that the stream will split several times.
+   */
+  private static final int PARALLEL_STREAM_SIZE = 20_000;
+  /**
+   * Steps of the sequence given to each split in {@link #testStreamSplitsDontOverlap()}.
+   */
+  private static final int SPLIT_SPAN = 1 << 12;
 
   @DataProvider(name = "deltas"/*, parallel = true*/) public static Object[][] getDeltas() {
     return new Object[][]{{1}, {2}, {3}, {4}, {5}, {8}, {9}, {16}, {17}, {37}};
@@ -56,4 +68,58 @@ public abstract class SeekableRandomTest<T extends BaseRandom & SeekableRandom>
           "Output mismatch after advancing backward by " + delta);
     }
   }
+
+  @Override @Test public void testCreateStreamSplit() {
+    final T rng = createRng();
+    final byte[] seed = rng.getSeed();
+    final BaseRandom split = rng.createStreamSplit(DELTA);
+    RandomTestUtils.assertEquivalent(createRng(seed), split, DELTA,
+        "Split doesn't start at the parent's position");
+    final T advanced = createRng(seed);
+    advanced.advance(DELTA);
+    RandomTestUtils.assertEquivalent(advanced, rng, DELTA,
+        "Parent wasn't advanced past the split's part of the sequence");
+  }
+
+  @Test public void testStreamSplitsDontOverlap() {
+    final T rng = createRng();
+    final BaseRandom split1 = rng.createStreamSplit(SPLIT_SPAN);
+    final BaseRandom split2 = rng.createStreamSplit(SPLIT_SPAN);
+    final int longsPerSpan = SPLIT_SPAN / rng.getStepsPerLong();
+    final Set<Long> outputs = new HashSet<>();
+    for (final BaseRandom random : new BaseRandom[]{split1, split2, rng}) {
+      for (int i = 0; i < longsPerSpan; i++) {
+        outputs.add(random.nextLong());
+      }
+    }
+    assertEquals(outputs.size(), 3 * longsPerSpan, "Splits' outputs overlap");
+    assertEquals(split1.getEntropyBits(), rng.getEntropyBits(),
+        "Split's output wasn't debited from its parent");
+  }
+
+  @Test public void testParallelStreamHasNoRepeats() {
+    assertEquals(createRng().longs(PARALLEL_STREAM_SIZE).parallel().distinct().count(),
+        PARALLEL_STREAM_SIZE, "Parallel stream repeated an output");
+  }
+
+  @Test public void testParallelLongs() {
+    final T rng = createRng();
+    final T sequential = createRng(rng.getSeed());
+    // Start from partway through a block or output word
+    rng.nextInt();
+    sequential.nextInt();
+    final long[] parallel = rng.parallelLongs(PARALLEL_STREAM_SIZE).toArray();
+    final long[] expected = new long[PARALLEL_STREAM_SIZE];
+    for (int i = 0; i < PARALLEL_STREAM_SIZE; i++) {
+      expected[i] = sequential.nextLong();
+    }
+    assertEquals(parallel, expected, "Parallel stream doesn't match sequential output");
+    RandomTestUtils.assertEquivalent(sequential, rng, DELTA,
+        "PRNG wasn't advanced past the parallel stream");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testParallelLongsNegativeSize() {
+    createRng().parallelLongs(-1);
+  }
 }
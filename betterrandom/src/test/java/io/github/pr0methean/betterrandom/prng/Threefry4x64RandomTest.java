@@ -0,0 +1,59 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+@Test(testName = "Threefry4x64Random")
+public class Threefry4x64RandomTest extends SeekableRandomTest<Threefry4x64Random> {
+
+  private static void assertBlock(final long[] key, final long[] counter,
+      final long... expected) {
+    final long[] output = new long[4];
+    Threefry4x64Random.generateBlock(key, counter, output);
+    assertEquals(output, expected);
+  }
+
+  /**
+   * Checks {@link Threefry4x64Random#generateBlock(long[], long[], long[])} against the
+   * known-answer vectors from Random123.
+   */
+  public void testKnownAnswers() {
+    assertBlock(new long[4], new long[4], 0x09218ebde6c85537L, 0x55941f5266d86105L,
+        0x4bd25e16282434dcL, 0xee29ec846bd2e40bL);
+    assertBlock(new long[]{-1, -1, -1, -1}, new long[]{-1, -1, -1, -1}, 0x29c24097942bba1bL,
+        0x0371bbfb0f6f4e11L, 0x3c231ffa33f83a1cL, 0xcd29113fde32d168L);
+  }
+
+  /**
+   * Checks that the output at an arbitrary position matches the block for the corresponding counter.
+   */
+  public void testAdvanceMatchesGenerateBlock() {
+    final long key = 0x0123456789ABCDEFL;
+    final Threefry4x64Random rng = new Threefry4x64Random(key);
+    rng.advance(-3); // position 2^128 - 3, which is the second word of counter 2^126 - 1
+    final long[] output = new long[4];
+    Threefry4x64Random.generateBlock(new long[]{key, 0, 0, 0},
+        new long[]{-1, 0x3FFFFFFFFFFFFFFFL, 0, 0}, output);
+    assertEquals(rng.nextLong(), output[1]);
+    assertEquals(rng.nextLong(), output[2]);
+    assertEquals(rng.nextLong(), output[3]);
+  }
+
+  public void testDifferentKeysDiverge() {
+    RandomTestUtils.assertDistinct(new Threefry4x64Random(1), new Threefry4x64Random(2), 20,
+        "Output with different keys matches");
+  }
+
+  @Override protected Class<? extends Threefry4x64Random> getClassUnderTest() {
+    return Threefry4x64Random.class;
+  }
+
+  @Override protected Threefry4x64Random createRng() {
+    return new Threefry4x64Random(getTestSeedGenerator());
+  }
+
+  @Override protected Threefry4x64Random createRng(final byte[] seed) {
+    return new Threefry4x64Random(seed);
+  }
+}
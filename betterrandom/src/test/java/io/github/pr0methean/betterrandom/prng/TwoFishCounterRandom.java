@@ -41,6 +41,10 @@ public class TwoFishCounterRandom extends CipherCounterRandom {
     return 1;
   }
 
+  @Override protected BaseRandom newInstanceWithSeed(final byte[] seed) {
+    return new TwoFishCounterRandom(seed);
+  }
+
   @Override protected MessageDigest createHash() {
     return new SHA3.Digest384();
   }
@@ -0,0 +1,60 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static io.github.pr0methean.betterrandom.prng.Xoshiro256StarStarRandomTest.jumpPolynomialForPowerOfTwo;
+import static io.github.pr0methean.betterrandom.prng.Xoshiro256StarStarRandomTest.seedOf;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+@Test(testName = "Xoroshiro128PlusPlusRandom")
+public class Xoroshiro128PlusPlusRandomTest
+    extends SeekableRandomTest<Xoroshiro128PlusPlusRandom> {
+
+  /**
+   * Checks output against the reference implementation.
+   */
+  public void testReferenceOutput() {
+    final Xoroshiro128PlusPlusRandom rng = createRng(seedOf(1, 2));
+    assertEquals(rng.nextLong(), 393217L);
+    assertEquals(rng.nextLong(), 669327710093319L);
+    assertEquals(rng.nextLong(), 1732421326133921491L);
+    assertEquals(rng.nextLong(), -7051953992050424633L);
+  }
+
+  /**
+   * Checks that the characteristic polynomial found at class initialization yields the published
+   * jump polynomials.
+   */
+  public void testPublishedJumpPolynomials() {
+    assertEquals(
+        jumpPolynomialForPowerOfTwo(Xoroshiro128PlusPlusRandom.CHARACTERISTIC_POLYNOMIAL, 64),
+        new long[]{0x2bd7a6a6e99c2ddcL, 0x0992ccaf6a6fca05L});
+    assertEquals(
+        jumpPolynomialForPowerOfTwo(Xoroshiro128PlusPlusRandom.CHARACTERISTIC_POLYNOMIAL, 96),
+        new long[]{0x360fd5f2cf8d5d99L, 0x9c6e6877736c46e3L});
+  }
+
+  /**
+   * Two jumps of -2<sup>63</sup> should cancel out one published jump of 2<sup>64</sup>.
+   */
+  public void testAdvanceBackwardCancelsJump() {
+    final Xoroshiro128PlusPlusRandom rng = createRng();
+    final Xoroshiro128PlusPlusRandom copy = createRng(rng.getSeed());
+    rng.advance(Long.MIN_VALUE);
+    rng.advance(Long.MIN_VALUE);
+    rng.jump();
+    RandomTestUtils.assertEquivalent(rng, copy, 16, "Output mismatch after advancing by zero net");
+  }
+
+  @Override protected Class<? extends Xoroshiro128PlusPlusRandom> getClassUnderTest() {
+    return Xoroshiro128PlusPlusRandom.class;
+  }
+
+  @Override protected Xoroshiro128PlusPlusRandom createRng() {
+    return new Xoroshiro128PlusPlusRandom(getTestSeedGenerator());
+  }
+
+  @Override protected Xoroshiro128PlusPlusRandom createRng(final byte[] seed) {
+    return new Xoroshiro128PlusPlusRandom(seed);
+  }
+}
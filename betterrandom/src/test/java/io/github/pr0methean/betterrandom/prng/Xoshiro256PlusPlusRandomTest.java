@@ -0,0 +1,33 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static io.github.pr0methean.betterrandom.prng.Xoshiro256StarStarRandomTest.seedOf;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+@Test(testName = "Xoshiro256PlusPlusRandom")
+public class Xoshiro256PlusPlusRandomTest extends SeekableRandomTest<Xoshiro256PlusPlusRandom> {
+
+  /**
+   * Checks output against the reference implementation.
+   */
+  public void testReferenceOutput() {
+    final Xoshiro256PlusPlusRandom rng = createRng(seedOf(1, 2, 3, 4));
+    assertEquals(rng.nextLong(), 41943041L);
+    assertEquals(rng.nextLong(), 58720359L);
+    assertEquals(rng.nextLong(), 3588806011781223L);
+    assertEquals(rng.nextLong(), 3591011842654386L);
+  }
+
+  @Override protected Class<? extends Xoshiro256PlusPlusRandom> getClassUnderTest() {
+    return Xoshiro256PlusPlusRandom.class;
+  }
+
+  @Override protected Xoshiro256PlusPlusRandom createRng() {
+    return new Xoshiro256PlusPlusRandom(getTestSeedGenerator());
+  }
+
+  @Override protected Xoshiro256PlusPlusRandom createRng(final byte[] seed) {
+    return new Xoshiro256PlusPlusRandom(seed);
+  }
+}
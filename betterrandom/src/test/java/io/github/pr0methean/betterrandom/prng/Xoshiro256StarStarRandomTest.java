@@ -0,0 +1,87 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import org.testng.annotations.Test;
+
+@Test(testName = "Xoshiro256StarStarRandom")
+public class Xoshiro256StarStarRandomTest extends SeekableRandomTest<Xoshiro256StarStarRandom> {
+
+  static byte[] seedOf(final long... words) {
+    final byte[] seed = new byte[words.length * Long.BYTES];
+    for (int i = 0; i < words.length; i++) {
+      BinaryUtils.convertLongToBytes(words[i], seed, i * Long.BYTES);
+    }
+    return seed;
+  }
+
+  /**
+   * Squares x {@code log2Delta} times modulo the characteristic polynomial, to get the polynomial
+   * for a jump of 2<sup>log2Delta</sup> steps.
+   */
+  static long[] jumpPolynomialForPowerOfTwo(final long[] characteristic, final int log2Delta) {
+    long[] polynomial = new long[characteristic.length];
+    polynomial[0] = 2;
+    for (int i = 0; i < log2Delta; i++) {
+      polynomial = Gf2Polynomials.multiply(polynomial, polynomial, characteristic);
+    }
+    return polynomial;
+  }
+
+  /**
+   * Checks output against the reference implementation.
+   */
+  public void testReferenceOutput() {
+    final Xoshiro256StarStarRandom rng = createRng(seedOf(1, 2, 3, 4));
+    assertEquals(rng.nextLong(), 11520L);
+    assertEquals(rng.nextLong(), 0L);
+    assertEquals(rng.nextLong(), 1509978240L);
+    assertEquals(rng.nextLong(), 1215971899390074240L);
+  }
+
+  /**
+   * Checks that the characteristic polynomial found at class initialization yields the published
+   * jump polynomials.
+   */
+  public void testPublishedJumpPolynomials() {
+    assertEquals(jumpPolynomialForPowerOfTwo(Xoshiro256Random.CHARACTERISTIC_POLYNOMIAL, 128),
+        new long[]{0x180ec6d33cfd0abaL, 0xd5a61266f0c9392cL, 0xa9582618e03fc9aaL,
+            0x39abdc4529b1661cL});
+    assertEquals(jumpPolynomialForPowerOfTwo(Xoshiro256Random.CHARACTERISTIC_POLYNOMIAL, 192),
+        new long[]{0x76e15d3efefdcbbfL, 0xc5004e441c522fb3L, 0x77710069854ee241L,
+            0x39109bb02acbe635L});
+  }
+
+  public void testAdvanceExtremes() {
+    final Xoshiro256StarStarRandom rng = createRng();
+    final Xoshiro256StarStarRandom copy = createRng(rng.getSeed());
+    rng.advance(Long.MAX_VALUE);
+    rng.advance(Long.MIN_VALUE);
+    rng.advance(1);
+    RandomTestUtils.assertEquivalent(rng, copy, 16, "Output mismatch after advancing by zero net");
+  }
+
+  public void testJumpAndLongJump() {
+    final Xoshiro256StarStarRandom rng = createRng();
+    final Xoshiro256StarStarRandom copy = createRng(rng.getSeed());
+    rng.jump();
+    copy.jump();
+    RandomTestUtils.assertEquivalent(rng, copy, 16, "Output mismatch after jump");
+    rng.longJump();
+    copy.longJump();
+    RandomTestUtils.assertEquivalent(rng, copy, 16, "Output mismatch after longJump");
+  }
+
+  @Override protected Class<? extends Xoshiro256StarStarRandom> getClassUnderTest() {
+    return Xoshiro256StarStarRandom.class;
+  }
+
+  @Override protected Xoshiro256StarStarRandom createRng() {
+    return new Xoshiro256StarStarRandom(getTestSeedGenerator());
+  }
+
+  @Override protected Xoshiro256StarStarRandom createRng(final byte[] seed) {
+    return new Xoshiro256StarStarRandom(seed);
+  }
+}
@@ -0,0 +1,59 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.SplittableRandom;
+import org.testng.annotations.Test;
+
+public class ZigguratGaussianTest {
+
+  private static final int SAMPLES = 1_000_000;
+
+  @Test public void testMoments() {
+    final SplittableRandom random = new SplittableRandom(0x0123456789ABCDEFL);
+    double sum = 0;
+    double sumOfSquares = 0;
+    double sumOfFourthPowers = 0;
+    for (int i = 0; i < SAMPLES; i++) {
+      final double value = ZigguratGaussian.nextGaussian(random.nextLong());
+      final double square = value * value;
+      sum += value;
+      sumOfSquares += square;
+      sumOfFourthPowers += square * square;
+    }
+    assertEquals(sum / SAMPLES, 0.0, 0.005, "Wrong mean");
+    assertEquals(sumOfSquares / SAMPLES, 1.0, 0.01, "Wrong variance");
+    assertEquals(sumOfFourthPowers / SAMPLES, 3.0, 0.05, "Wrong fourth moment");
+  }
+
+  @Test public void testCumulativeDistribution() {
+    final SplittableRandom random = new SplittableRandom(0xFEDCBA9876543210L);
+    // Standard normal CDF at -3, -2, -1, 0, 1, 2, 3, and beyond the ziggurat's base layer
+    final double[] points = {-3, -2, -1, 0, 1, 2, 3, 3.6541528853610088};
+    final double[] expected =
+        {0.0013499, 0.0227501, 0.1586553, 0.5, 0.8413447, 0.9772499, 0.9986501, 0.9998710};
+    final int[] counts = new int[points.length];
+    for (int i = 0; i < SAMPLES; i++) {
+      final double value = ZigguratGaussian.nextGaussian(random.nextLong());
+      for (int j = 0; j < points.length; j++) {
+        if (value < points[j]) {
+          counts[j]++;
+        }
+      }
+    }
+    for (int j = 0; j < points.length; j++) {
+      // Allow 5 standard errors
+      final double tolerance =
+          5 * Math.sqrt(expected[j] * (1 - expected[j]) / SAMPLES);
+      assertEquals((double) counts[j] / SAMPLES, expected[j], tolerance,
+          "Wrong fraction of values below " + points[j]);
+    }
+  }
+
+  @Test public void testTailIsReachable() {
+    // Layer 0, with the uniform part at its maximum, is always beyond the base rectangle
+    final double value = ZigguratGaussian.nextGaussian(0xFFFFFFFFFFFFF000L);
+    assertTrue(value > 3.6541528853610088, "Expected a value from the tail, got " + value);
+  }
+}
@@ -128,6 +128,16 @@ public class EntropyBlockingRandomWrapperAesCounterRandomTest
         VERY_LOW_MINIMUM_ENTROPY, getTestSeedGenerator());
   }
 
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testCreateUnsynchronized() {
+    BaseRandom.createUnsynchronized(this::createRng);
+  }
+
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testSetRandomSeederWhenUnsynchronized() {
+    BaseRandom.createUnsynchronized(this::createRng);
+  }
+
   @Override public void testRepeatability() throws SeedException {
     SeedGenerator testSeedGenerator = getTestSeedGenerator();
     final BaseRandom rng = new EntropyBlockingRandomWrapper<Random>(createWrappedPrng(),
@@ -137,6 +147,12 @@ public class EntropyBlockingRandomWrapperAesCounterRandomTest
     RandomTestUtils.assertEquivalent(rng, duplicateRNG, TEST_BYTES_LENGTH, "Output mismatch");
   }
 
+  @Override public void testBulkFillMatchesSingleValues() throws SeedException {
+    final BaseRandom rng = new EntropyBlockingRandomWrapper<Random>(createWrappedPrng(),
+        VERY_LOW_MINIMUM_ENTROPY, getTestSeedGenerator());
+    checkBulkFillMatchesSingleValues(rng, createRngLargeEntropyLimit(rng.getSeed()));
+  }
+
   @Override protected RandomTestUtils.EntropyCheckMode getEntropyCheckMode() {
     return RandomTestUtils.EntropyCheckMode.LOWER_BOUND;
   }
@@ -199,4 +215,8 @@ public class EntropyBlockingRandomWrapperAesCounterRandomTest
   @Override @Test(enabled = false) public void testSetSeedAfterNextInt() {
     // No-op.
   }
+
+  @Override @Test(enabled = false) public void testRepeatabilityNextGaussian() {
+    // No-op: can't be tested because setSeed merges with the existing seed
+  }
 }
@@ -138,7 +138,7 @@ public class EntropyBlockingRandomWrapperTest extends RandomWrapperRandomTest {
     Mockito.verify(seeder).add(random);
     Mockito.clearInvocations(seeder);
     random.nextBytes(new byte[bytesToDrainToZero]);
-    Mockito.verify(seeder, Mockito.atLeastOnce()).wakeUp();
+    Mockito.verify(seeder, Mockito.atLeastOnce()).wakeUp(random);
   }
 
   @Test public void testRandomSeederThreadUsedFirst() {
@@ -243,6 +243,16 @@ public class EntropyBlockingRandomWrapperTest extends RandomWrapperRandomTest {
     assertEquals(consumer.getState(), Thread.State.TERMINATED, "setWrapped didn't unblock");
   }
 
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testCreateUnsynchronized() {
+    BaseRandom.createUnsynchronized(this::createRng);
+  }
+
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testSetRandomSeederWhenUnsynchronized() {
+    BaseRandom.createUnsynchronized(this::createRng);
+  }
+
   /**
    * Test to ensure that two distinct RNGs with the same seed return the same sequence of numbers.
    */
@@ -257,6 +267,14 @@ public class EntropyBlockingRandomWrapperTest extends RandomWrapperRandomTest {
     RandomTestUtils.assertEquivalent(rng, duplicateRNG, 200, "Generated sequences do not match.");
   }
 
+  @Override @Test(timeOut = 15_000) public void testBulkFillMatchesSingleValues()
+      throws SeedException {
+    byte[] seed = getTestSeedGenerator().generateSeed(8);
+    checkBulkFillMatchesSingleValues(
+        EntropyBlockingRandomWrapper.wrapJavaUtilRandom(VERY_LOW_MINIMUM_ENTROPY, seed, null),
+        EntropyBlockingRandomWrapper.wrapJavaUtilRandom(VERY_LOW_MINIMUM_ENTROPY, seed, null));
+  }
+
   /**
    * Doesn't use nextBytes, which is implemented non-equivalently in EBRW because it may need to
    * reseed partway through.
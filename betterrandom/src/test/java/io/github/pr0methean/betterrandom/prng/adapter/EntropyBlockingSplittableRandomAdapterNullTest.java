@@ -30,6 +30,14 @@ public class EntropyBlockingSplittableRandomAdapterNullTest
     assertEquivalent(rng, duplicateRNG, 1000, "Generated sequences do not match");
   }
 
+  @Override public void testBulkFillMatchesSingleValues() {
+    final BaseRandom rng = createRngLargeEntropyLimit();
+    rng.setSeed(TEST_SEED);
+    final BaseRandom duplicateRNG = createRngLargeEntropyLimit();
+    duplicateRNG.setSeed(TEST_SEED);
+    checkBulkFillMatchesSingleValues(rng, duplicateRNG);
+  }
+
   @Override public void testSerializable() throws SeedException {
     final BaseSplittableRandomAdapter adapter =
         new EntropyBlockingSplittableRandomAdapter(new RandomSeeder(DEFAULT_INSTANCE),
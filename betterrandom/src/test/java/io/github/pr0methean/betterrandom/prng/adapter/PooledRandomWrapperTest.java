@@ -0,0 +1,209 @@
+package io.github.pr0methean.betterrandom.prng.adapter;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.google.common.testing.SerializableTester;
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.prng.BaseRandomTest;
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import io.github.pr0methean.betterrandom.seed.PseudorandomSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.RandomSeeder;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import io.github.pr0methean.betterrandom.util.SerializableFunction;
+import io.github.pr0methean.betterrandom.util.SerializableSupplier;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+
+@Test(testName = "PooledRandomWrapper")
+public class PooledRandomWrapperTest extends BaseRandomTest<PooledRandomWrapper<Pcg64Random>> {
+
+  private static final int MAX_IDLE = 2;
+  private final SerializableSupplier<Pcg64Random> supplier = createSupplier();
+
+  private static SerializableSupplier<Pcg64Random> createSupplier() {
+    final SeedGenerator seedGenerator = new PseudorandomSeedGenerator();
+    return () -> new Pcg64Random(seedGenerator);
+  }
+
+  @Override public void testSerializable() throws SeedException {
+    // May change after serialization, so test only that it still works at all afterward
+    SerializableTester.reserialize(createRng()).nextInt();
+  }
+
+  @Override @Test(timeOut = 15000, expectedExceptions = IllegalArgumentException.class)
+  public void testSeedTooLong() throws SeedException {
+    createRng().setSeed(getTestSeedGenerator().generateSeed(17));
+  }
+
+  @Override @Test(timeOut = 15000, expectedExceptions = IllegalArgumentException.class)
+  public void testSeedTooShort() throws SeedException {
+    createRng().setSeed(new byte[]{1, 2, 3});
+  }
+
+  @Override @Test(timeOut = 15000, expectedExceptions = IllegalArgumentException.class)
+  public void testNullSeed() throws SeedException {
+    createRng().setSeed(null);
+  }
+
+  @SuppressWarnings("rawtypes")
+  @Override protected Class<? extends PooledRandomWrapper> getClassUnderTest() {
+    return PooledRandomWrapper.class;
+  }
+
+  @Override @Test(enabled = false) public void testRepeatability() throws SeedException {
+    // No-op: PooledRandomWrapper isn't repeatable.
+  }
+
+  @Override @Test(enabled = false) public void testRepeatabilityNextGaussian() {
+    // No-op: PooledRandomWrapper isn't repeatable.
+  }
+
+  @Override @Test(enabled = false) public void testBulkFillMatchesSingleValues() {
+    // No-op: PooledRandomWrapper isn't repeatable.
+  }
+
+  /**
+   * The wrapper itself is shared, so it can't be unsynchronized.
+   */
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testCreateUnsynchronized() {
+    BaseRandom.createUnsynchronized(this::createRng);
+  }
+
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testSetRandomSeederWhenUnsynchronized() {
+    BaseRandom.createUnsynchronized(this::createRng);
+  }
+
+  /**
+   * setRandomSeeder doesn't work on this class and shouldn't pretend to.
+   */
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testRandomSeederIntegration() {
+    createRng().setRandomSeeder(new RandomSeeder(getTestSeedGenerator()));
+  }
+
+  @Test public void testSetSeedGeneratorNoOp() {
+    createRng().setRandomSeeder(null);
+  }
+
+  /**
+   * Assertion-free because PooledRandomWrapper isn't repeatable.
+   */
+  @Override @Test public void testSetSeedAfterNextLong() throws SeedException {
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final BaseRandom rng = createRng();
+    rng.nextLong();
+    rng.setSeed(seed);
+  }
+
+  /**
+   * Assertion-free because PooledRandomWrapper isn't repeatable.
+   */
+  @Override @Test public void testSetSeedAfterNextInt() throws SeedException {
+    final byte[] seed = getTestSeedGenerator().generateSeed(getNewSeedLength());
+    final BaseRandom rng = createRng();
+    rng.nextInt();
+    rng.setSeed(seed);
+  }
+
+  /**
+   * Assertion-free because each call may use a different PRNG.
+   */
+  @Override @Test public void testThreadSafety() {
+    checkThreadSafetyVsCrashesOnly(30, functionsForThreadSafetyTest);
+  }
+
+  @Override protected Map<Class<?>, Object> constructorParams() {
+    final Map<Class<?>, Object> params = super.constructorParams();
+    params.put(SerializableSupplier.class, supplier);
+    params.put(SerializableFunction.class,
+        (SerializableFunction<byte[], Pcg64Random>) Pcg64Random::new);
+    return params;
+  }
+
+  @Override protected PooledRandomWrapper<Pcg64Random> createRng() throws SeedException {
+    return new PooledRandomWrapper<>(MAX_IDLE, supplier);
+  }
+
+  @Override protected PooledRandomWrapper<Pcg64Random> createRng(final byte[] seed)
+      throws SeedException {
+    final PooledRandomWrapper<Pcg64Random> rng = createRng();
+    rng.setSeed(seed);
+    return rng;
+  }
+
+  @Test public void testReusesDelegate() {
+    final AtomicInteger created = new AtomicInteger();
+    final PooledRandomWrapper<Pcg64Random> prng = new PooledRandomWrapper<>(MAX_IDLE, () -> {
+      created.incrementAndGet();
+      return supplier.get();
+    });
+    final Pcg64Random first = prng.withDelegate(delegate -> delegate);
+    for (int i = 0; i < 100; i++) {
+      prng.nextInt();
+      prng.nextLong();
+    }
+    assertSame(prng.withDelegate(delegate -> delegate), first);
+    assertEquals(created.get(), 1);
+    assertEquals(prng.getIdleCount(), 1);
+  }
+
+  @Test public void testConcurrentCallersGetDistinctDelegates() {
+    final PooledRandomWrapper<Pcg64Random> prng = createRng();
+    prng.withDelegate(outer -> prng.withDelegate(inner -> {
+      assertNotSame(inner, outer);
+      assertEquals(prng.getIdleCount(), 0);
+      return prng.withDelegate(innermost -> {
+        assertNotSame(innermost, inner);
+        assertNotSame(innermost, outer);
+        return null;
+      });
+    }));
+  }
+
+  @Test public void testIdleCountBounded() {
+    final PooledRandomWrapper<Pcg64Random> prng = createRng();
+    // Nest one level deeper than the pool holds, so that one PRNG has to be discarded
+    prng.withDelegate(first -> prng.withDelegate(second -> prng.withDelegate(third -> {
+      assertEquals(prng.getIdleCount(), 0);
+      return null;
+    })));
+    assertEquals(prng.getIdleCount(), MAX_IDLE);
+    assertEquals(prng.getMaxIdle(), MAX_IDLE);
+  }
+
+  @Test public void testSeedGeneratorConstructor() throws SeedException {
+    final PooledRandomWrapper<Pcg64Random> prng =
+        new PooledRandomWrapper<>(MAX_IDLE, Long.BYTES, getTestSeedGenerator(), Pcg64Random::new);
+    assertEquals(prng.getNewSeedLength(), Long.BYTES);
+    prng.nextInt();
+    assertTrue(prng.preferSeedWithLong());
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testInvalidMaxIdle() {
+    new PooledRandomWrapper<>(0, supplier);
+  }
+
+  @Test(expectedExceptions = UnsupportedOperationException.class) public void testGetWrapped() {
+    createRng().getWrapped();
+  }
+
+  @Test public void testNextBits() {
+    final PooledRandomWrapper<Pcg64Random> prng = createRng();
+    for (int bits = 1; bits < Integer.SIZE; bits++) {
+      assertEquals(prng.next(bits) >>> bits, 0, "Too many bits for next(" + bits + ")");
+    }
+    prng.next(Integer.SIZE);
+  }
+
+  @Test public void testToString() {
+    final String string = createRng().toString();
+    assertTrue(string.contains(Pcg64Random.class.getSimpleName()), string);
+  }
+}
@@ -87,6 +87,10 @@ import org.testng.annotations.Test;
     // No-op.
   }
 
+  @Override @Test(enabled = false) public void testBulkFillMatchesSingleValues() {
+    // No-op.
+  }
+
   @Override @Test(enabled = false) public void testRepeatabilityNextGaussian()
       throws SeedException {
     // No-op.
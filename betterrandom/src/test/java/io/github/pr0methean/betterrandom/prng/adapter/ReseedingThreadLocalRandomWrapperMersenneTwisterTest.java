@@ -67,6 +67,25 @@ public class ReseedingThreadLocalRandomWrapperMersenneTwisterTest
   /**
    * setRandomSeeder doesn't work on this class and shouldn't pretend to.
    */
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testSetUnsynchronizedDelegates() {
+    createRng().setUnsynchronizedDelegates(true);
+  }
+
+  /**
+   * The per-thread PRNGs are bound to a {@link RandomSeeder} as soon as they're created, which
+   * an unsynchronized PRNG can't be.
+   */
+  @Override @Test(expectedExceptions = IllegalStateException.class)
+  public void testCreateUnsynchronized() {
+    BaseRandom.createUnsynchronized(this::createRng);
+  }
+
+  @Override @Test(expectedExceptions = IllegalStateException.class)
+  public void testSetRandomSeederWhenUnsynchronized() {
+    BaseRandom.createUnsynchronized(this::createRng);
+  }
+
   @Override @Test(expectedExceptions = UnsupportedOperationException.class)
   public void testRandomSeederIntegration() {
     createRng()
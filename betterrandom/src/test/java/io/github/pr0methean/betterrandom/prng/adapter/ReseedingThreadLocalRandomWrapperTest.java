@@ -37,6 +37,25 @@ public class ReseedingThreadLocalRandomWrapperTest extends ThreadLocalRandomWrap
         new RandomSeeder(SecureRandomSeedGenerator.DEFAULT_INSTANCE));
   }
 
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testSetUnsynchronizedDelegates() {
+    createRng().setUnsynchronizedDelegates(true);
+  }
+
+  /**
+   * The per-thread PRNGs are bound to a {@link RandomSeeder} as soon as they're created, which
+   * an unsynchronized PRNG can't be.
+   */
+  @Override @Test(expectedExceptions = IllegalStateException.class)
+  public void testCreateUnsynchronized() {
+    BaseRandom.createUnsynchronized(this::createRng);
+  }
+
+  @Override @Test(expectedExceptions = IllegalStateException.class)
+  public void testSetRandomSeederWhenUnsynchronized() {
+    BaseRandom.createUnsynchronized(this::createRng);
+  }
+
   @Test public void testSetSeedGeneratorNoOp() {
     RandomSeeder randomSeeder = new RandomSeeder(getTestSeedGenerator());
     ReseedingThreadLocalRandomWrapper<BaseRandom> prng =
@@ -88,6 +88,10 @@ public class SplittableRandomAdapterTest
     // No-op.
   }
 
+  @Override @Test(enabled = false) public void testBulkFillMatchesSingleValues() {
+    // No-op.
+  }
+
   @Override @Test(retryAnalyzer = FlakyRetryAnalyzer.class)
   public void testReseeding() {
     SeedGenerator generator = new PseudorandomSeedGenerator(ThreadLocalRandom.current(), "testReseeding");
@@ -132,6 +136,16 @@ public class SplittableRandomAdapterTest
   /**
    * setRandomSeeder doesn't work on this class and shouldn't pretend to.
    */
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testCreateUnsynchronized() {
+    BaseRandom.createUnsynchronized(this::createRng);
+  }
+
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testSetRandomSeederWhenUnsynchronized() {
+    BaseRandom.createUnsynchronized(this::createRng);
+  }
+
   @Override @Test(expectedExceptions = UnsupportedOperationException.class)
   public void testRandomSeederIntegration() {
     RandomSeeder thread = new RandomSeeder(DEFAULT_INSTANCE);
@@ -2,6 +2,7 @@ package io.github.pr0methean.betterrandom.prng.adapter;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 import com.google.common.testing.SerializableTester;
 import io.github.pr0methean.betterrandom.prng.AesCounterRandom;
@@ -57,6 +58,31 @@ public abstract class ThreadLocalRandomWrapperTest<T extends BaseRandom>
     // No-op: ThreadLocalRandomWrapper isn't repeatable.
   }
 
+  @Override @Test(enabled = false) public void testBulkFillMatchesSingleValues() {
+    // No-op: ThreadLocalRandomWrapper isn't repeatable.
+  }
+
+  /**
+   * The wrapper itself is shared, so only its delegates can be unsynchronized.
+   */
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testCreateUnsynchronized() {
+    BaseRandom.createUnsynchronized(this::createRng);
+  }
+
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testSetRandomSeederWhenUnsynchronized() {
+    BaseRandom.createUnsynchronized(this::createRng);
+  }
+
+  @Test public void testSetUnsynchronizedDelegates() {
+    final ThreadLocalRandomWrapper<T> prng = createRng();
+    prng.setUnsynchronizedDelegates(true);
+    assertTrue(prng.getWrapped().isUnsynchronized());
+    prng.nextInt();
+    prng.nextLong();
+  }
+
   /**
    * setRandomSeeder doesn't work on this class and shouldn't pretend to.
    */
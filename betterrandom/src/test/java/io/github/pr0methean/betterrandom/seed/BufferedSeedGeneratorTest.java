@@ -1,11 +1,13 @@
 package io.github.pr0methean.betterrandom.seed;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
 import com.google.common.util.concurrent.Uninterruptibles;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import nl.jqno.equalsverifier.api.SingleTypeEqualsVerifierApi;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -17,6 +19,8 @@ import org.testng.annotations.Test;
   private static final int BUFFER_SIZE = 256;
   private static final int THREAD_COUNT = 4;
   private static final int CONCURRENT_SEED_SIZE = 16;
+  private static final int LOW_WATER_MARK = BUFFER_SIZE / 2;
+  private static final long REFILL_TIMEOUT_MS = 10_000;
 
   @Override protected BufferedSeedGenerator initializeSeedGenerator() {
     return new BufferedSeedGenerator(FAKE_SEED_GENERATOR, BUFFER_SIZE);
@@ -86,4 +90,79 @@ import org.testng.annotations.Test;
     FAKE_SEED_GENERATOR.reset();
     testThreadSafety();
   }
+
+  private static void awaitRefills(final BufferedSeedGenerator generator, final long refills) {
+    final long deadline = System.currentTimeMillis() + REFILL_TIMEOUT_MS;
+    while (generator.getRefillCount() < refills) {
+      assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for background refill");
+      Uninterruptibles.sleepUninterruptibly(1, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @Test(timeOut = 20_000) public void testPrefetch() {
+    final FakeSeedGenerator delegate = new FakeSeedGenerator("testPrefetch");
+    final BufferedSeedGenerator generator =
+        new BufferedSeedGenerator(delegate, BUFFER_SIZE, LOW_WATER_MARK);
+    // The first buffer is filled in the background on construction
+    awaitRefills(generator, 1);
+    final byte[] seed = new byte[LOW_WATER_MARK + 1];
+    generator.generateSeed(seed);
+    for (int i = 0; i < seed.length; i++) {
+      assertEquals(seed[i], (byte) i);
+    }
+    // That took the buffer below the low-water mark, so it should be refilled in the background
+    awaitRefills(generator, 2);
+    generator.generateSeed(new byte[BUFFER_SIZE - 1]);
+    assertEquals(generator.getHitCount(), 2);
+    assertEquals(generator.getMissCount(), 0);
+    assertEquals(delegate.countCalls(), 2);
+  }
+
+  @Test(timeOut = 20_000) public void testPrefetchConcurrent() throws InterruptedException {
+    final FakeSeedGenerator delegate = new FakeSeedGenerator("testPrefetchConcurrent");
+    final BufferedSeedGenerator generator =
+        new BufferedSeedGenerator(delegate, BUFFER_SIZE, LOW_WATER_MARK);
+    final int requestsPerThread = 100;
+    final Thread[] threads = new Thread[THREAD_COUNT];
+    for (int i = 0; i < THREAD_COUNT; i++) {
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < requestsPerThread; j++) {
+          generator.generateSeed(new byte[CONCURRENT_SEED_SIZE + (j % 7)]);
+        }
+      });
+      threads[i].start();
+    }
+    for (final Thread thread : threads) {
+      Uninterruptibles.joinUninterruptibly(thread);
+    }
+    assertEquals(generator.getHitCount() + generator.getMissCount(),
+        (long) THREAD_COUNT * requestsPerThread);
+    // A background refill may still be running
+    awaitRefills(generator, delegate.countCalls());
+    assertEquals(generator.getRefillCount(), delegate.countCalls());
+  }
+
+  @Test(timeOut = 20_000, expectedExceptions = SeedException.class)
+  public void testPrefetchFailureFallsBackToDelegate() {
+    final FakeSeedGenerator delegate = new FakeSeedGenerator("testPrefetchFailure");
+    delegate.setThrowException(true);
+    new BufferedSeedGenerator(delegate, BUFFER_SIZE, LOW_WATER_MARK)
+        .generateSeed(CONCURRENT_SEED_SIZE);
+  }
+
+  @Test public void testCountersWithoutPrefetch() {
+    final BufferedSeedGenerator generator = new BufferedSeedGenerator(
+        new FakeSeedGenerator("testCountersWithoutPrefetch"), BUFFER_SIZE);
+    generator.generateSeed(BUFFER_SIZE / 2);
+    generator.generateSeed(BUFFER_SIZE / 2);
+    generator.generateSeed(BUFFER_SIZE);
+    assertEquals(generator.getHitCount(), 1);
+    assertEquals(generator.getMissCount(), 2);
+    assertEquals(generator.getRefillCount(), 1);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testLowWaterMarkTooHigh() {
+    new BufferedSeedGenerator(FAKE_SEED_GENERATOR, BUFFER_SIZE, BUFFER_SIZE + 1);
+  }
 }
@@ -0,0 +1,122 @@
+package io.github.pr0methean.betterrandom.seed;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import nl.jqno.equalsverifier.api.SingleTypeEqualsVerifierApi;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test(singleThreaded = true) public class ConcurrentBufferedSeedGeneratorTest
+    extends SeedGeneratorTest<ConcurrentBufferedSeedGenerator> {
+
+  private static final FakeSeedGenerator FAKE_SEED_GENERATOR =
+      new FakeSeedGenerator("ConcurrentBufferedSeedGeneratorTest");
+  private static final int BUFFER_SIZE = 256;
+  private static final int THREAD_COUNT = 4;
+  private static final int REQUESTS_PER_THREAD = 1000;
+  /**
+   * A multiple of {@link Integer#BYTES} that divides {@link #BUFFER_SIZE}, so that each request
+   * holds whole values from {@link CountingSeedGenerator}.
+   */
+  private static final int CONCURRENT_SEED_SIZE = 16;
+
+  /**
+   * Fills each seed with successive {@code int}s, continuing from one call to the next, so that
+   * any byte handed out twice shows up as a repeated value.
+   */
+  private static final class CountingSeedGenerator implements SeedGenerator {
+    private static final long serialVersionUID = 1L;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override public void generateSeed(final byte[] output) throws SeedException {
+      for (int i = 0; i < output.length; i += Integer.BYTES) {
+        BinaryUtils.convertIntToBytes(counter.getAndIncrement(), output, i);
+      }
+    }
+  }
+
+  @Override protected ConcurrentBufferedSeedGenerator initializeSeedGenerator() {
+    return new ConcurrentBufferedSeedGenerator(FAKE_SEED_GENERATOR, BUFFER_SIZE);
+  }
+
+  @BeforeMethod public void setUp() {
+    super.setUp();
+    FAKE_SEED_GENERATOR.reset();
+  }
+
+  @Override protected SingleTypeEqualsVerifierApi<? extends SeedGenerator> createEqualsVerifier() {
+    return super.createEqualsVerifier().withIgnoredFields("refillLock");
+  }
+
+  @Test public void testLargeRequestDoneAsOne() {
+    generateAndCheckFakeSeed(2 * BUFFER_SIZE);
+    assertEquals(FAKE_SEED_GENERATOR.countCalls(), 1);
+    generateAndCheckFakeSeed(BUFFER_SIZE / 2);
+    assertEquals(FAKE_SEED_GENERATOR.countCalls(), 2);
+  }
+
+  @Test public void testSmallRequests() {
+    final int smallRequestSize = BUFFER_SIZE / 2;
+    generateAndCheckFakeSeed(smallRequestSize);
+    assertEquals(FAKE_SEED_GENERATOR.countCalls(), 1);
+    generateAndCheckFakeSeed(smallRequestSize, smallRequestSize);
+    assertEquals(FAKE_SEED_GENERATOR.countCalls(), 1);
+    generateAndCheckFakeSeed(smallRequestSize);
+    assertEquals(FAKE_SEED_GENERATOR.countCalls(), 2);
+    assertEquals(seedGenerator.getHitCount(), 1);
+    assertEquals(seedGenerator.getMissCount(), 2);
+    assertEquals(seedGenerator.getRefillCount(), 2);
+  }
+
+  @Test public void testRequestSpanningRefill() {
+    generateAndCheckFakeSeed(BUFFER_SIZE - 13);
+    final byte[] seed = seedGenerator.generateSeed(20);
+    for (int i = 0; i < 13; i++) {
+      assertEquals(seed[i], (byte) (BUFFER_SIZE - 13 + i));
+    }
+    for (int i = 13; i < 20; i++) {
+      assertEquals(seed[i], (byte) (i - 13));
+    }
+    assertEquals(FAKE_SEED_GENERATOR.countCalls(), 2);
+  }
+
+  @Test(timeOut = 60_000) public void testNoByteHandedOutTwice() {
+    final ConcurrentBufferedSeedGenerator generator =
+        new ConcurrentBufferedSeedGenerator(new CountingSeedGenerator(), BUFFER_SIZE);
+    final CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+    final Thread[] threads = new Thread[THREAD_COUNT];
+    final byte[][][] seeds = new byte[THREAD_COUNT][REQUESTS_PER_THREAD][CONCURRENT_SEED_SIZE];
+    for (int i = 0; i < THREAD_COUNT; i++) {
+      final byte[][] threadSeeds = seeds[i];
+      threads[i] = new Thread(() -> {
+        latch.countDown();
+        Uninterruptibles.awaitUninterruptibly(latch);
+        for (final byte[] seed : threadSeeds) {
+          generator.generateSeed(seed);
+        }
+      });
+      threads[i].start();
+    }
+    for (final Thread thread : threads) {
+      Uninterruptibles.joinUninterruptibly(thread);
+    }
+    final Set<Integer> seen = new HashSet<>();
+    for (final byte[][] threadSeeds : seeds) {
+      for (final byte[] seed : threadSeeds) {
+        for (int i = 0; i < seed.length; i += Integer.BYTES) {
+          final int value = BinaryUtils.convertBytesToInt(seed, i);
+          assertTrue(seen.add(value), "Seed value handed out twice: " + value);
+        }
+      }
+    }
+    assertEquals(generator.getHitCount() + generator.getMissCount(),
+        (long) THREAD_COUNT * REQUESTS_PER_THREAD);
+  }
+}
@@ -0,0 +1,138 @@
+package io.github.pr0methean.betterrandom.seed;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import io.github.pr0methean.betterrandom.ByteArrayReseedableRandom;
+import io.github.pr0methean.betterrandom.TestUtils;
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import org.testng.annotations.Test;
+
+public class RandomSeederPoolTest {
+  private static final int SHARD_COUNT = 2;
+
+  /**
+   * Doesn't count entropy, so it's reseeded on every iteration.
+   */
+  private static class FakeRandom implements ByteArrayReseedableRandom {
+    private final int seedLength;
+    private final CountDownLatch reseeded = new CountDownLatch(1);
+
+    FakeRandom(int seedLength) {
+      this.seedLength = seedLength;
+    }
+
+    @Override public void setSeed(byte[] seed) {
+      reseeded.countDown();
+    }
+
+    @Override public int getNewSeedLength() {
+      return seedLength;
+    }
+  }
+
+  private static RandomSeederPool createPool(String name) {
+    return new RandomSeederPool(new FakeSeedGenerator(name), SHARD_COUNT);
+  }
+
+  @Test public void testConstructors() {
+    TestUtils.testConstructors(RandomSeederPool.class, false, ImmutableMap
+        .of(SeedGenerator.class, new FakeSeedGenerator("testConstructors"),
+            int.class, SHARD_COUNT,
+            ThreadFactory.class, new RandomSeeder.DefaultThreadFactory("testConstructors"),
+            long.class, 100_000_000L,
+            boolean.class, true),
+        RandomSeederPool::stopIfEmpty);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testZeroShards() {
+    new RandomSeederPool(new FakeSeedGenerator("testZeroShards"), 0);
+  }
+
+  @Test(timeOut = 30_000L) public void testAddRemoveAndContains() throws InterruptedException {
+    final RandomSeederPool pool = createPool("testAddRemoveAndContains");
+    final FakeRandom random1 = new FakeRandom(16);
+    final FakeRandom random2 = new FakeRandom(16);
+    try {
+      assertTrue(pool.isEmpty());
+      pool.add(random1, random2);
+      assertFalse(pool.isEmpty());
+      assertTrue(pool.contains(random1));
+      assertTrue(pool.contains(random2));
+      random1.reseeded.await();
+      random2.reseeded.await();
+      pool.remove(random1);
+      assertFalse(pool.contains(random1));
+      assertNull(pool.getSeederFor(random1));
+      assertTrue(pool.contains(random2));
+      pool.remove(random2);
+      assertTrue(pool.isEmpty());
+    } finally {
+      pool.shutDown();
+    }
+  }
+
+  @Test public void testSetsRandomSeederOfBaseRandom() {
+    final RandomSeederPool pool = createPool("testSetsRandomSeederOfBaseRandom");
+    final Pcg64Random random = new Pcg64Random(new byte[Long.BYTES]);
+    try {
+      pool.add(random);
+      final RandomSeeder shard = pool.getSeederFor(random);
+      assertNotNull(shard);
+      assertSame(random.getRandomSeeder(), shard);
+      pool.remove(random);
+      assertFalse(pool.contains(random));
+      assertNull(random.getRandomSeeder());
+    } finally {
+      pool.shutDown();
+    }
+  }
+
+  @Test public void testAddTwiceKeepsShard() {
+    final RandomSeederPool pool = createPool("testAddTwiceKeepsShard");
+    final FakeRandom random = new FakeRandom(16);
+    try {
+      pool.add(random);
+      final RandomSeeder shard = pool.getSeederFor(random);
+      assertNotNull(shard);
+      pool.add(random);
+      assertSame(pool.getSeederFor(random), shard);
+    } finally {
+      pool.shutDown();
+    }
+  }
+
+  @Test public void testBalancesBySeedDemand() {
+    final RandomSeederPool pool = createPool("testBalancesBySeedDemand");
+    final FakeRandom large = new FakeRandom(64);
+    final FakeRandom[] small = new FakeRandom[4];
+    for (int i = 0; i < small.length; i++) {
+      small[i] = new FakeRandom(16);
+    }
+    try {
+      pool.add(large);
+      pool.add(small);
+      final RandomSeeder largeShard = pool.getSeederFor(large);
+      for (final FakeRandom random : small) {
+        assertNotSame(pool.getSeederFor(random), largeShard);
+      }
+      // Removing releases demand, so the next small PRNG fills the gap
+      pool.remove(small[0], small[1]);
+      final FakeRandom replacement = new FakeRandom(16);
+      pool.add(replacement);
+      assertNotSame(pool.getSeederFor(replacement), largeShard);
+      assertEquals(pool.getShardCount(), SHARD_COUNT);
+    } finally {
+      pool.shutDown();
+    }
+  }
+}
@@ -16,7 +16,10 @@ import io.github.pr0methean.betterrandom.prng.RandomTestUtils;
 import io.github.pr0methean.betterrandom.prng.adapter.SingleThreadSplittableRandomAdapter;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
 import java.util.Arrays;
+import java.util.Queue;
 import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
@@ -38,7 +41,8 @@ public class RandomSeederTest extends PowerMockTestCase {
     TestUtils.testConstructors(RandomSeeder.class, false, ImmutableMap
         .of(SeedGenerator.class, new FakeSeedGenerator("testConstructors"),
             ThreadFactory.class, new RandomSeeder.DefaultThreadFactory("testConstructors"),
-            long.class, 100_000_000L),
+            long.class, 100_000_000L,
+            boolean.class, true),
         RandomSeeder::stopIfEmpty);
   }
 
@@ -209,6 +213,182 @@ public class RandomSeederTest extends PowerMockTestCase {
     }
   }
 
+  /**
+   * Doesn't count entropy, so it's reseeded on every iteration.
+   */
+  private static class ReseedCountingRandom implements ByteArrayReseedableRandom {
+    private final int seedLength;
+    private final CountDownLatch reseeded = new CountDownLatch(1);
+    private volatile byte[] lastSeed;
+
+    ReseedCountingRandom(int seedLength) {
+      this.seedLength = seedLength;
+    }
+
+    @Override public void setSeed(byte[] seed) {
+      assertEquals(seed.length, seedLength);
+      lastSeed = seed.clone();
+      reseeded.countDown();
+    }
+
+    @Override public int getNewSeedLength() {
+      return seedLength;
+    }
+  }
+
+  @Test(timeOut = 30_000L)
+  public void testBatchReseeding() throws InterruptedException {
+    final Queue<Integer> requestLengths = new ConcurrentLinkedQueue<>();
+    final SeedGenerator seedGenerator = output -> {
+      requestLengths.add(output.length);
+      for (int i = 0; i < output.length; i++) {
+        output[i] = (byte) i;
+      }
+    };
+    final ReseedCountingRandom random1 = new ReseedCountingRandom(16);
+    final ReseedCountingRandom random2 = new ReseedCountingRandom(32);
+    final RandomSeeder seeder = new RandomSeeder(seedGenerator,
+        new RandomSeeder.DefaultThreadFactory("testBatchReseeding"),
+        RandomSeeder.DEFAULT_STOP_IF_EMPTY_FOR_NANOS, true);
+    try {
+      seeder.add(random1, random2);
+      random1.reseeded.await();
+      random2.reseeded.await();
+    } finally {
+      seeder.shutDown();
+    }
+    for (final int length : requestLengths) {
+      assertEquals(length, 48, "Seeds weren't fetched in one call");
+    }
+    // Each PRNG gets its own slice of the batch
+    assertFalse(Arrays.equals(random1.lastSeed, Arrays.copyOf(random2.lastSeed, 16)));
+  }
+
+  /**
+   * Prefers a long seed only the first time it's asked, and records how it was first reseeded.
+   */
+  private static class ModeSwitchingRandom extends Random implements ByteArrayReseedableRandom {
+    private static final long serialVersionUID = 1L;
+    private final CountDownLatch reseeded = new CountDownLatch(1);
+    private boolean preferenceQueried;
+    private volatile Boolean firstReseedWithLong;
+
+    @Override public boolean preferSeedWithLong() {
+      final boolean firstQuery = !preferenceQueried;
+      preferenceQueried = true;
+      return firstQuery;
+    }
+
+    @Override public synchronized void setSeed(long seed) {
+      // Random's constructor calls this before our fields are initialized
+      if (reseeded != null) {
+        recordReseed(true);
+      }
+    }
+
+    @Override public void setSeed(byte[] seed) {
+      recordReseed(false);
+    }
+
+    private synchronized void recordReseed(boolean withLong) {
+      if (firstReseedWithLong == null) {
+        firstReseedWithLong = withLong;
+        reseeded.countDown();
+      }
+    }
+
+    @Override public int getNewSeedLength() {
+      return 16;
+    }
+  }
+
+  @Test(timeOut = 30_000L)
+  public void testBatchReseedingUsesModeFromWhenQueued() throws InterruptedException {
+    final ModeSwitchingRandom random = new ModeSwitchingRandom();
+    final RandomSeeder seeder = new RandomSeeder(
+        new FakeSeedGenerator("testBatchReseedingUsesModeFromWhenQueued"),
+        new RandomSeeder.DefaultThreadFactory("testBatchReseedingUsesModeFromWhenQueued"),
+        RandomSeeder.DEFAULT_STOP_IF_EMPTY_FOR_NANOS, true);
+    try {
+      seeder.add(random);
+      random.reseeded.await();
+    } finally {
+      seeder.shutDown();
+    }
+    assertTrue(random.firstReseedWithLong, "Mode changed between queueing and reseeding");
+  }
+
+  /**
+   * Has a fixed entropy count, and records the order in which instances are reseeded.
+   */
+  private static class FixedEntropyRandom implements ByteArrayReseedableRandom,
+      EntropyCountingRandom {
+    private final long entropyBits;
+    private final Queue<FixedEntropyRandom> reseedOrder;
+
+    FixedEntropyRandom(long entropyBits, Queue<FixedEntropyRandom> reseedOrder) {
+      this.entropyBits = entropyBits;
+      this.reseedOrder = reseedOrder;
+    }
+
+    @Override public void setSeed(byte[] seed) {
+      reseedOrder.add(this);
+    }
+
+    @Override public int getNewSeedLength() {
+      return 16;
+    }
+
+    @Override public long getEntropyBits() {
+      return entropyBits;
+    }
+  }
+
+  @Test(timeOut = 30_000L)
+  public void testMostDepletedReseededFirst() {
+    final Queue<FixedEntropyRandom> reseedOrder = new ConcurrentLinkedQueue<>();
+    final FixedEntropyRandom slightlyDepleted = new FixedEntropyRandom(-10, reseedOrder);
+    final FixedEntropyRandom mostDepleted = new FixedEntropyRandom(-1000, reseedOrder);
+    final FixedEntropyRandom notDepleted = new FixedEntropyRandom(100, reseedOrder);
+    final FixedEntropyRandom moderatelyDepleted = new FixedEntropyRandom(-100, reseedOrder);
+    final RandomSeeder seeder =
+        createRandomSeeder(new FakeSeedGenerator("testMostDepletedReseededFirst"));
+    try {
+      seeder.add(slightlyDepleted, mostDepleted, notDepleted, moderatelyDepleted);
+      while (reseedOrder.size() < 3) {
+        Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+      }
+    } finally {
+      seeder.shutDown();
+    }
+    assertEquals(Arrays.asList(reseedOrder.toArray()).subList(0, 3),
+        Arrays.asList(mostDepleted, moderatelyDepleted, slightlyDepleted));
+    assertFalse(reseedOrder.contains(notDepleted), "Reseeded a PRNG that still had entropy");
+  }
+
+  @Test(timeOut = 30_000L)
+  public void testWakeUpMarksReady() {
+    final Queue<FixedEntropyRandom> reseedOrder = new ConcurrentLinkedQueue<>();
+    final FixedEntropyRandom random = new FixedEntropyRandom(-1, reseedOrder);
+    final FixedEntropyRandom unregistered = new FixedEntropyRandom(-1, reseedOrder);
+    final RandomSeeder seeder =
+        createRandomSeeder(new FakeSeedGenerator("testWakeUpMarksReady"));
+    try {
+      seeder.add(random);
+      while (reseedOrder.isEmpty()) {
+        Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+      }
+      seeder.wakeUp(random);
+      seeder.wakeUp(unregistered);
+      while (reseedOrder.size() < 2) {
+        Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+      }
+    } finally {
+      seeder.shutDown();
+    }
+    assertFalse(reseedOrder.contains(unregistered), "Reseeded an unregistered PRNG");
+  }
+
   protected RandomSeeder createRandomSeeder(SeedGenerator seedGenerator) {
     return new RandomSeeder(seedGenerator,
         new RandomSeeder.DefaultThreadFactory("RandomSeederTest", Thread.MAX_PRIORITY));
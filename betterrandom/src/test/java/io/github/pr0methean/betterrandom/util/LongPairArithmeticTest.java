@@ -0,0 +1,65 @@
+package io.github.pr0methean.betterrandom.util;
+
+import static org.testng.Assert.assertEquals;
+
+import java.math.BigInteger;
+import org.testng.annotations.Test;
+
+public class LongPairArithmeticTest {
+
+  private static final BigInteger TWO_TO_64 = BigInteger.ONE.shiftLeft(Long.SIZE);
+  private static final BigInteger TWO_TO_128 = BigInteger.ONE.shiftLeft(2 * Long.SIZE);
+  private static final long[] VALUES =
+      {0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE, 0x79EC_964A_738B_2EBAL, 0x38FD_07E7_D607_B6EDL,
+          0xC26B_1E45_A661_872BL, 0x631B_C188_2D24_D6E9L, 0xFFFF_FFFFL, 0x1_0000_0000L};
+
+  private static BigInteger unsigned(final long value) {
+    final BigInteger result = BigInteger.valueOf(value);
+    return (value < 0) ? result.add(TWO_TO_64) : result;
+  }
+
+  private static BigInteger pair(final long most, final long least) {
+    return unsigned(most).shiftLeft(Long.SIZE).add(unsigned(least));
+  }
+
+  private static long most(final BigInteger value) {
+    return value.mod(TWO_TO_128).shiftRight(Long.SIZE).longValue();
+  }
+
+  @Test public void testUnsignedMultiplyHigh() {
+    for (final long x : VALUES) {
+      for (final long y : VALUES) {
+        final long expected = unsigned(x).multiply(unsigned(y)).shiftRight(Long.SIZE).longValue();
+        assertEquals(LongPairArithmetic.unsignedMultiplyHigh(x, y), expected);
+        assertEquals(LongPairArithmetic.unsignedMultiplyHighPortable(x, y), expected);
+      }
+    }
+  }
+
+  @Test public void testMultiplyAndAdd() {
+    for (final long xMost : VALUES) {
+      for (final long xLeast : VALUES) {
+        final long yMost = ~xLeast;
+        final long yLeast = xMost ^ 0x5851F42D4C957F2DL;
+        final BigInteger product = pair(xMost, xLeast).multiply(pair(yMost, yLeast));
+        assertEquals(LongPairArithmetic.multiplyMost(xMost, xLeast, yMost, yLeast), most(product));
+        assertEquals(
+            LongPairArithmetic.multiplyAndAddMost(xMost, xLeast, yMost, yLeast, xLeast, -xMost),
+            most(product.add(pair(xLeast, -xMost))));
+      }
+    }
+  }
+
+  @Test public void testAdd() {
+    for (final long xMost : VALUES) {
+      for (final long xLeast : VALUES) {
+        for (final long delta : VALUES) {
+          assertEquals(LongPairArithmetic.addMost(xMost, xLeast, delta),
+              most(pair(xMost, xLeast).add(BigInteger.valueOf(delta))));
+          assertEquals(LongPairArithmetic.addMost(xMost, xLeast, delta, ~delta),
+              most(pair(xMost, xLeast).add(pair(delta, ~delta))));
+        }
+      }
+    }
+  }
+}